@@ -0,0 +1,76 @@
+package com.example.maxintegersolver.domain.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link BatchKernel} solving as many operations at a time as there are {@code long} lanes in the
+ * preferred vector shape of the CPU, with the incubating Vector API of Java 17.
+ *
+ * <p>CPUs have no vector instruction for {@code long} division, so the quotient {@code n / x} is
+ * estimated with {@code double} division. While {@code x} and {@code n} are below 2<sup>52</sup> they
+ * are converted exactly by placing their bits in the mantissa of 2<sup>52</sup>, which only needs
+ * bitwise operations, and the rounded quotient is either the true one or exceeds it by one, so a single
+ * correction of the remainder makes it exact. The rest of the formula runs on {@code long} lanes with the
+ * same wrap-around as the scalar kernel. Vectors holding larger values, and the tail of the range, are
+ * solved by the scalar kernel.</p>
+ *
+ * <p>This class is compiled for Java 17 apart from the rest of the application and is only loaded
+ * reflectively when the {@code jdk.incubator.vector} module is present; see
+ * {@code com.example.maxintegersolver.config.VectorKernels}.</p>
+ */
+public final class VectorBatchKernel implements BatchKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * The bound below which values are converted exactly, 2<sup>52</sup>.
+     */
+    private static final long EXACT_LIMIT = 1L << 52;
+
+    /**
+     * The bits of the {@code double} 2<sup>52</sup>, whose mantissa holds any value below it.
+     */
+    private static final long EXPONENT_BITS = Double.doubleToRawLongBits(EXACT_LIMIT);
+
+    @Override
+    public void solve(long[] x, long[] y, long[] n, long[] out, int from, int to) {
+        int i = from;
+        int upperBound = from + LONGS.loopBound(to - from);
+        for (; i < upperBound; i += LONGS.length()) {
+            LongVector vx = LongVector.fromArray(LONGS, x, i);
+            LongVector vn = LongVector.fromArray(LONGS, n, i);
+            if (vx.or(vn).compare(VectorOperators.GE, EXACT_LIMIT).anyTrue()) {
+                ScalarBatchKernel.INSTANCE.solve(x, y, n, out, i, i + LONGS.length());
+                continue;
+            }
+            LongVector vy = LongVector.fromArray(LONGS, y, i);
+
+            DoubleVector quotient = toDoubles(vn).div(toDoubles(vx));
+            LongVector remainder = vn.sub(toLongs(quotient).mul(vx));
+            remainder = remainder.add(vx, remainder.compare(VectorOperators.LT, 0));
+
+            LongVector maxK = vn.sub(remainder).add(vy);
+            VectorMask<Long> overshoot = maxK.compare(VectorOperators.GT, vn);
+            maxK.sub(vx, overshoot).intoArray(out, i);
+        }
+        ScalarBatchKernel.INSTANCE.solve(x, y, n, out, i, to);
+    }
+
+    /**
+     * Converts lanes between 0 and 2<sup>52</sup> to {@code double} exactly.
+     */
+    private static DoubleVector toDoubles(LongVector values) {
+        return values.or(EXPONENT_BITS).reinterpretAsDoubles().sub(EXACT_LIMIT);
+    }
+
+    /**
+     * Rounds lanes between 0 and 2<sup>52</sup> to the nearest {@code long}.
+     */
+    private static LongVector toLongs(DoubleVector values) {
+        return values.add(EXACT_LIMIT).reinterpretAsLongs().sub(EXPONENT_BITS);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.maxintegersolver.adapter.columnar;
+
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for {@link ColumnarOperationAdapter}, comparable with {@code OperationH2AdapterBenchmark}.
+ * The store is preloaded with {@code rows} operations once per trial. Writes are measured as batches
+ * into a fresh store for each invocation, so the store does not grow with the duration of the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ColumnarOperationAdapterBenchmark {
+
+    private static final int SEGMENT_ROWS = 1 << 16;
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private ColumnarOperationAdapter adapter;
+    private ColumnarOperationAdapter empty;
+    private List<OperationDomain> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        batch = new ArrayList<>(rows);
+        for (long i = 1; i <= rows; i++) {
+            batch.add(new OperationDomain(7L, 5L, i * 13, i * 11));
+        }
+        adapter = new ColumnarOperationAdapter(SEGMENT_ROWS);
+        adapter.saveAll(batch);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpEmpty() {
+        empty = new ColumnarOperationAdapter(SEGMENT_ROWS);
+    }
+
+    @Benchmark
+    public List<OperationDomain> saveAll() {
+        return empty.saveAll(batch);
+    }
+
+    @Benchmark
+    public List<OperationDomain> getAll() {
+        return adapter.getAll();
+    }
+
+    @Benchmark
+    public OperationPage getPage() {
+        return adapter.getPage((long) rows / 2, 100);
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        adapter.forEach(blackhole::consume);
+    }
+}
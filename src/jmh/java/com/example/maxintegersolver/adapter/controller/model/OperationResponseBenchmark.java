@@ -0,0 +1,66 @@
+package com.example.maxintegersolver.adapter.controller.model;
+
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the serialization of {@link OperationResponse}, both for the single result
+ * returned by the calculation endpoint and for the list returned by the results endpoint, with
+ * Jackson and with the pre-encoded {@link OperationResponseWriter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OperationResponseBenchmark {
+
+    @Param({"100"})
+    private int listSize;
+
+    private ObjectWriter writer;
+    private List<OperationDomain> results;
+    private ByteArrayOutputStream output;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().writerFor(OperationResponse.class);
+        results = new ArrayList<>(listSize);
+        for (long i = 1; i <= listSize; i++) {
+            results.add(new OperationDomain(7L, 5L, i * 13, i * 11));
+        }
+        output = new ByteArrayOutputStream(listSize * 64);
+    }
+
+    @Benchmark
+    public byte[] serializeCalculation() throws Exception {
+        OperationDomain result = OperationDomain.builder().result(12339L).build();
+        return writer.writeValueAsBytes(OperationResponse.of(result, HttpStatus.CREATED));
+    }
+
+    @Benchmark
+    public byte[] serializeResults() throws Exception {
+        return writer.writeValueAsBytes(OperationResponse.of(results, HttpStatus.OK));
+    }
+
+    @Benchmark
+    public int writeCalculation() throws Exception {
+        output.reset();
+        OperationDomain result = OperationDomain.builder().result(12339L).build();
+        OperationResponseWriter.write(OperationResponse.of(result, HttpStatus.CREATED), output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int writeResults() throws Exception {
+        output.reset();
+        OperationResponseWriter.write(OperationResponse.of(results, HttpStatus.OK), output);
+        return output.size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.maxintegersolver.adapter.h2;
+
+import com.example.maxintegersolver.MaxIntegerSolverApplication;
+import com.example.maxintegersolver.domain.OperationDomain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for {@link OperationH2Adapter} against an embedded, in-memory H2 database.
+ * The application context is started without the web server once per trial, and the table
+ * is preloaded with {@code rows} operations so {@code getAll} measures a realistic scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OperationH2AdapterBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private OperationH2Adapter adapter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MaxIntegerSolverApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "DATABASE_URL=jdbc:h2:mem:benchmark-" + rows + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "DATABASE_USER=sa",
+                        "DATABASE_PASSWORD=",
+                        "logging.level.root=WARN")
+                .run();
+        adapter = context.getBean(OperationH2Adapter.class);
+
+        List<OperationDomain> preload = new ArrayList<>(rows);
+        for (long i = 1; i <= rows; i++) {
+            preload.add(new OperationDomain(7L, 5L, i * 13, i * 11));
+        }
+        adapter.saveAll(preload);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OperationDomain save() {
+        return adapter.save(new OperationDomain(7L, 5L, 12345L, 12339L));
+    }
+
+    @Benchmark
+    public List<OperationDomain> getAll() {
+        return adapter.getAll();
+    }
+}
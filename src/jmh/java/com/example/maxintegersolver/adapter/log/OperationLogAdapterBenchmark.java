@@ -0,0 +1,71 @@
+package com.example.maxintegersolver.adapter.log;
+
+import com.example.maxintegersolver.domain.OperationDomain;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * JMH benchmarks for {@link OperationLogAdapter}, comparable with {@code OperationH2AdapterBenchmark}.
+ * Every iteration starts with a new log in a temporary directory preloaded with {@code rows} operations,
+ * which is deleted afterwards. Iterations last one second, so the appended segments stay small.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(time = 1)
+@Measurement(time = 1)
+public class OperationLogAdapterBenchmark {
+
+    private static final int SEGMENT_RECORDS = 1 << 20;
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    @Param({"ALWAYS", "INTERVAL", "NONE"})
+    private FsyncPolicy fsyncPolicy;
+
+    private Path directory;
+    private OperationLogAdapter adapter;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("operation-log-benchmark");
+        adapter = new OperationLogAdapter(directory, SEGMENT_RECORDS, fsyncPolicy, Duration.ofMillis(10));
+        adapter.start();
+
+        List<OperationDomain> preload = new ArrayList<>(rows);
+        for (long i = 1; i <= rows; i++) {
+            preload.add(new OperationDomain(7L, 5L, i * 13, i * 11));
+        }
+        adapter.saveAll(preload);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        adapter.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public OperationDomain save() {
+        return adapter.save(new OperationDomain(7L, 5L, 12345L, 12339L));
+    }
+
+    @Benchmark
+    public List<OperationDomain> getAll() {
+        return adapter.getAll();
+    }
+}
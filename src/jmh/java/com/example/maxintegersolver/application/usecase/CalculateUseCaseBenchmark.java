@@ -0,0 +1,78 @@
+package com.example.maxintegersolver.application.usecase;
+
+import com.example.maxintegersolver.adapter.cache.NoOpOperationResultCache;
+import com.example.maxintegersolver.adapter.cache.OperationCaffeineCache;
+import com.example.maxintegersolver.adapter.statistics.StripedOperationStatisticsRecorder;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.service.BatchKernel;
+import com.example.maxintegersolver.domain.service.OperationService;
+import com.example.maxintegersolver.domain.service.ParallelBatchExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for {@link CalculateUseCase} backed by an in-memory repository.
+ * They isolate the orchestration cost of the use case (conversions, logging, the
+ * repository call and the statistics) from the database, with and without the result cache. The cached
+ * benchmark draws its operations from a small set so most of them are hits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CalculateUseCaseBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int DISTINCT_OPERATIONS = 1000;
+
+    private CalculateUseCase useCase;
+    private CalculateUseCase cachedUseCase;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        useCase = new CalculateUseCase(new OperationService(ParallelBatchExecutor.sequential(), BatchKernel.scalar()), new InMemoryOperationStorageRepository(), new NoOpOperationResultCache(),
+                new StripedOperationStatisticsRecorder(1024, 60, Clock.systemUTC()));
+        cachedUseCase = new CalculateUseCase(new OperationService(ParallelBatchExecutor.sequential(), BatchKernel.scalar()), new InMemoryOperationStorageRepository(),
+                new OperationCaffeineCache(10_000, null, false), new StripedOperationStatisticsRecorder(1024, 60, Clock.systemUTC()));
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public OperationDomain calculate() {
+        return useCase.calculate(nextOperation());
+    }
+
+    @Benchmark
+    public OperationDomain calculateCached() {
+        long x = random.nextInt(1, DISTINCT_OPERATIONS + 1);
+        return cachedUseCase.calculate(OperationDomain.builder()
+                .x(x)
+                .y(x - 1)
+                .n(1_000_000L)
+                .build());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<OperationDomain> calculateBatch() {
+        List<OperationDomain> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(nextOperation());
+        }
+        return useCase.calculateBatch(batch);
+    }
+
+    private OperationDomain nextOperation() {
+        long x = random.nextInt(1, Integer.MAX_VALUE);
+        return OperationDomain.builder()
+                .x(x)
+                .y(random.nextLong(x))
+                .n((long) random.nextInt(Integer.MAX_VALUE))
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.maxintegersolver.application.usecase;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Minimal in-memory {@link OperationStorageRepository} used by the benchmarks to measure the
+ * use cases without the cost of a database. Stored operations are kept in a list that is
+ * cleared once it reaches a fixed size, so long benchmark runs do not exhaust the heap.
+ */
+class InMemoryOperationStorageRepository implements OperationStorageRepository {
+
+    private static final int MAX_SIZE = 1 << 16;
+
+    private final List<OperationDomain> operations = new ArrayList<>(MAX_SIZE);
+
+    @Override
+    public OperationDomain save(OperationDomain domain) {
+        if (operations.size() == MAX_SIZE) {
+            operations.clear();
+        }
+        operations.add(domain);
+        return domain;
+    }
+
+    @Override
+    public List<OperationDomain> saveAll(List<OperationDomain> domains) {
+        for (OperationDomain domain : domains) {
+            save(domain);
+        }
+        return domains;
+    }
+
+    @Override
+    public List<OperationDomain> getAll() {
+        return new ArrayList<>(operations);
+    }
+
+    @Override
+    public OperationPage getPage(Long afterId, int limit) {
+        int from = afterId == null ? 0 : (int) Math.min(afterId, operations.size());
+        int to = Math.min(from + limit, operations.size());
+        return new OperationPage(new ArrayList<>(operations.subList(from, to)), to < operations.size() ? (long) to : null);
+    }
+
+    @Override
+    public void forEach(Consumer<OperationDomain> consumer) {
+        operations.forEach(consumer);
+    }
+
+    @Override
+    public List<OperationDomain> find(OperationQuery query) {
+        OperationQuery.Selection selection = query.select();
+        for (int i = 0; i < operations.size() && !selection.isComplete(); i++) {
+            OperationDomain domain = operations.get(query.isNewestFirst() ? operations.size() - 1 - i : i);
+            if (query.matches(domain.getX(), domain.getY(), domain.getN(), domain.getResult())) {
+                selection.offer(domain);
+            }
+        }
+        return selection.toList();
+    }
+
+    @Override
+    public long count() {
+        return operations.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.maxintegersolver.domain.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the implementations of {@link BatchKernel}.
+ * They solve the same pseudo-random batch with every kernel, so the throughput per core of each one can be
+ * compared, for batches with a single modulus, a few moduli and mostly distinct moduli. The vector kernel
+ * is loaded reflectively, like in the application.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BatchKernelBenchmark {
+
+    private static final int SIZE = 4096;
+
+    @Param({"1", "8", "4096"})
+    private int moduli;
+
+    private final long[] x = new long[SIZE];
+    private final long[] y = new long[SIZE];
+    private final long[] n = new long[SIZE];
+    private final long[] out = new long[SIZE];
+
+    private BatchKernel scalarKernel;
+    private BatchKernel vectorKernel;
+    private BatchKernel reciprocalKernel;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        scalarKernel = BatchKernel.scalar();
+        reciprocalKernel = BatchKernel.reciprocal();
+        vectorKernel = (BatchKernel) Class.forName("com.example.maxintegersolver.domain.service.VectorBatchKernel")
+                .getConstructor().newInstance();
+
+        SplittableRandom random = new SplittableRandom(42);
+        long[] distinct = new long[moduli];
+        for (int i = 0; i < moduli; i++) {
+            distinct[i] = random.nextInt(1, Integer.MAX_VALUE);
+        }
+        for (int i = 0; i < SIZE; i++) {
+            x[i] = distinct[random.nextInt(moduli)];
+            y[i] = random.nextLong(x[i]);
+            n[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] scalar() {
+        scalarKernel.solve(x, y, n, out, 0, SIZE);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] vector() {
+        vectorKernel.solve(x, y, n, out, 0, SIZE);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] reciprocal() {
+        reciprocalKernel.solve(x, y, n, out, 0, SIZE);
+        return out;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.maxintegersolver.domain.service;
+
+import com.example.maxintegersolver.domain.OperationDomain;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for {@link OperationService}.
+ * They measure the domain-based, the primitive and the bulk variants of the calculation
+ * over the same pseudo-random inputs, so the cost of each entry point can be compared.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OperationServiceBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final OperationService service = new OperationService(ParallelBatchExecutor.sequential(), BatchKernel.scalar());
+
+    private final long[] x = new long[SIZE];
+    private final long[] y = new long[SIZE];
+    private final long[] n = new long[SIZE];
+    private final long[] out = new long[SIZE];
+    private final OperationDomain[] domains = new OperationDomain[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SIZE; i++) {
+            x[i] = random.nextInt(1, Integer.MAX_VALUE);
+            y[i] = random.nextLong(x[i]);
+            n[i] = random.nextInt(Integer.MAX_VALUE);
+            domains[i] = OperationDomain.builder().x(x[i]).y(y[i]).n(n[i]).build();
+        }
+    }
+
+    @Benchmark
+    public Long calculateMaxKDomain() {
+        index = (index + 1) & (SIZE - 1);
+        return service.calculateMaxK(domains[index]);
+    }
+
+    @Benchmark
+    public long calculateMaxKPrimitive() {
+        index = (index + 1) & (SIZE - 1);
+        return service.calculateMaxK(x[index], y[index], n[index]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] calculateMaxKBulk() {
+        service.calculateMaxK(x, y, n, out);
+        return out;
+    }
+}
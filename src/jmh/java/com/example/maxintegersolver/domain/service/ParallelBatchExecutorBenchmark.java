@@ -0,0 +1,67 @@
+package com.example.maxintegersolver.domain.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for {@link ParallelBatchExecutor}.
+ * They solve batches of increasing length sequentially and in a fork-join pool with one worker per
+ * processor, with no threshold, so the length from which the parallel variant is faster can be read
+ * from the results and used as {@code operation.parallel-batch.threshold}. The lengths up to 10000
+ * cover the batches accepted by the API, since longer batches are rejected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelBatchExecutorBenchmark {
+
+    @Param({"1024", "2048", "4096", "8192", "10000", "65536", "1048576"})
+    private int size;
+
+    private ForkJoinPool pool;
+    private OperationService sequentialService;
+    private OperationService parallelService;
+
+    private long[] x;
+    private long[] y;
+    private long[] n;
+    private long[] out;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        sequentialService = new OperationService(ParallelBatchExecutor.sequential(), BatchKernel.scalar());
+        parallelService = new OperationService(new ParallelBatchExecutor(pool, 0), BatchKernel.scalar());
+
+        SplittableRandom random = new SplittableRandom(42);
+        x = new long[size];
+        y = new long[size];
+        n = new long[size];
+        out = new long[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = random.nextInt(1, Integer.MAX_VALUE);
+            y[i] = random.nextLong(x[i]);
+            n[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long[] sequential() {
+        sequentialService.calculateMaxK(x, y, n, out);
+        return out;
+    }
+
+    @Benchmark
+    public long[] parallel() {
+        parallelService.calculateMaxK(x, y, n, out);
+        return out;
+    }
+}
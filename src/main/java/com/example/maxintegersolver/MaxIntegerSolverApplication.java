@@ -1,11 +1,13 @@
 package com.example.maxintegersolver;
 
+import com.example.maxintegersolver.adapter.cli.BulkSolveRunner;
 import com.example.maxintegersolver.config.exception.LoadAppException;
 import com.example.maxintegersolver.config.exception.SPError;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import io.github.cdimascio.dotenv.Dotenv;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 @EnableConfigurationProperties
@@ -19,6 +21,9 @@ public class MaxIntegerSolverApplication {
             throw new LoadAppException(SPError.APP_LOAD_ERROR.getErrorCode(), SPError.APP_LOAD_ERROR.getErrorMessage(), e);
         }
 
-        SpringApplication.run(MaxIntegerSolverApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(MaxIntegerSolverApplication.class, args);
+        if (!context.getBeansOfType(BulkSolveRunner.class).isEmpty()) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
@@ -0,0 +1,27 @@
+package com.example.maxintegersolver.adapter.cache;
+
+import com.example.maxintegersolver.application.port.out.OperationResultCache;
+
+import java.util.OptionalLong;
+
+/**
+ * Adapter class implementing the {@link OperationResultCache} port when caching is disabled.
+ * Nothing is ever cached, so every operation is calculated and persisted.
+ */
+public class NoOpOperationResultCache implements OperationResultCache {
+
+    @Override
+    public OptionalLong get(long x, long y, long n) {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public void put(long x, long y, long n, long result) {
+        // Nothing is cached when the cache is disabled.
+    }
+
+    @Override
+    public boolean persistHits() {
+        return true;
+    }
+}
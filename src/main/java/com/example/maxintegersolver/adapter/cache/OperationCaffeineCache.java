@@ -0,0 +1,63 @@
+package com.example.maxintegersolver.adapter.cache;
+
+import com.example.maxintegersolver.application.port.out.OperationResultCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Adapter class implementing the {@link OperationResultCache} port on top of a Caffeine cache.
+ * Caffeine provides a bounded, concurrent map with W-TinyLFU eviction, so frequently repeated
+ * operations stay cached while one-off operations are evicted first. Statistics are recorded
+ * so hits, misses and evictions can be published as metrics.
+ */
+public class OperationCaffeineCache implements OperationResultCache {
+
+    private final Cache<OperationKey, Long> cache;
+    private final boolean persistHits;
+
+    /**
+     * Creates the adapter with a new bounded Caffeine cache.
+     *
+     * @param maximumSize       The maximum number of cached results.
+     * @param expireAfterAccess The time after which an unused result expires, or {@code null} to never expire.
+     * @param persistHits       Whether operations answered from the cache must still be persisted.
+     */
+    public OperationCaffeineCache(long maximumSize, Duration expireAfterAccess, boolean persistHits) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats();
+        if (expireAfterAccess != null) {
+            builder.expireAfterAccess(expireAfterAccess);
+        }
+        this.cache = builder.build();
+        this.persistHits = persistHits;
+    }
+
+    @Override
+    public OptionalLong get(long x, long y, long n) {
+        Long result = cache.getIfPresent(new OperationKey(x, y, n));
+        return result == null ? OptionalLong.empty() : OptionalLong.of(result);
+    }
+
+    @Override
+    public void put(long x, long y, long n, long result) {
+        cache.put(new OperationKey(x, y, n), result);
+    }
+
+    @Override
+    public boolean persistHits() {
+        return persistHits;
+    }
+
+    /**
+     * Returns the underlying Caffeine cache, used to publish its statistics.
+     *
+     * @return The Caffeine cache.
+     */
+    public Cache<?, ?> getNativeCache() {
+        return cache;
+    }
+}
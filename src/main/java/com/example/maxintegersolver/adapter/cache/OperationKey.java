@@ -0,0 +1,42 @@
+package com.example.maxintegersolver.adapter.cache;
+
+/**
+ * Immutable key of the operation result cache, made of the parameters x, y and n of an operation.
+ * The hash code is computed once, since every lookup needs it.
+ */
+final class OperationKey {
+
+    private final long x;
+    private final long y;
+    private final long n;
+    private final int hash;
+
+    OperationKey(long x, long y, long n) {
+        this.x = x;
+        this.y = y;
+        this.n = n;
+        this.hash = 31 * (31 * Long.hashCode(x) + Long.hashCode(y)) + Long.hashCode(n);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof OperationKey)) {
+            return false;
+        }
+        OperationKey key = (OperationKey) other;
+        return x == key.x && y == key.y && n == key.n;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationKey(x=" + x + ", y=" + y + ", n=" + n + ")";
+    }
+}
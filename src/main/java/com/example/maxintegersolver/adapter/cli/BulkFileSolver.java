@@ -0,0 +1,150 @@
+package com.example.maxintegersolver.adapter.cli;
+
+import com.example.maxintegersolver.application.port.in.OperationBulkSolverPort;
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Solves the operations of a file through the {@link OperationBulkSolverPort} and writes their
+ * results to another file, both of them memory-mapped.
+ *
+ * <p>The input is split into regions of about {@code chunkSize} bytes holding whole rows. Regions are
+ * mapped, decoded, solved, optionally loaded into the storage and encoded in parallel, and their outputs
+ * are written in input order into the mapped output file. At most twice as many regions as worker
+ * threads are in flight, so memory usage does not depend on the size of the input.</p>
+ */
+public class BulkFileSolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkFileSolver.class);
+
+    private static final String THREAD_PREFIX = "operation-bulk-";
+
+    private final OperationBulkSolverPort solverPort;
+    private final int chunkSize;
+    private final int parallelism;
+    private final boolean load;
+
+    /**
+     * Creates a bulk solver.
+     *
+     * @param solverPort  Port for solving and loading the operations.
+     * @param chunkSize   The approximate size in bytes of the regions of the input solved as a unit.
+     * @param parallelism The number of worker threads.
+     * @param load        Whether the solved operations are loaded into the storage.
+     */
+    public BulkFileSolver(OperationBulkSolverPort solverPort, int chunkSize, int parallelism, boolean load) {
+        this.solverPort = solverPort;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.load = load;
+    }
+
+    /**
+     * Solves every operation of the input file and writes the results to the output file, replacing it.
+     *
+     * @param input  The file with the operations.
+     * @param output The file receiving the results, in the same order.
+     * @param format The format of both files.
+     * @return The number of operations solved.
+     * @throws IOException If a file cannot be read or written.
+     * @throws CustomException If the input is malformed or has an invalid operation.
+     */
+    public long solve(Path input, Path output, BulkFormat format) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, daemonThreadFactory());
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            List<long[]> regions = format.split(in, chunkSize);
+            logger.info("Solving {} bytes of {} in {} regions with {} threads", in.size(), input, regions.size(), parallelism);
+
+            Deque<Future<OperationChunk>> pending = new ArrayDeque<>();
+            int next = 0;
+            long position = 0;
+            long operations = 0;
+            while (next < regions.size() || !pending.isEmpty()) {
+                while (next < regions.size() && pending.size() < 2 * parallelism) {
+                    long[] region = regions.get(next++);
+                    pending.add(executor.submit(() -> process(in, region[0], region[1], format)));
+                }
+                OperationChunk chunk = await(pending.poll());
+                MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE, position, chunk.encoded.length);
+                target.put(chunk.encoded);
+                position += chunk.encoded.length;
+                operations += chunk.size;
+            }
+            return operations;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Decodes, solves, optionally loads and encodes the operations of a region of the input.
+     */
+    private OperationChunk process(FileChannel in, long start, long end, BulkFormat format) throws IOException {
+        OperationChunk chunk = format.decode(in.map(FileChannel.MapMode.READ_ONLY, start, end - start), start);
+        chunk.results = new long[chunk.size];
+        try {
+            solverPort.solve(chunk.x, chunk.y, chunk.n, chunk.results, chunk.size);
+        } catch (StacklessCustomException e) {
+            int invalid = chunk.firstInvalid();
+            throw new CustomException(SPError.OPERATION_BULK_ERROR.getErrorCode(), "Invalid operation x=" + chunk.x[invalid]
+                    + ", y=" + chunk.y[invalid] + ", n=" + chunk.n[invalid] + " in the region starting at byte " + start);
+        }
+        if (load) {
+            solverPort.load(chunk.x, chunk.y, chunk.n, chunk.results, chunk.size);
+        }
+        chunk.encoded = format.encode(chunk);
+        chunk.release();
+        return chunk;
+    }
+
+    private static OperationChunk await(Future<OperationChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(SPError.OPERATION_BULK_ERROR.getErrorCode(), "Interrupted while solving the input", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new CustomException(SPError.OPERATION_BULK_ERROR.getErrorCode(), SPError.OPERATION_BULK_ERROR.getErrorMessage(), cause);
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
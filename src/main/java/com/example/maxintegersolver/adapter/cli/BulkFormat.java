@@ -0,0 +1,324 @@
+package com.example.maxintegersolver.adapter.cli;
+
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * File formats supported by the bulk solver.
+ *
+ * <p>Each format splits an input file into regions that can be decoded independently, decodes the
+ * operations of a region and encodes their results.</p>
+ */
+public enum BulkFormat {
+
+    /**
+     * Text rows {@code x,y,n} separated by line breaks, with an optional header line. Blank lines
+     * are skipped and spaces around the values are ignored. The output has a header followed by
+     * a row {@code x,y,n,result} per operation.
+     */
+    CSV {
+        @Override
+        List<long[]> split(FileChannel input, int chunkSize) throws IOException {
+            long size = input.size();
+            List<long[]> regions = new ArrayList<>();
+            long start = 0;
+            while (start < size) {
+                long end = start + chunkSize >= size ? size : nextLine(input, start + chunkSize);
+                regions.add(new long[]{start, end});
+                start = end;
+            }
+            return regions;
+        }
+
+        @Override
+        OperationChunk decode(ByteBuffer region, long start) {
+            OperationChunk chunk = new OperationChunk(start, region.remaining() / 16);
+            CsvReader reader = new CsvReader(region, start);
+            if (start == 0) {
+                reader.skipHeader();
+            }
+            while (reader.nextRow()) {
+                chunk.add(reader.readValue(true), reader.readValue(true), reader.readValue(false));
+            }
+            return chunk;
+        }
+
+        @Override
+        byte[] encode(OperationChunk chunk) {
+            CsvWriter writer = new CsvWriter(chunk.size * 24 + (chunk.start == 0 ? CSV_HEADER.length : 0));
+            if (chunk.start == 0) {
+                writer.write(CSV_HEADER);
+            }
+            for (int i = 0; i < chunk.size; i++) {
+                writer.write(chunk.x[i]);
+                writer.write(',');
+                writer.write(chunk.y[i]);
+                writer.write(',');
+                writer.write(chunk.n[i]);
+                writer.write(',');
+                writer.write(chunk.results[i]);
+                writer.write('\n');
+            }
+            return writer.toByteArray();
+        }
+    },
+
+    /**
+     * Fixed-width rows of three little-endian 64-bit integers {@code x, y, n}, the same triples as
+     * the binary endpoint of the REST API. The output has a little-endian 64-bit result per operation.
+     */
+    BINARY {
+        @Override
+        List<long[]> split(FileChannel input, int chunkSize) throws IOException {
+            long size = input.size();
+            if (size % ROW_SIZE != 0) {
+                throw new CustomException(SPError.OPERATION_BULK_ERROR.getErrorCode(),
+                        "The size of the binary input, " + size + " bytes, is not a multiple of " + ROW_SIZE);
+            }
+            long regionSize = Math.max(ROW_SIZE, chunkSize - chunkSize % ROW_SIZE);
+            List<long[]> regions = new ArrayList<>();
+            for (long start = 0; start < size; start += regionSize) {
+                regions.add(new long[]{start, Math.min(size, start + regionSize)});
+            }
+            return regions;
+        }
+
+        @Override
+        OperationChunk decode(ByteBuffer region, long start) {
+            ByteBuffer buffer = region.order(ByteOrder.LITTLE_ENDIAN);
+            OperationChunk chunk = new OperationChunk(start, buffer.remaining() / ROW_SIZE);
+            while (buffer.hasRemaining()) {
+                chunk.add(buffer.getLong(), buffer.getLong(), buffer.getLong());
+            }
+            return chunk;
+        }
+
+        @Override
+        byte[] encode(OperationChunk chunk) {
+            byte[] encoded = new byte[chunk.size * Long.BYTES];
+            ByteBuffer.wrap(encoded).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().put(chunk.results, 0, chunk.size);
+            return encoded;
+        }
+    };
+
+    private static final int ROW_SIZE = 3 * Long.BYTES;
+    private static final byte[] CSV_HEADER = "x,y,n,result\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int SCAN_SIZE = 4096;
+
+    /**
+     * Splits the input into contiguous regions of about {@code chunkSize} bytes that hold whole rows.
+     *
+     * @return The {@code [start, end)} offsets of every region, in file order.
+     */
+    abstract List<long[]> split(FileChannel input, int chunkSize) throws IOException;
+
+    /**
+     * Decodes the operations of a region of the input.
+     *
+     * @param region The bytes of the region.
+     * @param start  The offset of the region in the input, used to report malformed rows.
+     */
+    abstract OperationChunk decode(ByteBuffer region, long start);
+
+    /**
+     * Encodes the results of a solved chunk.
+     */
+    abstract byte[] encode(OperationChunk chunk);
+
+    /**
+     * Returns the offset after the first line break at or after the given offset, or the end of the input.
+     */
+    private static long nextLine(FileChannel input, long from) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_SIZE);
+        long position = from;
+        while (true) {
+            buffer.clear();
+            int read = input.read(buffer, position);
+            if (read <= 0) {
+                return input.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private static CustomException malformed(long offset) {
+        return new CustomException(SPError.OPERATION_BULK_ERROR.getErrorCode(), "Malformed CSV row at byte " + offset);
+    }
+
+    /**
+     * Reads the values of the rows of a CSV region in place.
+     */
+    private static final class CsvReader {
+
+        private final ByteBuffer region;
+        private final long start;
+        private final int limit;
+        private int position;
+
+        CsvReader(ByteBuffer region, long start) {
+            this.region = region;
+            this.start = start;
+            this.position = region.position();
+            this.limit = region.limit();
+        }
+
+        /**
+         * Skips the first line when it does not start with a number.
+         */
+        void skipHeader() {
+            skipSpaces();
+            if (position < limit) {
+                byte first = region.get(position);
+                if (first != '-' && (first < '0' || first > '9')) {
+                    while (position < limit && region.get(position++) != '\n') {
+                        // Skip the header line.
+                    }
+                }
+            }
+        }
+
+        /**
+         * Moves to the next row that is not blank.
+         *
+         * @return false when there are no more rows.
+         */
+        boolean nextRow() {
+            while (position < limit) {
+                byte current = region.get(position);
+                if (current != '\n' && current != '\r' && current != ' ' && current != '\t') {
+                    return true;
+                }
+                position++;
+            }
+            return false;
+        }
+
+        /**
+         * Reads a value followed by a comma, or by the end of the row when it is the last value.
+         */
+        long readValue(boolean followedByComma) {
+            skipSpaces();
+            boolean negative = position < limit && region.get(position) == '-';
+            if (negative) {
+                position++;
+            }
+            int digitsStart = position;
+            long value = 0;
+            while (position < limit) {
+                int digit = region.get(position) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (value > (Long.MAX_VALUE - digit) / 10) {
+                    throw malformed(start + position);
+                }
+                value = value * 10 + digit;
+                position++;
+            }
+            if (position == digitsStart) {
+                throw malformed(start + position);
+            }
+            skipSpaces();
+            if (followedByComma) {
+                if (position >= limit || region.get(position) != ',') {
+                    throw malformed(start + position);
+                }
+                position++;
+            } else if (position < limit) {
+                byte end = region.get(position);
+                if (end == '\r') {
+                    position++;
+                } else if (end != '\n') {
+                    throw malformed(start + position);
+                }
+            }
+            return negative ? -value : value;
+        }
+
+        private void skipSpaces() {
+            while (position < limit) {
+                byte current = region.get(position);
+                if (current != ' ' && current != '\t') {
+                    return;
+                }
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Growable byte array receiving the rows of a CSV output.
+     */
+    private static final class CsvWriter {
+
+        private byte[] bytes;
+        private int size;
+
+        CsvWriter(int capacity) {
+            this.bytes = new byte[Math.max(capacity, 64)];
+        }
+
+        void write(int value) {
+            ensure(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void write(byte[] value) {
+            ensure(value.length);
+            System.arraycopy(value, 0, bytes, size, value.length);
+            size += value.length;
+        }
+
+        void write(long value) {
+            if (value == Long.MIN_VALUE) {
+                write(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            ensure(20);
+            long remaining = value;
+            if (remaining < 0) {
+                bytes[size++] = '-';
+                remaining = -remaining;
+            }
+            int end = size + digits(remaining);
+            for (int i = end - 1; i >= size; i--) {
+                bytes[i] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+            size = end;
+        }
+
+        byte[] toByteArray() {
+            return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+        }
+
+        private void ensure(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+
+        private static int digits(long value) {
+            int digits = 1;
+            while (value >= 10) {
+                value /= 10;
+                digits++;
+            }
+            return digits;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.maxintegersolver.adapter.cli;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command-line entry point of the bulk solver. It solves a single input file with the
+ * {@link BulkFileSolver} once the application has started, and the application exits afterwards.
+ */
+public class BulkSolveRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkSolveRunner.class);
+
+    private final BulkFileSolver solver;
+    private final Path input;
+    private final Path output;
+    private final BulkFormat format;
+
+    /**
+     * Creates the runner of a bulk solving job.
+     *
+     * @param solver The solver of the file.
+     * @param input  The file with the operations.
+     * @param output The file receiving the results.
+     * @param format The format of both files.
+     */
+    public BulkSolveRunner(BulkFileSolver solver, Path input, Path output, BulkFormat format) {
+        this.solver = solver;
+        this.input = input;
+        this.output = output;
+        this.format = format;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        logger.info("Solving {} file {} into {}", format, input, output);
+        long started = System.nanoTime();
+        long operations = solver.solve(input, output, format);
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        logger.info("Solved {} operations in {} ms ({} MB/s of input)", operations, elapsedMillis,
+                Files.size(input) / 1000 / elapsedMillis);
+    }
+}
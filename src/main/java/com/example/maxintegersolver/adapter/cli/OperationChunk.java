@@ -0,0 +1,65 @@
+package com.example.maxintegersolver.adapter.cli;
+
+import java.util.Arrays;
+
+/**
+ * The operations read from a contiguous region of an input file, as primitive columns, along with
+ * their results and the encoded output once they are solved.
+ */
+final class OperationChunk {
+
+    /**
+     * The offset in the input file of the first byte of the region.
+     */
+    final long start;
+
+    long[] x;
+    long[] y;
+    long[] n;
+    long[] results;
+    int size;
+    byte[] encoded;
+
+    OperationChunk(long start, int capacity) {
+        this.start = start;
+        int initialCapacity = Math.max(capacity, 16);
+        this.x = new long[initialCapacity];
+        this.y = new long[initialCapacity];
+        this.n = new long[initialCapacity];
+    }
+
+    void add(long x, long y, long n) {
+        if (size == this.x.length) {
+            int capacity = size * 2;
+            this.x = Arrays.copyOf(this.x, capacity);
+            this.y = Arrays.copyOf(this.y, capacity);
+            this.n = Arrays.copyOf(this.n, capacity);
+        }
+        this.x[size] = x;
+        this.y[size] = y;
+        this.n[size] = n;
+        size++;
+    }
+
+    /**
+     * Returns the index of the first operation the domain service rejects, or -1 when every operation is valid.
+     */
+    int firstInvalid() {
+        for (int i = 0; i < size; i++) {
+            if (x[i] <= 0 || y[i] < 0 || n[i] < 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Releases the columns once the chunk is encoded, keeping only its output until it is written.
+     */
+    void release() {
+        x = null;
+        y = null;
+        n = null;
+        results = null;
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.maxintegersolver.adapter.columnar;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import com.example.maxintegersolver.config.exception.DataBaseException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Off-heap, append-only columnar implementation of the {@link OperationStorageRepository}.
+ *
+ * <p>Operations are stored in segments of a fixed number of rows allocated as direct {@link ByteBuffer}s,
+ * outside of the Java heap. Each segment holds four contiguous columns of 64-bit values, {@code x},
+ * {@code y}, {@code n} and {@code result}, so a stored operation costs 32 bytes and no object, and a scan
+ * reads each column sequentially. The identifier of an operation is its position in the store, starting
+ * at 1, which is also the cursor of {@link #getPage(Long, int)}.</p>
+ *
+ * <p>Writers append under a lock and publish the new number of rows once their values are written, so
+ * readers never take the lock: they read the published number of rows and then only rows below it,
+ * which are never modified again. The store lives in memory, so its content is lost on restart.</p>
+ */
+public class ColumnarOperationAdapter implements OperationStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarOperationAdapter.class);
+
+    /**
+     * The number of bytes of a row: the four 64-bit columns.
+     */
+    public static final int ROW_SIZE = 4 * Long.BYTES;
+
+    /**
+     * The largest number of rows of a segment, whose size in bytes must fit in a single buffer.
+     */
+    public static final int MAX_SEGMENT_ROWS = Integer.MAX_VALUE / ROW_SIZE;
+
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int N = 2;
+    private static final int RESULT = 3;
+
+    private final int segmentRows;
+    private final Object appendLock = new Object();
+
+    /**
+     * The columns of every allocated segment, indexed by segment and then by column. The array is
+     * replaced when a segment is added, and it is published before the rows written to the segment.
+     */
+    private volatile LongBuffer[][] segments = new LongBuffer[0][];
+
+    /**
+     * The number of rows whose values are completely written and visible to readers.
+     */
+    private volatile long size;
+
+    /**
+     * Creates an empty columnar store.
+     *
+     * @param segmentRows The number of rows of each segment.
+     */
+    public ColumnarOperationAdapter(int segmentRows) {
+        if (segmentRows <= 0 || segmentRows > MAX_SEGMENT_ROWS) {
+            throw new IllegalArgumentException("The number of rows of a segment must be between 1 and " + MAX_SEGMENT_ROWS + ": " + segmentRows);
+        }
+        this.segmentRows = segmentRows;
+    }
+
+    /**
+     * Appends an operation to the store.
+     *
+     * @param domain The operation domain object to save.
+     * @return The saved operation domain object.
+     * @throws DataBaseException if the operation cannot be stored.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public OperationDomain save(OperationDomain domain) {
+        try {
+            synchronized (appendLock) {
+                long row = size;
+                write(row, domain);
+                size = row + 1;
+            }
+            return domain;
+        } catch (Exception e) {
+            logger.error("Error saving operation: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Appends a group of operations to the store. They become visible to readers all at once.
+     *
+     * @param domains The operation domain objects to save.
+     * @return The saved operation domain objects, in the same order as the input.
+     * @throws DataBaseException if the operations cannot be stored.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public List<OperationDomain> saveAll(List<OperationDomain> domains) {
+        try {
+            synchronized (appendLock) {
+                long row = size;
+                for (OperationDomain domain : domains) {
+                    write(row++, domain);
+                }
+                size = row;
+            }
+            return domains;
+        } catch (Exception e) {
+            logger.error("Error saving operations: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves every stored operation with a sequential scan of the columns.
+     *
+     * @return A list of operation domain objects, in storage order.
+     * @throws DataBaseException if the store cannot be read.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public List<OperationDomain> getAll() {
+        try {
+            long rows = size;
+            if (rows > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Too many operations to return in a single list: " + rows);
+            }
+            List<OperationDomain> domains = new ArrayList<>((int) rows);
+            scan(0, rows, domains::add);
+            return domains;
+        } catch (Exception e) {
+            logger.error("Error retrieving operations: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves a page of operations. Since identifiers are positions, the page starts right at the
+     * row after the cursor without any search.
+     *
+     * @param afterId The identifier of the last operation of the previous page, or {@code null} for the first page.
+     * @param limit The maximum number of operations of the page.
+     * @return The page of operation domain objects and the cursor of the next page.
+     * @throws DataBaseException if the store cannot be read.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public OperationPage getPage(Long afterId, int limit) {
+        try {
+            long rows = size;
+            long from = Math.min(afterId == null ? 0L : Math.max(afterId, 0L), rows);
+            long to = Math.min(rows, from + limit);
+            if (from == to) {
+                return new OperationPage(Collections.emptyList(), null);
+            }
+            List<OperationDomain> domains = new ArrayList<>((int) (to - from));
+            scan(from, to, domains::add);
+            return new OperationPage(domains, to < rows ? to : null);
+        } catch (Exception e) {
+            logger.error("Error retrieving operations page: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Iterates over the operations stored when the iteration starts, one segment at a time.
+     *
+     * @param consumer The consumer receiving each operation domain object.
+     * @throws DataBaseException if the store cannot be read.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public void forEach(Consumer<OperationDomain> consumer) {
+        try {
+            scan(0, size, consumer);
+        } catch (Exception e) {
+            logger.error("Error streaming operations: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves the operations matching a query with a scan of the columns. The values of each row are
+     * compared without creating any object, so only the matching rows are materialized. Queries in storage
+     * order stop as soon as they have enough results, scanning from the newest row when they are descending.
+     *
+     * @param query The ranges, order and maximum number of the operations to retrieve.
+     * @return The matching operation domain objects, in the order of the query.
+     * @throws DataBaseException if the store cannot be read.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public List<OperationDomain> find(OperationQuery query) {
+        try {
+            long rows = size;
+            LongBuffer[][] current = segments;
+            boolean backwards = query.isNewestFirst();
+            OperationQuery.Selection selection = query.select();
+            for (long i = 0; i < rows && !selection.isComplete(); i++) {
+                long row = backwards ? rows - 1 - i : i;
+                LongBuffer[] columns = current[(int) (row / segmentRows)];
+                int index = (int) (row % segmentRows);
+                long x = columns[X].get(index);
+                long y = columns[Y].get(index);
+                long n = columns[N].get(index);
+                long result = columns[RESULT].get(index);
+                if (query.matches(x, y, n, result)) {
+                    selection.offer(new OperationDomain(x, y, n, result));
+                }
+            }
+            return selection.toList();
+        } catch (Exception e) {
+            logger.error("Error retrieving operations matching a query: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Counts the stored operations.
+     *
+     * @return The number of stored operations.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public long count() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes allocated off-heap for the segments.
+     *
+     * @return The allocated size of the store in bytes.
+     */
+    public long allocatedBytes() {
+        return (long) segments.length * segmentRows * ROW_SIZE;
+    }
+
+    /**
+     * Writes the values of an operation to a row, adding a segment when the row is the first one of it.
+     * It is only called while holding the append lock.
+     */
+    private void write(long row, OperationDomain domain) {
+        int segment = (int) (row / segmentRows);
+        int index = (int) (row % segmentRows);
+        LongBuffer[][] current = segments;
+        if (segment == current.length) {
+            current = Arrays.copyOf(current, segment + 1);
+            current[segment] = allocateSegment();
+            segments = current;
+        }
+        LongBuffer[] columns = current[segment];
+        columns[X].put(index, domain.getX());
+        columns[Y].put(index, domain.getY());
+        columns[N].put(index, domain.getN());
+        columns[RESULT].put(index, domain.getResult());
+    }
+
+    /**
+     * Hands the operations between two rows to the consumer, reading the columns of each segment sequentially.
+     */
+    private void scan(long from, long to, Consumer<OperationDomain> consumer) {
+        LongBuffer[][] current = segments;
+        long row = from;
+        while (row < to) {
+            int segment = (int) (row / segmentRows);
+            int index = (int) (row % segmentRows);
+            int end = (int) Math.min(segmentRows, index + (to - row));
+            LongBuffer[] columns = current[segment];
+            for (int i = index; i < end; i++) {
+                consumer.accept(new OperationDomain(columns[X].get(i), columns[Y].get(i), columns[N].get(i), columns[RESULT].get(i)));
+            }
+            row += end - index;
+        }
+    }
+
+    private LongBuffer[] allocateSegment() {
+        ByteBuffer segment = ByteBuffer.allocateDirect(segmentRows * ROW_SIZE).order(ByteOrder.nativeOrder());
+        LongBuffer[] columns = new LongBuffer[4];
+        for (int column = 0; column < columns.length; column++) {
+            segment.position(column * segmentRows * Long.BYTES);
+            segment.limit((column + 1) * segmentRows * Long.BYTES);
+            columns[column] = segment.slice().order(ByteOrder.nativeOrder()).asLongBuffer();
+        }
+        logger.info("Allocated columnar segment {} of {} rows", segments.length, segmentRows);
+        return columns;
+    }
+}
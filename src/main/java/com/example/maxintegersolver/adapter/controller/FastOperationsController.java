@@ -0,0 +1,99 @@
+package com.example.maxintegersolver.adapter.controller;
+
+import com.example.maxintegersolver.adapter.controller.model.FastOperationRequest;
+import com.example.maxintegersolver.adapter.controller.model.OperationResponse;
+import com.example.maxintegersolver.application.port.in.OperationCalculatorPort;
+import com.example.maxintegersolver.config.exception.ErrorResponse;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
+import com.example.maxintegersolver.domain.OperationDomain;
+import io.micrometer.core.annotation.Timed;
+import io.swagger.v3.oas.annotations.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The {@code FastOperationsController} class serves the calculation endpoint of
+ * {@link OperationsController} through a streaming decoder instead of data binding and Bean Validation.
+ *
+ * <p>It is only registered when the property {@code operation.fast-path.enabled} is true. Its mapping
+ * declares that it consumes {@code application/json}, which makes it more specific than the mapping of
+ * {@link OperationsController#calculate}, so JSON calculation requests are routed here while the rest of
+ * the API is still served by {@link OperationsController}. The request is decoded by
+ * {@link FastOperationRequest} and its primitives are handed directly to the
+ * {@link OperationCalculatorPort}; validation messages and error responses are the same as those of
+ * the regular endpoint.</p>
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "operation.fast-path", name = "enabled", havingValue = "true")
+@RequestMapping("/api/v1/operation")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {})
+public class FastOperationsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FastOperationsController.class);
+
+    private final OperationCalculatorPort calculatePort;
+
+    /**
+     * Creates an instance of {@code FastOperationsController} with the calculation port.
+     *
+     * @param calculatePort Port for operation calculations.
+     */
+    public FastOperationsController(OperationCalculatorPort calculatePort) {
+        this.calculatePort = calculatePort;
+    }
+
+    /**
+     * Endpoint for calculating the maximum non-negative integer k. Decodes and validates the request
+     * body inline and delegates the calculation to the application service.
+     *
+     * @param body The JSON body containing the x, y, and n values for the operation.
+     * @return ResponseEntity containing the result or error.
+     */
+    @Operation(
+            summary = "Calculate the maximum integer",
+            description = "Calculates the maximum non-negative integer k such that 0≤k≤n and k mod x = y. Returns the calculated value or validation errors."
+    )
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Timed(value = "operation.controller", histogram = true)
+    public ResponseEntity<Object> calculate(InputStream body) {
+        FastOperationRequest request;
+        try {
+            request = FastOperationRequest.read(body);
+        } catch (IOException ex) {
+            return OperationsController.invalidRequest(ex.getMessage());
+        }
+
+        try {
+            logger.info("Received calculation request: {}", request);
+            if (!request.isValid()) {
+                logger.error("Validation errors: {}", request.getErrors());
+                return ResponseEntity.badRequest().body(OperationResponse.badRequest(request.getErrors()));
+            }
+
+            long result = calculatePort.calculate(request.getX(), request.getY(), request.getN());
+            return ResponseEntity.status(HttpStatus.CREATED).body(OperationResponse.of(OperationDomain.builder()
+                    .result(result)
+                    .build(), HttpStatus.CREATED));
+        } catch (StacklessCustomException ex) {
+            return OperationsController.rejected(SPError.OPERATION_CONTROLLER_ERROR_CALCULATE, ex);
+        } catch (Exception ex) {
+            ErrorResponse errorResponse = new ErrorResponse(false, SPError.OPERATION_CONTROLLER_ERROR_CALCULATE.getErrorCode(), SPError.OPERATION_CONTROLLER_ERROR_CALCULATE.getErrorMessage(), ex.getCause());
+            logger.error("Calculation error: {}", errorResponse, ex);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.maxintegersolver.adapter.controller;
+
+import com.example.maxintegersolver.adapter.controller.model.OperationResponse;
+import com.example.maxintegersolver.adapter.controller.model.OperationResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link org.springframework.http.converter.HttpMessageConverter} writing {@link OperationResponse} bodies
+ * with the {@link OperationResponseWriter} whenever their shape allows it, and with the given
+ * {@link ObjectMapper} otherwise, such as for validation errors or pages.
+ *
+ * <p>It only writes responses; request bodies are still read by the Jackson converter.</p>
+ */
+public class OperationResponseHttpMessageConverter extends AbstractHttpMessageConverter<OperationResponse> {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates the converter for {@code application/json} responses.
+     *
+     * @param objectMapper The mapper used for the responses the pre-encoded writer does not support.
+     */
+    public OperationResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return OperationResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected OperationResponse readInternal(Class<? extends OperationResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("OperationResponse bodies are not read by this converter", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(OperationResponse response, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream body = StreamUtils.nonClosing(outputMessage.getBody());
+        if (OperationResponseWriter.canWrite(response)) {
+            OperationResponseWriter.write(response, body);
+        } else {
+            objectMapper.writeValue(body, response);
+        }
+    }
+}
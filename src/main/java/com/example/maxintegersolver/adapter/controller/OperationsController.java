@@ -1,56 +1,100 @@
 package com.example.maxintegersolver.adapter.controller;
 
+import com.example.maxintegersolver.adapter.controller.model.BinaryOperationBatch;
+import com.example.maxintegersolver.adapter.controller.model.OperationBatchRequest;
 import com.example.maxintegersolver.adapter.controller.model.OperationRequest;
 import com.example.maxintegersolver.adapter.controller.model.OperationResponse;
 import com.example.maxintegersolver.application.port.in.OperationCalculatorPort;
 import com.example.maxintegersolver.application.port.in.OperationResultsPort;
 import com.example.maxintegersolver.config.exception.ErrorResponse;
 import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
 import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
+import com.example.maxintegersolver.domain.util.ValidationMessages;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * The {@code OperationsController} class handles incoming REST API requests related to operations.
- * It manages endpoints for calculating the maximum non-negative integer k based on given parameters
- * and for retrieving all past calculation results.
+ * It manages endpoints for calculating the maximum non-negative integer k based on given parameters,
+ * either one operation at a time, in JSON batches or in frames of the compact binary protocol, and for retrieving
+ * past calculation results, either all at once,
+ * page by page with keyset pagination, filtered by ranges of their values, or streamed as newline-delimited JSON.
  *
  * <p>This controller is annotated with {@link CrossOrigin} to enable CORS (Cross-Origin Resource Sharing).
  * This allows web applications hosted on different domains to interact with this service. The current configuration
  * allows requests from any origin ('*'), accepting any header, and permits all HTTP methods, which is suitable for
  * development environments. For production, it is recommended to restrict the origins and HTTP methods for security reasons.</p>
+ *
+ * <p>It is only registered on the servlet stack; the reactive stack exposes the same API through
+ * {@link ReactiveOperationsController}.</p>
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/operation")
 @CrossOrigin(origins = "*", allowedHeaders = "*", methods = {})
 public class OperationsController {
 
     private static final Logger logger = LoggerFactory.getLogger(OperationsController.class);
 
+    /**
+     * Page size used when a cursor is given without a limit.
+     */
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Maximum page size accepted by the paginated results endpoint.
+     */
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String ASCENDING = "asc";
+    private static final String DESCENDING = "desc";
+
     private final OperationCalculatorPort calculatePort;
     private final OperationResultsPort resultsPort;
+    private final ObjectWriter ndjsonWriter;
 
     /**
      * Creates an instance of {@code OperationsController} with necessary ports.
      *
      * @param calculatePort Port for operation calculations.
      * @param resultsPort Port for retrieving operation results.
+     * @param objectMapper The application object mapper, used to write the streamed results like the rest of the API.
      */
-    public OperationsController(OperationCalculatorPort calculatePort, OperationResultsPort resultsPort) {
+    public OperationsController(OperationCalculatorPort calculatePort, OperationResultsPort resultsPort, ObjectMapper objectMapper) {
         this.calculatePort = calculatePort;
         this.resultsPort = resultsPort;
+        this.ndjsonWriter = objectMapper.writerFor(OperationDomain.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     /**
@@ -79,6 +123,7 @@ public class OperationsController {
     )
 
     @PostMapping
+    @Timed(value = "operation.controller", histogram = true)
     public ResponseEntity<Object> calculate(@Valid @RequestBody OperationRequest request, BindingResult bindingResult) {
         try {
             logger.info("Received calculation request: {}", request);
@@ -89,6 +134,8 @@ public class OperationsController {
 
             OperationDomain result = calculatePort.calculate(request.toDomain());
             return ResponseEntity.status(HttpStatus.CREATED).body(OperationResponse.of(result, HttpStatus.CREATED));
+        } catch (StacklessCustomException ex) {
+            return rejected(SPError.OPERATION_CONTROLLER_ERROR_CALCULATE, ex);
         } catch (Exception ex) {
             ErrorResponse errorResponse = new ErrorResponse(false, SPError.OPERATION_CONTROLLER_ERROR_CALCULATE.getErrorCode(), SPError.OPERATION_CONTROLLER_ERROR_CALCULATE.getErrorMessage(), ex.getCause());
             logger.error("Calculation error: {}", errorResponse, ex);
@@ -97,13 +144,130 @@ public class OperationsController {
     }
 
     /**
-     * Endpoint for retrieving all past calculation results.
+     * Endpoint for calculating the maximum non-negative integer k for a batch of operations.
+     * Validates every operation of the request and delegates the whole batch to the application
+     * service, which solves and persists it in a single pass.
      *
-     * @return ResponseEntity containing a list of results or an error.
+     * @param request Contains the x, y, and n values of every operation of the batch.
+     * @param bindingResult Captures validation results for the request.
+     * @return ResponseEntity containing the results, in the same order as the request, or error.
      */
     @Operation(
-            summary = "Retrieve all calculation results",
-            description = "Fetches all the past results of the calculation operations.",
+            summary = "Calculate the maximum integer for a batch of operations",
+            description = "Calculates the maximum non-negative integer k such that 0≤k≤n and k mod x = y for every operation of the batch. Returns the calculated operations in the same order or validation errors.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Batch calculation successful",
+                            content = @Content(schema = @Schema(implementation = OperationResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid input parameters or calculation error",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    )
+            }
+    )
+    @PostMapping("/batch")
+    @Timed(value = "operation.controller", histogram = true)
+    public ResponseEntity<Object> calculateBatch(@Valid @RequestBody OperationBatchRequest request, BindingResult bindingResult) {
+        try {
+            logger.info("Received batch calculation request with {} operations", request.getOperations().size());
+            if (bindingResult.hasErrors()) {
+                logger.error("Validation errors: {}", bindingResult.getFieldErrors());
+                return ResponseEntity.badRequest().body(OperationResponse.badRequest(bindingResult));
+            }
+
+            List<OperationDomain> results = calculatePort.calculateBatch(request.toDomain());
+            return ResponseEntity.status(HttpStatus.CREATED).body(OperationResponse.of(results, HttpStatus.CREATED));
+        } catch (StacklessCustomException ex) {
+            return rejected(SPError.OPERATION_CONTROLLER_ERROR_BATCH, ex);
+        } catch (Exception ex) {
+            ErrorResponse errorResponse = new ErrorResponse(false, SPError.OPERATION_CONTROLLER_ERROR_BATCH.getErrorCode(), SPError.OPERATION_CONTROLLER_ERROR_BATCH.getErrorMessage(), ex.getCause());
+            logger.error("Batch calculation error: {}", errorResponse, ex);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * Endpoint for calculating the maximum non-negative integer k for a batch of operations encoded
+     * with the compact binary protocol of {@link BinaryOperationBatch}: triples of little-endian
+     * 64-bit integers x, y and n. The batch is solved and persisted like a JSON batch, and the
+     * results are returned as little-endian 64-bit integers in the same order. Errors are reported
+     * with the same JSON bodies as the JSON batch endpoint.
+     *
+     * @param body The request frame.
+     * @return ResponseEntity containing the response frame or error.
+     * @throws IOException If the request body cannot be read.
+     */
+    @Operation(
+            summary = "Calculate the maximum integer for a batch of binary encoded operations",
+            description = "Calculates the maximum non-negative integer k such that 0≤k≤n and k mod x = y for every operation of a frame of little-endian 64-bit x, y, n triples. Returns a frame with one little-endian 64-bit result per operation, in the same order, or a JSON error.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Batch calculation successful",
+                            content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Malformed frame, invalid input parameters or calculation error",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    )
+            }
+    )
+    @PostMapping(path = "/binary", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Timed(value = "operation.controller", histogram = true)
+    public ResponseEntity<Object> calculateBinary(InputStream body) throws IOException {
+        byte[] frame = body.readNBytes(BinaryOperationBatch.MAX_FRAME_SIZE + BinaryOperationBatch.TRIPLE_SIZE);
+        if (!BinaryOperationBatch.isWellFormed(frame.length)) {
+            return asJson(invalidRequest("Frame of " + frame.length + " bytes is not a whole number of operations"));
+        }
+        try {
+            BinaryOperationBatch batch = BinaryOperationBatch.decode(frame);
+            logger.info("Received binary batch calculation request with {} operations", batch.getX().length);
+            if (!batch.isValid()) {
+                logger.error("Validation errors: {}", batch.getErrors());
+                return asJson(ResponseEntity.badRequest().body(OperationResponse.badRequest(batch.getErrors())));
+            }
+
+            long[] results = calculatePort.calculateBatch(batch.getX(), batch.getY(), batch.getN());
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(BinaryOperationBatch.encode(results));
+        } catch (StacklessCustomException ex) {
+            return asJson(rejected(SPError.OPERATION_CONTROLLER_ERROR_BATCH, ex));
+        } catch (Exception ex) {
+            ErrorResponse errorResponse = new ErrorResponse(false, SPError.OPERATION_CONTROLLER_ERROR_BATCH.getErrorCode(), SPError.OPERATION_CONTROLLER_ERROR_BATCH.getErrorMessage(), ex.getCause());
+            logger.error("Binary batch calculation error: {}", errorResponse, ex);
+            return asJson(ResponseEntity.badRequest().body(errorResponse));
+        }
+    }
+
+    /**
+     * Endpoint for retrieving past calculation results. Without parameters every result is returned;
+     * when {@code after_id} or {@code limit} is given, a single page is returned using keyset pagination,
+     * along with the cursor to request the next one. When any range or ordering parameter is given, the
+     * results within the inclusive ranges are returned instead, in the requested order and up to
+     * {@code limit}; these parameters cannot be combined with {@code after_id}.
+     *
+     * @param afterId The cursor returned with the previous page, omitted for the first page.
+     * @param limit The maximum number of results of the page or of the query.
+     * @param xMin The minimum x of the results.
+     * @param xMax The maximum x of the results.
+     * @param yMin The minimum y of the results.
+     * @param yMax The maximum y of the results.
+     * @param nMin The minimum n of the results.
+     * @param nMax The maximum n of the results.
+     * @param resultMin The minimum result of the results.
+     * @param resultMax The maximum result of the results.
+     * @param sort The value the results are ordered by: id, x, y, n or result; id by default.
+     * @param order The direction of the order: asc or desc; asc by default.
+     * @return ResponseEntity containing a list or a page of results, or an error.
+     */
+    @Operation(
+            summary = "Retrieve calculation results",
+            description = "Fetches the past results of the calculation operations. Use the after_id and limit parameters to retrieve them page by page; the nextCursor of each page is the after_id of the next one. Use the x_min, x_max, y_min, y_max, n_min, n_max, result_min and result_max parameters to retrieve the results within inclusive ranges, ordered by the sort (id, x, y, n or result) and order (asc or desc) parameters and up to limit results.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -118,15 +282,203 @@ public class OperationsController {
             }
     )
     @GetMapping
-    public ResponseEntity<Object> result() {
+    @Timed(value = "operation.controller", histogram = true)
+    public ResponseEntity<Object> result(@RequestParam(name = "after_id", required = false) Long afterId,
+                                         @RequestParam(name = "limit", required = false) Integer limit,
+                                         @RequestParam(name = "x_min", required = false) Long xMin,
+                                         @RequestParam(name = "x_max", required = false) Long xMax,
+                                         @RequestParam(name = "y_min", required = false) Long yMin,
+                                         @RequestParam(name = "y_max", required = false) Long yMax,
+                                         @RequestParam(name = "n_min", required = false) Long nMin,
+                                         @RequestParam(name = "n_max", required = false) Long nMax,
+                                         @RequestParam(name = "result_min", required = false) Long resultMin,
+                                         @RequestParam(name = "result_max", required = false) Long resultMax,
+                                         @RequestParam(name = "sort", required = false) String sort,
+                                         @RequestParam(name = "order", required = false) String order) {
         try {
-            logger.info("Fetching all results");
-            List<OperationDomain> results = resultsPort.getResults();
-            return ResponseEntity.ok(OperationResponse.of(results, HttpStatus.OK));
+            if (Stream.of(xMin, xMax, yMin, yMax, nMin, nMax, resultMin, resultMax, sort, order).anyMatch(Objects::nonNull)) {
+                int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+                List<String> errors = validateQuery(afterId, size, xMin, xMax, yMin, yMax, nMin, nMax, resultMin, resultMax, sort, order);
+                if (!errors.isEmpty()) {
+                    logger.error("Validation errors: {}", errors);
+                    return ResponseEntity.badRequest().body(OperationResponse.badRequest(errors));
+                }
+
+                OperationQuery query = OperationQuery.builder()
+                        .xMin(xMin).xMax(xMax)
+                        .yMin(yMin).yMax(yMax)
+                        .nMin(nMin).nMax(nMax)
+                        .resultMin(resultMin).resultMax(resultMax)
+                        .limit(size)
+                        .sort(sort == null ? OperationQuery.Sort.ID : OperationQuery.Sort.valueOf(sort.toUpperCase(Locale.ROOT)))
+                        .descending(DESCENDING.equalsIgnoreCase(order))
+                        .build();
+                logger.info("Fetching results matching {}", query);
+                List<OperationDomain> results = resultsPort.getResults(query);
+                return ResponseEntity.ok(OperationResponse.of(results, HttpStatus.OK));
+            }
+
+            if (afterId == null && limit == null) {
+                logger.info("Fetching all results");
+                List<OperationDomain> results = resultsPort.getResults();
+                return ResponseEntity.ok(OperationResponse.of(results, HttpStatus.OK));
+            }
+
+            int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+            List<String> errors = validatePage(afterId, pageSize);
+            if (!errors.isEmpty()) {
+                logger.error("Validation errors: {}", errors);
+                return ResponseEntity.badRequest().body(OperationResponse.badRequest(errors));
+            }
+
+            logger.info("Fetching {} results after id {}", pageSize, afterId);
+            OperationPage page = resultsPort.getResults(afterId, pageSize);
+            return ResponseEntity.ok(OperationResponse.of(page, HttpStatus.OK));
         } catch (Exception ex) {
             ErrorResponse errorResponse = new ErrorResponse(false, SPError.OPERATION_CONTROLLER_ERROR_CALCULATE.getErrorCode(), SPError.OPERATION_CONTROLLER_ERROR_CALCULATE.getErrorMessage(), ex.getCause());
             logger.error("Error fetching results: {}", errorResponse, ex);
             return ResponseEntity.badRequest().body(errorResponse);
         }
     }
+
+    /**
+     * Endpoint for streaming all past calculation results as newline-delimited JSON, one result per line.
+     * Results are written as they are read from the storage, so memory usage does not depend on the
+     * number of stored operations.
+     *
+     * @return ResponseEntity whose body writes the results to the response as they are retrieved.
+     */
+    @Operation(
+            summary = "Stream all calculation results",
+            description = "Streams all the past results of the calculation operations as newline-delimited JSON (application/x-ndjson), one result per line.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Results streamed successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = OperationDomain.class))
+                    )
+            }
+    )
+    @GetMapping(path = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamResults() {
+        logger.info("Streaming all results");
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = ndjsonWriter.getFactory().createGenerator(outputStream)) {
+                // Every line is ended explicitly, so the default separator between root values is not written.
+                generator.setRootValueSeparator(null);
+                resultsPort.streamResults(domain -> writeLine(generator, domain));
+            } catch (Exception ex) {
+                logger.error("Error streaming results", ex);
+                throw ex;
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Validates the keyset pagination parameters of the results endpoint.
+     *
+     * @param afterId The cursor of the page.
+     * @param limit The size of the page.
+     * @return The validation messages, empty when the parameters are valid.
+     */
+    static List<String> validatePage(Long afterId, int limit) {
+        List<String> errors = new ArrayList<>();
+        if (afterId != null && afterId < 0) {
+            errors.add(OperationResponse.fieldError("after_id", ValidationMessages.MIN_VALUE_AFTER_ID));
+        }
+        if (limit < 1) {
+            errors.add(OperationResponse.fieldError("limit", ValidationMessages.MIN_VALUE_LIMIT));
+        } else if (limit > MAX_PAGE_SIZE) {
+            errors.add(OperationResponse.fieldError("limit", ValidationMessages.MAX_VALUE_LIMIT));
+        }
+        return errors;
+    }
+
+    /**
+     * Validates the parameters of a query of the results endpoint.
+     *
+     * The bounds of each range are optional, but the minimum cannot exceed the maximum.
+     *
+     * @param afterId The cursor of the page, which cannot be combined with a query.
+     * @param limit The maximum number of results.
+     * @param sort The value the results are ordered by.
+     * @param order The direction of the order.
+     * @return The validation messages, empty when the parameters are valid.
+     */
+    static List<String> validateQuery(Long afterId, int limit, Long xMin, Long xMax, Long yMin, Long yMax,
+                                      Long nMin, Long nMax, Long resultMin, Long resultMax, String sort, String order) {
+        List<String> errors = validatePage(null, limit);
+        if (afterId != null) {
+            errors.add(OperationResponse.fieldError("after_id", ValidationMessages.AFTER_ID_WITH_FILTERS));
+        }
+        validateRange("x", xMin, xMax, errors);
+        validateRange("y", yMin, yMax, errors);
+        validateRange("n", nMin, nMax, errors);
+        validateRange("result", resultMin, resultMax, errors);
+        if (sort != null && Stream.of(OperationQuery.Sort.values()).noneMatch(value -> value.name().equalsIgnoreCase(sort))) {
+            errors.add(OperationResponse.fieldError("sort", ValidationMessages.INVALID_SORT));
+        }
+        if (order != null && !ASCENDING.equalsIgnoreCase(order) && !DESCENDING.equalsIgnoreCase(order)) {
+            errors.add(OperationResponse.fieldError("order", ValidationMessages.INVALID_ORDER));
+        }
+        return errors;
+    }
+
+    private static void validateRange(String name, Long min, Long max, List<String> errors) {
+        if (min != null && max != null && min > max) {
+            errors.add(OperationResponse.fieldError(name + "_min", ValidationMessages.INVALID_RANGE));
+        }
+    }
+
+    /**
+     * Builds the response of an operation rejected because of its input. Rejections carry no cause
+     * and no stack trace, so they are logged as a single line.
+     *
+     * @param error The error reported by the controller.
+     * @param ex The rejection raised by the application core.
+     * @return ResponseEntity containing the error.
+     */
+    static ResponseEntity<Object> rejected(SPError error, StacklessCustomException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(false, error.getErrorCode(), error.getErrorMessage(), null);
+        logger.info("Operation rejected: {} -> {}", ex.getMessage(), errorResponse.getMessage());
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Builds the response of a request whose body cannot be read, the same one the
+     * {@link com.example.maxintegersolver.config.GlobalExceptionHandler} returns for unreadable bodies.
+     *
+     * @param reason The description of the problem, for the log.
+     * @return ResponseEntity containing the error.
+     */
+    static ResponseEntity<Object> invalidRequest(String reason) {
+        ErrorResponse errorResponse = new ErrorResponse(false, SPError.INVALID_REQUEST_ERROR.getErrorCode(), SPError.INVALID_REQUEST_ERROR.getErrorMessage(), null);
+        logger.error("Error:{} -> Exception: {}", errorResponse, reason);
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Sets the JSON content type on an error response, so it is not negotiated against the
+     * binary content accepted by the client.
+     */
+    private static ResponseEntity<Object> asJson(ResponseEntity<Object> response) {
+        return ResponseEntity.status(response.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.getBody());
+    }
+
+    /**
+     * Writes a single result followed by a line break.
+     */
+    private void writeLine(JsonGenerator generator, OperationDomain domain) {
+        try {
+            ndjsonWriter.writeValue(generator, domain);
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
@@ -0,0 +1,154 @@
+package com.example.maxintegersolver.adapter.controller;
+
+import com.example.maxintegersolver.adapter.controller.model.OperationBatchRequest;
+import com.example.maxintegersolver.adapter.controller.model.OperationRequest;
+import com.example.maxintegersolver.adapter.controller.model.OperationResponse;
+import com.example.maxintegersolver.application.port.in.reactive.ReactiveOperationCalculatorPort;
+import com.example.maxintegersolver.application.port.in.reactive.ReactiveOperationResultsPort;
+import com.example.maxintegersolver.config.exception.ErrorResponse;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
+import com.example.maxintegersolver.domain.OperationDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.util.List;
+
+/**
+ * The {@code ReactiveOperationsController} class exposes the operation API on the reactive stack,
+ * with the same paths, payloads and error responses as {@link OperationsController}. Requests are
+ * served by the WebFlux event loop, which is never blocked while the operations are persisted or read.
+ *
+ * <p>It is only registered when the application runs as a reactive web application, that is,
+ * with the {@code reactive} profile.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/operation")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOperationsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveOperationsController.class);
+
+    private final ReactiveOperationCalculatorPort calculatePort;
+    private final ReactiveOperationResultsPort resultsPort;
+
+    /**
+     * Creates an instance of {@code ReactiveOperationsController} with necessary ports.
+     *
+     * @param calculatePort Reactive port for operation calculations.
+     * @param resultsPort Reactive port for retrieving operation results.
+     */
+    public ReactiveOperationsController(ReactiveOperationCalculatorPort calculatePort, ReactiveOperationResultsPort resultsPort) {
+        this.calculatePort = calculatePort;
+        this.resultsPort = resultsPort;
+    }
+
+    /**
+     * Endpoint for calculating the maximum non-negative integer k.
+     *
+     * @param request Contains x, y, and n values for the operation.
+     * @return A {@link Mono} emitting the ResponseEntity containing the result or error.
+     */
+    @PostMapping
+    public Mono<ResponseEntity<Object>> calculate(@Valid @RequestBody Mono<OperationRequest> request) {
+        return request
+                .doOnNext(operation -> logger.info("Received calculation request: {}", operation))
+                .flatMap(operation -> calculatePort.calculate(operation.toDomain()))
+                .map(result -> ResponseEntity.status(HttpStatus.CREATED).body((Object) OperationResponse.of(result, HttpStatus.CREATED)))
+                .onErrorResume(WebExchangeBindException.class, ReactiveOperationsController::validationError)
+                .onErrorResume(ReactiveOperationsController::isHandled,
+                        ex -> error(SPError.OPERATION_CONTROLLER_ERROR_CALCULATE, "Calculation error", ex));
+    }
+
+    /**
+     * Endpoint for calculating the maximum non-negative integer k for a batch of operations.
+     *
+     * @param request Contains the x, y, and n values of every operation of the batch.
+     * @return A {@link Mono} emitting the ResponseEntity containing the results, in the same order as the request, or error.
+     */
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> calculateBatch(@Valid @RequestBody Mono<OperationBatchRequest> request) {
+        return request
+                .doOnNext(batch -> logger.info("Received batch calculation request with {} operations", batch.getOperations().size()))
+                .flatMap(batch -> calculatePort.calculateBatch(batch.toDomain()))
+                .map(results -> ResponseEntity.status(HttpStatus.CREATED).body((Object) OperationResponse.of(results, HttpStatus.CREATED)))
+                .onErrorResume(WebExchangeBindException.class, ReactiveOperationsController::validationError)
+                .onErrorResume(ReactiveOperationsController::isHandled,
+                        ex -> error(SPError.OPERATION_CONTROLLER_ERROR_BATCH, "Batch calculation error", ex));
+    }
+
+    /**
+     * Endpoint for retrieving past calculation results. Without parameters every result is returned;
+     * when {@code after_id} or {@code limit} is given, a single page is returned using keyset pagination.
+     *
+     * @param afterId The cursor returned with the previous page, omitted for the first page.
+     * @param limit The maximum number of results of the page.
+     * @return A {@link Mono} emitting the ResponseEntity containing a list or a page of results, or an error.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<Object>> result(@RequestParam(name = "after_id", required = false) Long afterId,
+                                               @RequestParam(name = "limit", required = false) Integer limit) {
+        Mono<Object> results;
+        if (afterId == null && limit == null) {
+            logger.info("Fetching all results");
+            results = resultsPort.getResults().collectList().cast(Object.class);
+        } else {
+            int pageSize = limit == null ? OperationsController.DEFAULT_PAGE_SIZE : limit;
+            List<String> errors = OperationsController.validatePage(afterId, pageSize);
+            if (!errors.isEmpty()) {
+                logger.error("Validation errors: {}", errors);
+                return Mono.just(ResponseEntity.badRequest().body(OperationResponse.badRequest(errors)));
+            }
+            logger.info("Fetching {} results after id {}", pageSize, afterId);
+            results = resultsPort.getResults(afterId, pageSize).cast(Object.class);
+        }
+        return results
+                .map(data -> ResponseEntity.ok((Object) OperationResponse.of(data, HttpStatus.OK)))
+                .onErrorResume(ex -> error(SPError.OPERATION_CONTROLLER_ERROR_CALCULATE, "Error fetching results", ex));
+    }
+
+    /**
+     * Endpoint for streaming all past calculation results as newline-delimited JSON, one result per line.
+     * Results are written as they are read from the storage.
+     *
+     * @return A {@link Flux} emitting every stored result.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<OperationDomain> streamResults() {
+        logger.info("Streaming all results");
+        return resultsPort.getResults()
+                .doOnError(ex -> logger.error("Error streaming results", ex));
+    }
+
+    /**
+     * Malformed bodies are left to the framework, which answers them with a bad request.
+     */
+    private static boolean isHandled(Throwable ex) {
+        return !(ex instanceof ServerWebInputException);
+    }
+
+    private static Mono<ResponseEntity<Object>> validationError(WebExchangeBindException ex) {
+        logger.error("Validation errors: {}", ex.getFieldErrors());
+        return Mono.just(ResponseEntity.badRequest().body(OperationResponse.badRequest(ex)));
+    }
+
+    private static Mono<ResponseEntity<Object>> error(SPError spError, String description, Throwable ex) {
+        if (ex instanceof StacklessCustomException) {
+            return Mono.just(OperationsController.rejected(spError, (StacklessCustomException) ex));
+        }
+        ErrorResponse errorResponse = new ErrorResponse(false, spError.getErrorCode(), spError.getErrorMessage(), ex.getCause());
+        logger.error("{}: {}", description, errorResponse, ex);
+        return Mono.just(ResponseEntity.badRequest().body(errorResponse));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.maxintegersolver.adapter.controller;
+
+import com.example.maxintegersolver.adapter.controller.model.OperationResponse;
+import com.example.maxintegersolver.application.port.in.OperationStatisticsPort;
+import com.example.maxintegersolver.config.exception.ErrorResponse;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.OperationStatistics;
+import io.micrometer.core.annotation.Timed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The {@code StatisticsController} class serves the aggregate statistics of the calculated operations:
+ * their number, the number per modulus, the minimum, maximum and mean result, a histogram of the results
+ * and the throughput of each recent minute.
+ *
+ * <p>The aggregates are maintained as the operations are calculated, so this endpoint answers in constant
+ * time whatever the number of stored operations, instead of downloading them from the results endpoint of
+ * {@link OperationsController}. It is only registered on the servlet stack.</p>
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/operation/statistics")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {})
+public class StatisticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsController.class);
+
+    private final OperationStatisticsPort statisticsPort;
+
+    /**
+     * Creates an instance of {@code StatisticsController} with the statistics port.
+     *
+     * @param statisticsPort Port for retrieving the operation statistics.
+     */
+    public StatisticsController(OperationStatisticsPort statisticsPort) {
+        this.statisticsPort = statisticsPort;
+    }
+
+    /**
+     * Endpoint for retrieving the aggregate statistics of the operations calculated since the application started.
+     *
+     * @return ResponseEntity containing the statistics or error.
+     */
+    @Operation(
+            summary = "Retrieve calculation statistics",
+            description = "Fetches the aggregates of the operations calculated since the application started: the total count, the count per x, the minimum, maximum and mean result, a histogram of the results by powers of two and the number of operations of each recent minute.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Statistics retrieved successfully",
+                            content = @Content(schema = @Schema(implementation = OperationStatistics.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Error occurred while fetching the statistics",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    )
+            }
+    )
+    @GetMapping
+    @Timed(value = "operation.controller", histogram = true)
+    public ResponseEntity<Object> statistics() {
+        try {
+            logger.info("Fetching statistics");
+            OperationStatistics statistics = statisticsPort.getStatistics();
+            return ResponseEntity.ok(OperationResponse.of(statistics, HttpStatus.OK));
+        } catch (Exception ex) {
+            ErrorResponse errorResponse = new ErrorResponse(false, SPError.OPERATION_CONTROLLER_ERROR_RESULTS.getErrorCode(), SPError.OPERATION_CONTROLLER_ERROR_RESULTS.getErrorMessage(), ex.getCause());
+            logger.error("Error fetching statistics: {}", errorResponse, ex);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.maxintegersolver.adapter.controller.model;
+
+import com.example.maxintegersolver.domain.util.ValidationMessages;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Batch of operations decoded from the compact binary protocol.
+ *
+ * <p>A request frame is a sequence of triples of little-endian 64-bit integers {@code x, y, n}, so
+ * every operation takes {@value #TRIPLE_SIZE} bytes and the frame holds up to
+ * {@link OperationBatchRequest#MAX_BATCH_SIZE} operations. The response frame holds one little-endian
+ * 64-bit result per operation, in the same order. Values are validated with the same rules and
+ * {@link ValidationMessages} as a batch of {@link OperationRequest}.</p>
+ */
+@Getter
+public final class BinaryOperationBatch {
+
+    /**
+     * The size in bytes of an operation in a request frame.
+     */
+    public static final int TRIPLE_SIZE = 3 * Long.BYTES;
+
+    /**
+     * The maximum size in bytes of a request frame.
+     */
+    public static final int MAX_FRAME_SIZE = OperationBatchRequest.MAX_BATCH_SIZE * TRIPLE_SIZE;
+
+    private static final String[] FIELDS = {"x", "y", "n"};
+
+    private final long[] x;
+    private final long[] y;
+    private final long[] n;
+
+    /**
+     * The validation messages of the batch, formatted as {@link OperationResponse#fieldError(String, String)}
+     * does. Empty when the batch is valid.
+     */
+    private final List<String> errors;
+
+    private BinaryOperationBatch(long[] x, long[] y, long[] n, List<String> errors) {
+        this.x = x;
+        this.y = y;
+        this.n = n;
+        this.errors = errors;
+    }
+
+    /**
+     * Indicates whether the frame has a whole number of operations.
+     *
+     * @param length The size in bytes of the frame.
+     * @return true when the frame can be decoded.
+     */
+    public static boolean isWellFormed(int length) {
+        return length % TRIPLE_SIZE == 0;
+    }
+
+    /**
+     * Decodes and validates a request frame.
+     *
+     * @param frame A well formed request frame, see {@link #isWellFormed(int)}.
+     * @return The decoded batch, with its validation messages when it is empty, too large or has values out of range.
+     */
+    public static BinaryOperationBatch decode(byte[] frame) {
+        int size = frame.length / TRIPLE_SIZE;
+        if (size == 0) {
+            return invalid(OperationResponse.fieldError("operations", ValidationMessages.NOT_EMPTY_BATCH));
+        }
+        if (size > OperationBatchRequest.MAX_BATCH_SIZE) {
+            return invalid(OperationResponse.fieldError("operations", ValidationMessages.MAX_SIZE_BATCH));
+        }
+
+        long[] x = new long[size];
+        long[] y = new long[size];
+        long[] n = new long[size];
+        ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < size; i++) {
+            x[i] = buffer.getLong();
+            y[i] = buffer.getLong();
+            n[i] = buffer.getLong();
+        }
+        return new BinaryOperationBatch(x, y, n, validate(x, y, n));
+    }
+
+    /**
+     * Encodes the results of the batch as a response frame.
+     *
+     * @param results The result of each operation.
+     * @return The response frame.
+     */
+    public static byte[] encode(long[] results) {
+        byte[] frame = new byte[results.length * Long.BYTES];
+        ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().put(results);
+        return frame;
+    }
+
+    /**
+     * Indicates whether the batch has operations and every value is within its range.
+     *
+     * @return true when the batch has no validation messages.
+     */
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    private static BinaryOperationBatch invalid(String error) {
+        return new BinaryOperationBatch(new long[0], new long[0], new long[0], Collections.singletonList(error));
+    }
+
+    private static List<String> validate(long[] x, long[] y, long[] n) {
+        List<String> errors = Collections.emptyList();
+        for (int i = 0; i < x.length; i++) {
+            errors = validate(errors, i, 0, x[i]);
+            errors = validate(errors, i, 1, y[i]);
+            errors = validate(errors, i, 2, n[i]);
+        }
+        return errors;
+    }
+
+    private static List<String> validate(List<String> errors, int operation, int field, long value) {
+        String message = FastOperationRequest.rangeError(field, value);
+        if (message == null) {
+            return errors;
+        }
+        List<String> result = errors.isEmpty() ? new ArrayList<>() : errors;
+        result.add(OperationResponse.fieldError("operations[" + operation + "]." + FIELDS[field], message));
+        return result;
+    }
+}
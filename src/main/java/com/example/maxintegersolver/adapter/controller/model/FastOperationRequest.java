@@ -0,0 +1,169 @@
+package com.example.maxintegersolver.adapter.controller.model;
+
+import com.example.maxintegersolver.domain.util.ValidationMessages;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Operation request decoded with a streaming JSON parser instead of data binding.
+ *
+ * <p>The three fields of an {@link OperationRequest} are read token by token as primitives and
+ * validated inline with the same rules and {@link ValidationMessages} as the annotations of
+ * {@link OperationRequest}, so no reflection, Bean Validation or intermediate objects are involved.
+ * Values are coerced like the default Jackson configuration does for a {@link Long}: integers are
+ * read as they are, decimals are truncated, numeric strings are parsed and null or empty strings are
+ * treated as missing. Unknown fields are skipped.</p>
+ */
+@Getter
+@ToString
+public final class FastOperationRequest {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int N = 2;
+    private static final String[] FIELDS = {"x", "y", "n"};
+    private static final String[] NOT_NULL = {ValidationMessages.NOT_NULL_X, ValidationMessages.NOT_NULL_Y, ValidationMessages.NOT_NULL_N};
+    private static final String[] MIN_VALUE = {ValidationMessages.MIN_VALUE_X, ValidationMessages.MIN_VALUE_Y, ValidationMessages.MIN_VALUE_N};
+    private static final String[] MAX_VALUE = {ValidationMessages.MAX_VALUE_X, ValidationMessages.MAX_VALUE_Y, ValidationMessages.MAX_VALUE_N};
+
+    private final long x;
+    private final long y;
+    private final long n;
+
+    /**
+     * The validation messages of the request, formatted as {@link OperationResponse#fieldError(String, String)}
+     * does. Empty when the request is valid.
+     */
+    private final List<String> errors;
+
+    private FastOperationRequest(long x, long y, long n, List<String> errors) {
+        this.x = x;
+        this.y = y;
+        this.n = n;
+        this.errors = errors;
+    }
+
+    /**
+     * Reads and validates an operation request from a JSON body.
+     *
+     * @param body The request body.
+     * @return The decoded request, with its validation messages when the values are out of range.
+     * @throws IOException If the body is empty, is not a JSON object or a field has a value that
+     *                     cannot be converted to a {@code long}.
+     */
+    public static FastOperationRequest read(InputStream body) throws IOException {
+        long[] values = new long[FIELDS.length];
+        boolean[] present = new boolean[FIELDS.length];
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                int field = fieldIndex(parser.getCurrentName());
+                JsonToken token = parser.nextToken();
+                if (field < 0) {
+                    parser.skipChildren();
+                    continue;
+                }
+                present[field] = readValue(parser, token, values, field);
+            }
+        }
+        return new FastOperationRequest(values[X], values[Y], values[N], validate(values, present));
+    }
+
+    /**
+     * Indicates whether every field of the request is present and within its range.
+     *
+     * @return true when the request has no validation messages.
+     */
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    private static int fieldIndex(String name) {
+        switch (name) {
+            case "x":
+                return X;
+            case "y":
+                return Y;
+            case "n":
+                return N;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Stores the value of the current token in the given field.
+     *
+     * @return false when the value is missing.
+     */
+    private static boolean readValue(JsonParser parser, JsonToken token, long[] values, int field) throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_INT:
+                values[field] = parser.getLongValue();
+                return true;
+            case VALUE_NUMBER_FLOAT:
+                values[field] = parser.getValueAsLong();
+                return true;
+            case VALUE_NULL:
+                return false;
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return false;
+                }
+                try {
+                    values[field] = Long.parseLong(text);
+                    return true;
+                } catch (NumberFormatException ex) {
+                    throw new JsonParseException(parser, "Invalid value for field " + FIELDS[field], ex);
+                }
+            default:
+                throw new JsonParseException(parser, "Invalid value for field " + FIELDS[field]);
+        }
+    }
+
+    /**
+     * Checks the range of a value with the rules of {@link OperationRequest}.
+     *
+     * @param field The index of the field: 0 for x, 1 for y and 2 for n.
+     * @param value The value of the field.
+     * @return The validation message, or null when the value is within the range.
+     */
+    static String rangeError(int field, long value) {
+        if (value < -1) {
+            return MIN_VALUE[field];
+        }
+        if (value > Integer.MAX_VALUE) {
+            return MAX_VALUE[field];
+        }
+        return null;
+    }
+
+    private static List<String> validate(long[] values, boolean[] present) {
+        List<String> errors = null;
+        for (int i = 0; i < FIELDS.length; i++) {
+            String message = present[i] ? rangeError(i, values[i]) : NOT_NULL[i];
+            if (message != null) {
+                if (errors == null) {
+                    errors = new ArrayList<>(FIELDS.length);
+                }
+                errors.add(OperationResponse.fieldError(FIELDS[i], message));
+            }
+        }
+        return errors == null ? Collections.emptyList() : errors;
+    }
+}
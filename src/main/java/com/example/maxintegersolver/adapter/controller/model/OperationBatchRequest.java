@@ -0,0 +1,63 @@
+package com.example.maxintegersolver.adapter.controller.model;
+
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.util.ValidationMessages;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data transfer object for batch operation requests.
+ * It is deserialized directly from a JSON array of {@link OperationRequest} objects, so every
+ * element is validated with the same rules as a single calculation request.
+ */
+@Getter
+@ToString
+public class OperationBatchRequest {
+
+    /**
+     * The maximum number of operations accepted in a single batch.
+     */
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    /**
+     * The operations of the batch.
+     * Must not be empty and must not exceed {@link #MAX_BATCH_SIZE} elements.
+     */
+    @NotEmpty(message = ValidationMessages.NOT_EMPTY_BATCH)
+    @Size(max = MAX_BATCH_SIZE, message = ValidationMessages.MAX_SIZE_BATCH)
+    @Valid
+    @JsonValue
+    private final List<@NotNull(message = ValidationMessages.NOT_NULL_OPERATION) OperationRequest> operations;
+
+    /**
+     * Creates a batch request from the JSON array received in the request body.
+     *
+     * @param operations The operations of the batch.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public OperationBatchRequest(List<OperationRequest> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Converts the operations of this DTO to their corresponding domain entities.
+     *
+     * @return A list of {@link OperationDomain} instances, in the same order as the request.
+     */
+    public List<OperationDomain> toDomain() {
+        List<OperationDomain> domains = new ArrayList<>(operations.size());
+        for (OperationRequest operation : operations) {
+            domains.add(operation.toDomain());
+        }
+        return domains;
+    }
+}
@@ -39,9 +39,20 @@ public class OperationResponse extends GenericResponse {
     public static OperationResponse badRequest(BindingResult bindingResult) {
         List<String> errors = bindingResult.getFieldErrors()
                 .stream()
-                .map(error -> String.format("Field: %s -> Error: %s", error.getField(), error.getDefaultMessage()))
+                .map(error -> fieldError(error.getField(), error.getDefaultMessage()))
                 .collect(Collectors.toList());
 
+        return badRequest(errors);
+    }
+
+    /**
+     * Creates an error response with the given validation messages.
+     * This is used to report validation errors detected outside of a {@link BindingResult}, such as request parameters.
+     *
+     * @param errors The validation messages, usually built with {@link #fieldError(String, String)}.
+     * @return An instance of {@link OperationResponse} populated with error details and validation messages.
+     */
+    public static OperationResponse badRequest(List<String> errors) {
         OperationResponse response = new OperationResponse();
         response.setStatus(false);
         response.setCodeStatus(HttpStatus.BAD_REQUEST.value());
@@ -50,4 +61,15 @@ public class OperationResponse extends GenericResponse {
 
         return response;
     }
+
+    /**
+     * Formats a validation message for a single field, in the format reported to clients.
+     *
+     * @param field   The name of the invalid field.
+     * @param message The validation message of the field.
+     * @return The formatted validation message.
+     */
+    public static String fieldError(String field, String message) {
+        return String.format("Field: %s -> Error: %s", field, message);
+    }
 }
@@ -0,0 +1,212 @@
+package com.example.maxintegersolver.adapter.controller.model;
+
+import com.example.maxintegersolver.domain.OperationDomain;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes successful {@link OperationResponse} envelopes from pre-encoded byte fragments.
+ *
+ * <p>The envelope of a successful response only changes in its {@code data}, so the fixed parts are
+ * encoded once and the numbers of every {@link OperationDomain} are written as ASCII digits straight
+ * into the output buffer. Lists are written element by element while they are iterated. The bytes
+ * produced are the same as those of the default Jackson serialization of {@link OperationResponse};
+ * responses of any other shape, such as errors or pages, are reported as not supported by
+ * {@link #canWrite(OperationResponse)} and must be serialized with Jackson.</p>
+ */
+public final class OperationResponseWriter {
+
+    private static final byte[] OK_ENVELOPE = envelope(HttpStatus.OK);
+    private static final byte[] CREATED_ENVELOPE = envelope(HttpStatus.CREATED);
+    private static final byte[] X_FIELD = ascii("{\"x\":");
+    private static final byte[] Y_FIELD = ascii(",\"y\":");
+    private static final byte[] N_FIELD = ascii(",\"n\":");
+    private static final byte[] RESULT_FIELD = ascii(",\"result\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] MIN_LONG = ascii(Long.toString(Long.MIN_VALUE));
+
+    /**
+     * Upper bound of the bytes written for a single operation.
+     */
+    private static final int MAX_OPERATION_SIZE = X_FIELD.length + Y_FIELD.length + N_FIELD.length + RESULT_FIELD.length + 4 * 20 + 2;
+    private static final int MAX_BUFFER_SIZE = 8192;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private OperationResponseWriter() {
+    }
+
+    /**
+     * Indicates whether the response can be written from the pre-encoded fragments: a successful
+     * {@code 200 OK} or {@code 201 Created} response whose data is an {@link OperationDomain} or a
+     * list of them.
+     *
+     * @param response The response to write.
+     * @return true when the response can be written by {@link #write(OperationResponse, OutputStream)}.
+     */
+    public static boolean canWrite(OperationResponse response) {
+        if (envelopeOf(response) == null) {
+            return false;
+        }
+        Object data = response.getData();
+        if (data instanceof OperationDomain) {
+            return true;
+        }
+        if (!(data instanceof List)) {
+            return false;
+        }
+        for (Object element : (List<?>) data) {
+            if (element != null && !(element instanceof OperationDomain)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the response to the given stream. The stream is neither flushed nor closed.
+     *
+     * @param response A response accepted by {@link #canWrite(OperationResponse)}.
+     * @param out The stream to write to.
+     * @throws IOException If the stream cannot be written.
+     */
+    public static void write(OperationResponse response, OutputStream out) throws IOException {
+        byte[] envelope = envelopeOf(response);
+        Object data = response.getData();
+        if (data instanceof List) {
+            List<?> operations = (List<?>) data;
+            Buffer buffer = new Buffer(out, Math.min(MAX_BUFFER_SIZE, envelope.length + 3 + operations.size() * (MAX_OPERATION_SIZE + 1)));
+            buffer.write(envelope);
+            buffer.write('[');
+            boolean first = true;
+            for (Object operation : operations) {
+                if (!first) {
+                    buffer.write(',');
+                }
+                first = false;
+                writeOperation(buffer, (OperationDomain) operation);
+            }
+            buffer.write(']');
+            buffer.write('}');
+            buffer.flush();
+        } else {
+            Buffer buffer = new Buffer(out, envelope.length + MAX_OPERATION_SIZE + 1);
+            buffer.write(envelope);
+            writeOperation(buffer, (OperationDomain) data);
+            buffer.write('}');
+            buffer.flush();
+        }
+    }
+
+    private static void writeOperation(Buffer buffer, OperationDomain operation) throws IOException {
+        if (operation == null) {
+            buffer.write(NULL);
+            return;
+        }
+        buffer.ensure(MAX_OPERATION_SIZE);
+        buffer.write(X_FIELD);
+        buffer.write(operation.getX());
+        buffer.write(Y_FIELD);
+        buffer.write(operation.getY());
+        buffer.write(N_FIELD);
+        buffer.write(operation.getN());
+        buffer.write(RESULT_FIELD);
+        buffer.write(operation.getResult());
+        buffer.write('}');
+    }
+
+    private static byte[] envelopeOf(OperationResponse response) {
+        if (!response.isStatus()) {
+            return null;
+        }
+        if (response.getCodeStatus() == HttpStatus.CREATED.value() && HttpStatus.CREATED.getReasonPhrase().equals(response.getMessage())) {
+            return CREATED_ENVELOPE;
+        }
+        if (response.getCodeStatus() == HttpStatus.OK.value() && HttpStatus.OK.getReasonPhrase().equals(response.getMessage())) {
+            return OK_ENVELOPE;
+        }
+        return null;
+    }
+
+    private static byte[] envelope(HttpStatus status) {
+        return ascii("{\"status\":true,\"code_status\":" + status.value() + ",\"message\":\"" + status.getReasonPhrase() + "\",\"data\":");
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Fixed size output buffer, flushed to the underlying stream whenever it cannot hold the next write.
+     */
+    private static final class Buffer {
+
+        private final OutputStream out;
+        private final byte[] bytes;
+        private int position;
+
+        Buffer(OutputStream out, int size) {
+            this.out = out;
+            this.bytes = new byte[size];
+        }
+
+        void ensure(int length) throws IOException {
+            if (position + length > bytes.length) {
+                flush();
+            }
+        }
+
+        void write(int value) throws IOException {
+            ensure(1);
+            bytes[position++] = (byte) value;
+        }
+
+        void write(byte[] value) throws IOException {
+            ensure(value.length);
+            System.arraycopy(value, 0, bytes, position, value.length);
+            position += value.length;
+        }
+
+        void write(Long value) throws IOException {
+            if (value == null) {
+                write(NULL);
+                return;
+            }
+            long remaining = value;
+            if (remaining == Long.MIN_VALUE) {
+                write(MIN_LONG);
+                return;
+            }
+            ensure(20);
+            if (remaining < 0) {
+                bytes[position++] = '-';
+                remaining = -remaining;
+            }
+            int end = position + digits(remaining);
+            for (int i = end - 1; i >= position; i--) {
+                bytes[i] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+            position = end;
+        }
+
+        void flush() throws IOException {
+            out.write(bytes, 0, position);
+            position = 0;
+        }
+
+        private static int digits(long value) {
+            int digits = 1;
+            while (value >= 10) {
+                value /= 10;
+                digits++;
+            }
+            return digits;
+        }
+    }
+}
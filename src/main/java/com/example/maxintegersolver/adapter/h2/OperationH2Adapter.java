@@ -6,31 +6,53 @@ import com.example.maxintegersolver.config.exception.DataBaseException;
 import com.example.maxintegersolver.config.exception.GenericException;
 import com.example.maxintegersolver.config.exception.SPError;
 import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 /**
  * Adapter class for handling operation-related database interactions.
  * Implements the OperationStorageRepository interface.
  * Provides methods to save and retrieve operation records using H2 database.
+ * It is the default storage, registered unless {@code operation.storage.type} selects another one.
  */
 @Component
+@ConditionalOnProperty(prefix = "operation.storage", name = "type", havingValue = "H2", matchIfMissing = true)
 public class OperationH2Adapter implements OperationStorageRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(OperationH2Adapter.class);
     private final OperationH2Repository repository;
+    private final EntityManager entityManager;
 
     /**
      * Constructor for dependency injection of the OperationH2Repository.
      * @param operationRepository The H2 repository interface for operations.
+     * @param entityManager The entity manager used to detach streamed entities.
      */
-    public OperationH2Adapter(OperationH2Repository operationRepository) {
+    public OperationH2Adapter(OperationH2Repository operationRepository, EntityManager entityManager) {
         this.repository = operationRepository;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -42,19 +64,47 @@ public class OperationH2Adapter implements OperationStorageRepository {
      */
     @Override
     @Transactional
+    @Timed(value = "operation.adapter", histogram = true)
     public OperationDomain save(OperationDomain domain) {
         try {
             logger.info("Attempting to save operation: {}", domain);
             OperationEntity entity = OperationEntity.fromDomain(domain);
-            OperationEntity savedEntity = repository.save(entity);
-            logger.info("Operation saved successfully: {}", savedEntity.toDomain());
-            return savedEntity.toDomain();
+            OperationDomain savedDomain = repository.save(entity).toDomain();
+            logger.info("Operation saved successfully: {}", savedDomain);
+            return savedDomain;
         } catch (Exception e) {
             logger.error("Error saving operation: {}", e.getMessage());
             throw new DataBaseException(SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
         }
     }
 
+    /**
+     * Saves a group of operation domain objects to the database in a single transaction.
+     *
+     * @param domains The operation domain objects to save.
+     * @return The saved operation domain objects, in the same order as the input.
+     * @throws DataBaseException if any database operation fails.
+     */
+    @Override
+    @Transactional
+    @Timed(value = "operation.adapter", histogram = true)
+    public List<OperationDomain> saveAll(List<OperationDomain> domains) {
+        try {
+            logger.info("Attempting to save {} operations", domains.size());
+            List<OperationEntity> entities = domains.stream()
+                    .map(OperationEntity::fromDomain)
+                    .collect(Collectors.toList());
+            List<OperationDomain> savedDomains = repository.saveAll(entities).stream()
+                    .map(OperationEntity::toDomain)
+                    .collect(Collectors.toList());
+            logger.info("{} operations saved successfully", savedDomains.size());
+            return savedDomains;
+        } catch (Exception e) {
+            logger.error("Error saving operations: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
     /**
      * Retrieves all operation domain objects from the database.
      *
@@ -63,6 +113,7 @@ public class OperationH2Adapter implements OperationStorageRepository {
      */
     @Override
     @Transactional(readOnly = true)
+    @Timed(value = "operation.adapter", histogram = true)
     public List<OperationDomain> getAll() {
         try {
             logger.info("Retrieving all operations from the database");
@@ -74,4 +125,146 @@ public class OperationH2Adapter implements OperationStorageRepository {
             throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
         }
     }
+
+    /**
+     * Retrieves a page of operation domain objects using keyset pagination on the identifier.
+     * One extra row is fetched to find out whether there is a next page without a count query.
+     *
+     * @param afterId The identifier of the last operation of the previous page, or {@code null} for the first page.
+     * @param limit The maximum number of operations of the page.
+     * @return The page of operation domain objects and the cursor of the next page.
+     * @throws DataBaseException if any database operation fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "operation.adapter", histogram = true)
+    public OperationPage getPage(Long afterId, int limit) {
+        try {
+            logger.info("Retrieving {} operations after id {} from the database", limit, afterId);
+            List<OperationEntity> entities = repository.findByIdGreaterThanOrderByIdAsc(afterId == null ? 0L : afterId, PageRequest.of(0, limit + 1));
+            boolean hasNext = entities.size() > limit;
+            List<OperationEntity> page = hasNext ? entities.subList(0, limit) : entities;
+            Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+            return new OperationPage(page.stream()
+                    .map(OperationEntity::toDomain)
+                    .collect(Collectors.toList()), nextCursor);
+        } catch (Exception e) {
+            logger.error("Error retrieving operations page: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Iterates over every operation in the database over a JDBC cursor. Each entity is detached
+     * once it has been handed to the consumer, so the persistence context does not grow with
+     * the size of the table.
+     *
+     * @param consumer The consumer receiving each operation domain object.
+     * @throws DataBaseException if any database operation fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "operation.adapter", histogram = true)
+    public void forEach(Consumer<OperationDomain> consumer) {
+        try (Stream<OperationEntity> entities = repository.streamAll()) {
+            logger.info("Streaming all operations from the database");
+            entities.forEach(entity -> {
+                consumer.accept(entity.toDomain());
+                entityManager.detach(entity);
+            });
+        } catch (Exception e) {
+            logger.error("Error streaming operations: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves the operations matching a query with a single select, limited in the database. The ranges
+     * of x and y are served by the index on {@code (x, y)}, and those of n and result by their own indexes;
+     * see {@link OperationEntity}.
+     *
+     * @param query The ranges, order and maximum number of the operations to retrieve.
+     * @return The matching operation domain objects, in the order of the query.
+     * @throws DataBaseException if any database operation fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "operation.adapter", histogram = true)
+    public List<OperationDomain> find(OperationQuery query) {
+        try {
+            logger.info("Retrieving operations matching {} from the database", query);
+            CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+            CriteriaQuery<OperationEntity> criteria = builder.createQuery(OperationEntity.class);
+            Root<OperationEntity> operation = criteria.from(OperationEntity.class);
+
+            List<Predicate> predicates = new ArrayList<>();
+            addRange(builder, operation.get("x"), query.getXMin(), query.getXMax(), predicates);
+            addRange(builder, operation.get("y"), query.getYMin(), query.getYMax(), predicates);
+            addRange(builder, operation.get("n"), query.getNMin(), query.getNMax(), predicates);
+            addRange(builder, operation.get("result"), query.getResultMin(), query.getResultMax(), predicates);
+
+            List<Order> order = new ArrayList<>(2);
+            if (query.getSort() != OperationQuery.Sort.ID) {
+                order.add(order(builder, operation.get(attribute(query.getSort())), query.isDescending()));
+            }
+            order.add(order(builder, operation.get("id"), query.isDescending()));
+
+            criteria.select(operation).where(predicates.toArray(new Predicate[0])).orderBy(order);
+            return entityManager.createQuery(criteria)
+                    .setMaxResults(query.getLimit())
+                    .setHint(HINT_READONLY, true)
+                    .getResultList().stream()
+                    .map(OperationEntity::toDomain)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            logger.error("Error retrieving operations matching a query: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Counts the operations stored in the database.
+     *
+     * @return The number of stored operations.
+     * @throws DataBaseException if any database operation fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "operation.adapter", histogram = true)
+    public long count() {
+        try {
+            return repository.count();
+        } catch (Exception e) {
+            logger.error("Error counting operations: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    private static void addRange(CriteriaBuilder builder, Path<Long> column, Long min, Long max, List<Predicate> predicates) {
+        if (min != null) {
+            predicates.add(builder.greaterThanOrEqualTo(column, min));
+        }
+        if (max != null) {
+            predicates.add(builder.lessThanOrEqualTo(column, max));
+        }
+    }
+
+    private static Order order(CriteriaBuilder builder, Path<?> column, boolean descending) {
+        return descending ? builder.desc(column) : builder.asc(column);
+    }
+
+    private static String attribute(OperationQuery.Sort sort) {
+        switch (sort) {
+            case X:
+                return "x";
+            case Y:
+                return "y";
+            case N:
+                return "n";
+            case RESULT:
+                return "result";
+            default:
+                return "id";
+        }
+    }
 }
@@ -1,14 +1,46 @@
 package com.example.maxintegersolver.adapter.h2;
 
 import com.example.maxintegersolver.adapter.h2.models.OperationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 /**
  * Spring Data JPA repository for {@link OperationEntity} instances.
  * The repository is used for standard data access operations on Operation entities.
  */
 @Repository
 public interface OperationH2Repository extends JpaRepository<OperationEntity, Long> {
-    // In the future, if you need to implement custom queries, they can be added here.
+
+    /**
+     * Retrieves the operations with an identifier greater than the given one, ordered by identifier.
+     * Used for keyset pagination, so the database seeks directly to the start of the page.
+     *
+     * @param id       The identifier of the last operation of the previous page.
+     * @param pageable The size of the page; the page number is expected to be zero.
+     * @return The operations of the page.
+     */
+    List<OperationEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Streams every operation ordered by identifier over a JDBC cursor. The stream must be
+     * consumed and closed inside a transaction.
+     *
+     * @return A {@link Stream} of all the operations.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select o from OperationEntity o order by o.id")
+    Stream<OperationEntity> streamAll();
 }
@@ -2,12 +2,22 @@ package com.example.maxintegersolver.adapter.h2.models;
 
 import com.example.maxintegersolver.domain.OperationDomain;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 
 /**
  * Entity class representing an operation record in the database.
  * Maps the 'operations' table columns to fields in this class.
+ *
+ * <p>Identifiers come from the 'operations_seq' sequence through {@link PooledSequenceGenerator}, which
+ * reserves them in blocks so that inserts can be sent to the database in JDBC batches.</p>
+ *
+ * <p>The indexes serve the range queries of the results: {@code (x, y)} the lookups by modulus, alone or
+ * with a remainder, and {@code n} and {@code result} their own ranges. Every index adds work to each
+ * insert, so only these three are kept.</p>
  */
 @Getter
 @Setter
@@ -15,11 +25,19 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "operations")
+@Table(name = "operations", indexes = {
+        @Index(name = "idx_operations_x_y", columnList = "x, y"),
+        @Index(name = "idx_operations_n", columnList = "n"),
+        @Index(name = "idx_operations_result", columnList = "result")
+})
 public class OperationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "operations_seq")
+    @GenericGenerator(
+            name = "operations_seq",
+            strategy = "com.example.maxintegersolver.adapter.h2.models.PooledSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "operations_seq"))
     private Long id;
 
     @Column(nullable = false)
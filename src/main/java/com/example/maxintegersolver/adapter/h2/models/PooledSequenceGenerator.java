@@ -0,0 +1,40 @@
+package com.example.maxintegersolver.adapter.h2.models;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Sequence identifier generator whose allocation size is read from the Hibernate settings instead of
+ * being fixed in the mapping.
+ *
+ * <p>Identifiers are reserved in blocks of the size given by {@value #ALLOCATION_SIZE_SETTING}
+ * with the {@code pooled-lo} optimizer, so Hibernate only reads the sequence once per block and inserts
+ * can be grouped into JDBC batches. The setting is provided through {@code spring.jpa.properties}.</p>
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    /**
+     * Hibernate setting holding the number of identifiers reserved on each sequence call.
+     */
+    public static final String ALLOCATION_SIZE_SETTING = "hibernate.id.operations.allocation_size";
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private static final String POOLED_LO_OPTIMIZER = "pooled-lo";
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        int allocationSize = ConfigurationHelper.getInt(ALLOCATION_SIZE_SETTING,
+                serviceRegistry.getService(ConfigurationService.class).getSettings(),
+                DEFAULT_ALLOCATION_SIZE);
+        params.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        params.setProperty(OPT_PARAM, POOLED_LO_OPTIMIZER);
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.maxintegersolver.adapter.log;
+
+/**
+ * Enumerates when the {@link OperationLogAdapter} forces the appended records to the storage device.
+ *
+ * <ul>
+ *     <li>ALWAYS: Every save returns once its records are forced. Concurrent saves share a single force (group commit).</li>
+ *     <li>INTERVAL: A background thread forces the appended records periodically; a crash loses at most one interval.</li>
+ *     <li>NONE: The operating system writes the mapped pages back on its own; a crash of the machine may lose any unforced record.</li>
+ * </ul>
+ *
+ * Every policy forces the records when a segment is full and when the adapter is closed.
+ */
+public enum FsyncPolicy {
+    ALWAYS,
+    INTERVAL,
+    NONE
+}
@@ -0,0 +1,621 @@
+package com.example.maxintegersolver.adapter.log;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import com.example.maxintegersolver.config.exception.DataBaseException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable, append-only implementation of the {@link OperationStorageRepository} backed by memory-mapped
+ * segment files.
+ *
+ * <p>Every operation is a fixed-size record of {@value #RECORD_SIZE} bytes: {@code x}, {@code y},
+ * {@code n} and {@code result} as little-endian 64-bit values, a magic number and a CRC-32C checksum of
+ * the preceding bytes. Records are appended to segment files of a fixed number of records, named after
+ * the sequence number of their first record, and a new segment is started when the current one is full.
+ * The identifier of an operation is its sequence number plus one, which is also the cursor of
+ * {@link #getPage(Long, int)}.</p>
+ *
+ * <p>Writers append under a lock and publish the new number of records once they are written, so
+ * readers never take the lock. When the records are forced to the device depends on the
+ * {@link FsyncPolicy}; with {@link FsyncPolicy#ALWAYS} the writers waiting for a force share it, so the
+ * number of forces grows with the number of waiting groups rather than with the number of saves.</p>
+ *
+ * <p>Records are published before they are forced, so when a force fails the records of the failed save
+ * are already visible and may still reach the device. A failed force therefore puts the log in a failed
+ * state: that save and every later append are rejected, so a client retrying the failed save cannot
+ * duplicate its records, and the log accepts appends again once it is restarted and recovered.</p>
+ *
+ * <p>On {@link #start()} the segments of the directory are validated in order and the log ends at the
+ * first record with a wrong magic number or checksum, the tail torn by a crash. The rest of that segment
+ * is cleared so that it can be reused, and any later segment is renamed with the {@value #CORRUPT_SUFFIX}
+ * suffix instead of being deleted.</p>
+ */
+public class OperationLogAdapter implements OperationStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperationLogAdapter.class);
+
+    /**
+     * The number of bytes of a record: the four 64-bit values, the magic number and the checksum.
+     */
+    public static final int RECORD_SIZE = 4 * Long.BYTES + 2 * Integer.BYTES;
+
+    /**
+     * The largest number of records of a segment, whose size in bytes must fit in a single mapping.
+     */
+    public static final int MAX_SEGMENT_RECORDS = Integer.MAX_VALUE / RECORD_SIZE;
+
+    static final String SEGMENT_SUFFIX = ".log";
+    static final String CORRUPT_SUFFIX = ".corrupt";
+    static final int MAGIC = 0x4F504C47;
+
+    private static final int MAGIC_OFFSET = 4 * Long.BYTES;
+    private static final int CHECKSUM_OFFSET = MAGIC_OFFSET + Integer.BYTES;
+    private static final String FLUSHER_NAME = "operation-log-flusher";
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final FsyncPolicy fsyncPolicy;
+    private final Duration fsyncInterval;
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+
+    /**
+     * The record being appended and its checksum, only used while holding the append lock.
+     */
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C checksum = new CRC32C();
+
+    /**
+     * The mapped segments, in sequence order. The array is replaced when a segment is added, and it is
+     * published before the records written to the segment.
+     */
+    private volatile Segment[] segments = new Segment[0];
+
+    /**
+     * The number of records completely written and visible to readers.
+     */
+    private volatile long size;
+
+    /**
+     * The number of records known to be forced to the device, guarded by the sync lock.
+     */
+    private long durable;
+
+    /**
+     * The failure of the first force that failed, after which appends are rejected.
+     */
+    private volatile RuntimeException failure;
+
+    private ScheduledExecutorService flusher;
+
+    /**
+     * Creates a log adapter. The segments of the directory are not read until {@link #start()}.
+     *
+     * @param directory      The directory holding the segment files, created when it does not exist.
+     * @param segmentRecords The number of records of each new segment.
+     * @param fsyncPolicy    When the appended records are forced to the device.
+     * @param fsyncInterval  The interval between forces with {@link FsyncPolicy#INTERVAL}.
+     */
+    public OperationLogAdapter(Path directory, int segmentRecords, FsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+        if (segmentRecords <= 0 || segmentRecords > MAX_SEGMENT_RECORDS) {
+            throw new IllegalArgumentException("The number of records of a segment must be between 1 and " + MAX_SEGMENT_RECORDS + ": " + segmentRecords);
+        }
+        if (fsyncPolicy == FsyncPolicy.INTERVAL && (fsyncInterval == null || fsyncInterval.isZero() || fsyncInterval.isNegative())) {
+            throw new IllegalArgumentException("The fsync interval must be positive: " + fsyncInterval);
+        }
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncInterval = fsyncInterval;
+    }
+
+    /**
+     * Recovers the records of the existing segments and starts the periodic force when the policy requires it.
+     *
+     * @throws DataBaseException if the directory or its segments cannot be read.
+     */
+    public void start() {
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            logger.error("Error recovering the operation log in {}: {}", directory, e.getMessage());
+            throw new DataBaseException(SPError.DATABASE_CONNECTION_ERROR.getErrorCode(), SPError.DATABASE_CONNECTION_ERROR.getErrorMessage(), e);
+        }
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, FLUSHER_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = fsyncInterval.toNanos();
+            flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Stops the periodic force and forces every appended record.
+     */
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        try {
+            sync(size);
+        } catch (IOException e) {
+            logger.error("Error forcing the operation log on close: {}", e.getMessage());
+        }
+        logger.info("Closed the operation log in {} with {} records", directory, size);
+    }
+
+    /**
+     * Appends an operation to the log.
+     *
+     * @param domain The operation domain object to save.
+     * @return The saved operation domain object.
+     * @throws DataBaseException if the operation cannot be appended or forced, or a previous force failed.
+     *                           When the force fails, the operation is visible even though it was rejected.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public OperationDomain save(OperationDomain domain) {
+        try {
+            long end;
+            synchronized (appendLock) {
+                ensureWritable();
+                long sequence = size;
+                append(sequence, domain);
+                end = sequence + 1;
+                size = end;
+            }
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                sync(end);
+            }
+            return domain;
+        } catch (Exception e) {
+            logger.error("Error saving operation: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Appends a group of operations to the log. They become visible to readers all at once.
+     *
+     * @param domains The operation domain objects to save.
+     * @return The saved operation domain objects, in the same order as the input.
+     * @throws DataBaseException if the operations cannot be appended or forced, or a previous force failed.
+     *                           When the force fails, the operations are visible even though they were rejected.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public List<OperationDomain> saveAll(List<OperationDomain> domains) {
+        try {
+            long end;
+            synchronized (appendLock) {
+                ensureWritable();
+                long sequence = size;
+                for (OperationDomain domain : domains) {
+                    append(sequence++, domain);
+                }
+                end = sequence;
+                size = end;
+            }
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                sync(end);
+            }
+            return domains;
+        } catch (Exception e) {
+            logger.error("Error saving operations: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves every record of the log with a sequential scan of the segments.
+     *
+     * @return A list of operation domain objects, in append order.
+     * @throws DataBaseException if the log cannot be read.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public List<OperationDomain> getAll() {
+        try {
+            long records = size;
+            List<OperationDomain> domains = new ArrayList<>((int) Math.min(records, Integer.MAX_VALUE - 8));
+            scan(0, records, domains::add);
+            return domains;
+        } catch (Exception e) {
+            logger.error("Error retrieving operations: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves a page of operations. Since identifiers are sequence numbers, the page starts right at
+     * the record after the cursor without any search.
+     *
+     * @param afterId The identifier of the last operation of the previous page, or {@code null} for the first page.
+     * @param limit The maximum number of operations of the page.
+     * @return The page of operation domain objects and the cursor of the next page.
+     * @throws DataBaseException if the log cannot be read.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public OperationPage getPage(Long afterId, int limit) {
+        try {
+            long records = size;
+            long from = Math.min(afterId == null ? 0L : Math.max(afterId, 0L), records);
+            long to = Math.min(records, from + limit);
+            if (from == to) {
+                return new OperationPage(Collections.emptyList(), null);
+            }
+            List<OperationDomain> domains = new ArrayList<>((int) (to - from));
+            scan(from, to, domains::add);
+            return new OperationPage(domains, to < records ? to : null);
+        } catch (Exception e) {
+            logger.error("Error retrieving operations page: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Iterates over the records appended when the iteration starts, one segment at a time.
+     *
+     * @param consumer The consumer receiving each operation domain object.
+     * @throws DataBaseException if the log cannot be read.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public void forEach(Consumer<OperationDomain> consumer) {
+        try {
+            scan(0, size, consumer);
+        } catch (Exception e) {
+            logger.error("Error streaming operations: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves the operations matching a query with a scan of the segments. The values of each record are
+     * compared without creating any object, so only the matching records are materialized. Queries in
+     * storage order stop as soon as they have enough results, scanning from the newest record when they
+     * are descending.
+     *
+     * @param query The ranges, order and maximum number of the operations to retrieve.
+     * @return The matching operation domain objects, in the order of the query.
+     * @throws DataBaseException if the log cannot be read.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public List<OperationDomain> find(OperationQuery query) {
+        try {
+            long records = size;
+            Segment[] current = segments;
+            boolean backwards = query.isNewestFirst();
+            OperationQuery.Selection selection = query.select();
+            int index = backwards && records > 0 ? locate(current, records - 1) : 0;
+            for (long i = 0; i < records && !selection.isComplete(); i++) {
+                long sequence = backwards ? records - 1 - i : i;
+                Segment segment = current[index];
+                if (sequence < segment.first) {
+                    segment = current[--index];
+                } else if (sequence >= segment.end()) {
+                    segment = current[++index];
+                }
+                int offset = segment.offset(sequence);
+                MappedByteBuffer buffer = segment.buffer;
+                long x = buffer.getLong(offset);
+                long y = buffer.getLong(offset + Long.BYTES);
+                long n = buffer.getLong(offset + 2 * Long.BYTES);
+                long result = buffer.getLong(offset + 3 * Long.BYTES);
+                if (query.matches(x, y, n, result)) {
+                    selection.offer(new OperationDomain(x, y, n, result));
+                }
+            }
+            return selection.toList();
+        } catch (Exception e) {
+            logger.error("Error retrieving operations matching a query: {}", e.getMessage());
+            throw new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Counts the records of the log.
+     *
+     * @return The number of stored operations.
+     */
+    @Override
+    @Timed(value = "operation.adapter", histogram = true)
+    public long count() {
+        return size;
+    }
+
+    /**
+     * Forces every record appended so far, logging instead of failing. It is run by the flusher thread,
+     * which stops forcing once a force has failed.
+     */
+    private void flush() {
+        if (failure != null) {
+            return;
+        }
+        try {
+            sync(size);
+        } catch (Exception e) {
+            logger.error("Error forcing the operation log: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Forces the records up to the given sequence number, unless a previous force already covered them.
+     *
+     * A single thread forces at a time, and it forces every record published when it starts, so the
+     * threads waiting for it usually find their records already durable. Once a force has failed, records
+     * that are not durable yet are never reported as durable.
+     */
+    private void sync(long end) throws IOException {
+        synchronized (syncLock) {
+            if (durable >= end) {
+                return;
+            }
+            ensureWritable();
+            long target = size;
+            Segment[] current = segments;
+            if (current.length > 0) {
+                force(current[current.length - 1].buffer);
+            }
+            durable = target;
+        }
+    }
+
+    /**
+     * Forces a segment, putting the log in the failed state when the force fails.
+     */
+    private void force(MappedByteBuffer buffer) {
+        try {
+            buffer.force();
+        } catch (RuntimeException e) {
+            failure = e;
+            logger.error("The operation log rejects appends after a failed force: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Fails when a previous force failed, since the records appended since then could not be made durable.
+     */
+    private void ensureWritable() throws IOException {
+        RuntimeException current = failure;
+        if (current != null) {
+            throw new IOException("The operation log failed to force its records and rejects appends until it is restarted", current);
+        }
+    }
+
+    /**
+     * Writes the record of an operation, starting a segment when the current one is full. It is only
+     * called while holding the append lock.
+     */
+    private void append(long sequence, OperationDomain domain) throws IOException {
+        Segment[] current = segments;
+        Segment segment = current.length == 0 ? null : current[current.length - 1];
+        if (segment == null || sequence == segment.end()) {
+            if (segment != null) {
+                force(segment.buffer);
+            }
+            segment = createSegment(sequence);
+            current = Arrays.copyOf(current, current.length + 1);
+            current[current.length - 1] = segment;
+            segments = current;
+        }
+        record.putLong(0, domain.getX());
+        record.putLong(Long.BYTES, domain.getY());
+        record.putLong(2 * Long.BYTES, domain.getN());
+        record.putLong(3 * Long.BYTES, domain.getResult());
+        record.putInt(MAGIC_OFFSET, MAGIC);
+        checksum.reset();
+        checksum.update(record.array(), 0, CHECKSUM_OFFSET);
+        record.putInt(CHECKSUM_OFFSET, (int) checksum.getValue());
+        segment.writer.position(segment.offset(sequence));
+        segment.writer.put(record.array());
+    }
+
+    /**
+     * Hands the records between two sequence numbers to the consumer, reading each segment sequentially.
+     */
+    private void scan(long from, long to, Consumer<OperationDomain> consumer) {
+        Segment[] current = segments;
+        int index = locate(current, from);
+        long sequence = from;
+        while (sequence < to) {
+            Segment segment = current[index++];
+            long end = Math.min(to, segment.end());
+            MappedByteBuffer buffer = segment.buffer;
+            for (; sequence < end; sequence++) {
+                int offset = segment.offset(sequence);
+                consumer.accept(new OperationDomain(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES),
+                        buffer.getLong(offset + 2 * Long.BYTES), buffer.getLong(offset + 3 * Long.BYTES)));
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the segment holding the given sequence number.
+     */
+    private static int locate(Segment[] current, long sequence) {
+        int low = 0;
+        int high = current.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (current[middle].first <= sequence) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Maps the segments of the directory in order and finds the end of the log.
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        List<Segment> recovered = new ArrayList<>();
+        long expected = 0;
+        boolean torn = false;
+        int discarded = 0;
+        for (Path path : files) {
+            int capacity = (int) Math.min(Files.size(path) / RECORD_SIZE, MAX_SEGMENT_RECORDS);
+            if (!torn && (firstSequence(path) != expected || capacity == 0)) {
+                logger.warn("The operation log segment {} does not continue at record {}", path, expected);
+                torn = true;
+            }
+            if (torn) {
+                Files.move(path, path.resolveSibling(path.getFileName() + "." + System.currentTimeMillis() + CORRUPT_SUFFIX));
+                discarded++;
+                continue;
+            }
+            Segment segment = mapSegment(path, expected, capacity);
+            recovered.add(segment);
+            int valid = validRecords(segment);
+            expected += valid;
+            if (valid < segment.capacity) {
+                torn = true;
+                clearFrom(segment, valid);
+            }
+        }
+        segments = recovered.toArray(new Segment[0]);
+        size = expected;
+        durable = expected;
+        if (discarded > 0) {
+            logger.warn("Discarded {} operation log segments after the torn tail", discarded);
+        }
+        logger.info("Recovered {} records from {} segments of the operation log in {}", expected, recovered.size(), directory);
+    }
+
+    /**
+     * Returns the number of leading records of a segment with a valid magic number and checksum.
+     */
+    private static int validRecords(Segment segment) {
+        ByteBuffer view = segment.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        CRC32C crc = new CRC32C();
+        for (int index = 0; index < segment.capacity; index++) {
+            int offset = index * RECORD_SIZE;
+            if (view.getInt(offset + MAGIC_OFFSET) != MAGIC) {
+                return index;
+            }
+            crc.reset();
+            view.limit(offset + CHECKSUM_OFFSET).position(offset);
+            crc.update(view);
+            view.limit(view.capacity());
+            if ((int) crc.getValue() != view.getInt(offset + CHECKSUM_OFFSET)) {
+                logger.warn("Checksum mismatch of record {} of the operation log", segment.first + index);
+                return index;
+            }
+        }
+        return segment.capacity;
+    }
+
+    /**
+     * Zeroes the bytes of a segment from a record on, so stale records past the tail are never
+     * read back once the tail is overwritten, and forces them.
+     */
+    private static void clearFrom(Segment segment, int index) {
+        MappedByteBuffer buffer = segment.buffer;
+        int limit = segment.capacity * RECORD_SIZE;
+        boolean dirty = false;
+        for (int offset = index * RECORD_SIZE; offset < limit; offset += Long.BYTES) {
+            if (buffer.getLong(offset) != 0) {
+                buffer.putLong(offset, 0);
+                dirty = true;
+            }
+        }
+        if (dirty) {
+            buffer.force();
+        }
+    }
+
+    private Segment createSegment(long first) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", first, SEGMENT_SUFFIX));
+        logger.info("Starting operation log segment {}", path);
+        return mapSegment(path, first, segmentRecords);
+    }
+
+    private static Segment mapSegment(Path path, long first, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return new Segment(first, capacity, buffer);
+        }
+    }
+
+    private static long firstSequence(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A mapped segment file holding the records from sequence number {@code first} on.
+     */
+    private static final class Segment {
+
+        final long first;
+        final int capacity;
+        final MappedByteBuffer buffer;
+
+        /**
+         * A view of the buffer with its own position, only used while holding the append lock.
+         */
+        final ByteBuffer writer;
+
+        Segment(long first, int capacity, MappedByteBuffer buffer) {
+            this.first = first;
+            this.capacity = capacity;
+            this.buffer = buffer;
+            this.writer = buffer.duplicate();
+        }
+
+        long end() {
+            return first + capacity;
+        }
+
+        int offset(long sequence) {
+            return (int) (sequence - first) * RECORD_SIZE;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.maxintegersolver.adapter.r2dbc;
+
+import com.example.maxintegersolver.application.port.out.reactive.ReactiveOperationStorageRepository;
+import com.example.maxintegersolver.config.exception.DataBaseException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive adapter for handling operation-related database interactions through R2DBC.
+ * Implements the {@link ReactiveOperationStorageRepository} interface over the same 'operations'
+ * table and 'operations_seq' sequence used by the JPA adapter, so both stacks see the same data.
+ *
+ * <p>Identifiers are taken directly from the sequence. Since the JPA adapter only uses the blocks
+ * that start at the values it reads, the identifiers of both adapters never collide.</p>
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class OperationR2dbcAdapter implements ReactiveOperationStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperationR2dbcAdapter.class);
+
+    private static final String INSERT =
+            "INSERT INTO operations (id, x, y, n, result) VALUES (NEXT VALUE FOR operations_seq, $1, $2, $3, $4)";
+    private static final String SELECT_ALL =
+            "SELECT id, x, y, n, result FROM operations ORDER BY id";
+    private static final String SELECT_PAGE =
+            "SELECT id, x, y, n, result FROM operations WHERE id > :afterId ORDER BY id LIMIT :limit";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructor for dependency injection of the {@link DatabaseClient}.
+     *
+     * @param databaseClient The reactive client bound to the H2 connection pool.
+     */
+    public OperationR2dbcAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Saves an operation domain object to the database.
+     *
+     * @param domain The operation domain object to save.
+     * @return A {@link Mono} emitting the saved operation domain object, or failing with a {@link DataBaseException}.
+     */
+    @Override
+    public Mono<OperationDomain> save(OperationDomain domain) {
+        logger.info("Attempting to save operation: {}", domain);
+        return databaseClient.sql(INSERT)
+                .bind(0, domain.getX())
+                .bind(1, domain.getY())
+                .bind(2, domain.getN())
+                .bind(3, domain.getResult())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(domain)
+                .onErrorMap(this::saveError);
+    }
+
+    /**
+     * Saves a group of operation domain objects with a single multi-binding insert statement.
+     *
+     * @param domains The operation domain objects to save.
+     * @return A {@link Flux} emitting the saved operation domain objects, or failing with a {@link DataBaseException}.
+     */
+    @Override
+    public Flux<OperationDomain> saveAll(List<OperationDomain> domains) {
+        logger.info("Attempting to save {} operations", domains.size());
+        return databaseClient.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(INSERT);
+                    for (int i = 0; i < domains.size(); i++) {
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        OperationDomain domain = domains.get(i);
+                        statement.bind(0, domain.getX())
+                                .bind(1, domain.getY())
+                                .bind(2, domain.getN())
+                                .bind(3, domain.getResult());
+                    }
+                    return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+                })
+                .thenMany(Flux.fromIterable(domains))
+                .onErrorMap(this::saveError);
+    }
+
+    /**
+     * Retrieves all operation domain objects from the database, in storage order.
+     *
+     * @return A {@link Flux} emitting the operation domain objects as they are read.
+     */
+    @Override
+    public Flux<OperationDomain> getAll() {
+        logger.info("Retrieving all operations from the database");
+        return databaseClient.sql(SELECT_ALL)
+                .map((row, metadata) -> toDomain(row))
+                .all()
+                .onErrorMap(this::findError);
+    }
+
+    /**
+     * Retrieves the operations stored after the given identifier, fetching one extra row to
+     * know whether there is a next page.
+     *
+     * @param afterId The identifier of the last operation of the previous page, or {@code null} for the first page.
+     * @param limit   The maximum number of operations of the page.
+     * @return A {@link Mono} emitting the page of operation domain objects and the cursor of the next page.
+     */
+    @Override
+    public Mono<OperationPage> getPage(Long afterId, int limit) {
+        logger.info("Retrieving {} operations after id {} from the database", limit, afterId);
+        return databaseClient.sql(SELECT_PAGE)
+                .bind("afterId", afterId == null ? 0L : afterId)
+                .bind("limit", limit + 1)
+                .map((row, metadata) -> (Map.Entry<Long, OperationDomain>)
+                        new AbstractMap.SimpleImmutableEntry<>(row.get("id", Long.class), toDomain(row)))
+                .all()
+                .collectList()
+                .map(rows -> {
+                    boolean hasNext = rows.size() > limit;
+                    List<Map.Entry<Long, OperationDomain>> page = hasNext ? rows.subList(0, limit) : rows;
+                    Long nextCursor = hasNext ? page.get(page.size() - 1).getKey() : null;
+                    return new OperationPage(page.stream()
+                            .map(Map.Entry::getValue)
+                            .collect(Collectors.toList()), nextCursor);
+                })
+                .onErrorMap(this::findError);
+    }
+
+    private static OperationDomain toDomain(Row row) {
+        return new OperationDomain(
+                row.get("x", Long.class),
+                row.get("y", Long.class),
+                row.get("n", Long.class),
+                row.get("result", Long.class));
+    }
+
+    private Throwable saveError(Throwable e) {
+        logger.error("Error saving operations: {}", e.getMessage());
+        return new DataBaseException(SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+    }
+
+    private Throwable findError(Throwable e) {
+        logger.error("Error retrieving operations: {}", e.getMessage());
+        return new DataBaseException(SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+    }
+}
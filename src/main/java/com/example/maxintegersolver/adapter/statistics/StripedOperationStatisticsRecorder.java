@@ -0,0 +1,176 @@
+package com.example.maxintegersolver.adapter.statistics;
+
+import com.example.maxintegersolver.application.port.out.OperationStatisticsRecorder;
+import com.example.maxintegersolver.domain.OperationStatistics;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adapter class implementing the {@link OperationStatisticsRecorder} port with lock-free striped counters.
+ * Every aggregate is a {@link LongAdder}, a {@link DoubleAdder} or a {@link LongAccumulator}, which spread concurrent updates over
+ * several cells instead of contending on a single value, so recording an operation costs a few uncontended
+ * additions whatever the number of calculating threads, and a snapshot costs the same whatever the number
+ * of recorded operations.
+ *
+ * <p>The count per modulus tracks at most about {@code maxTrackedModuli} distinct moduli, the first ones
+ * recorded; the operations of any other modulus are only counted as untracked. The throughput is kept in
+ * a ring of {@code throughputMinutes} minutes, each replaced by the next minute that maps to its slot. The
+ * results are summed as doubles for the mean, which cannot overflow like a sum of longs.</p>
+ *
+ * <p>Each count is exact, but a snapshot reads them one after the other while operations are still being
+ * recorded, so the aggregates of a snapshot may differ by the operations recorded meanwhile.</p>
+ */
+public class StripedOperationStatisticsRecorder implements OperationStatisticsRecorder {
+
+    /**
+     * Number of buckets of the result histogram: one for 0 and one per bit length of a positive result.
+     */
+    static final int HISTOGRAM_BUCKETS = Long.SIZE;
+
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    private final int maxTrackedModuli;
+    private final Clock clock;
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder resultSum = new DoubleAdder();
+    private final LongAccumulator minResult = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxResult = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private final ConcurrentHashMap<Long, LongAdder> countByX = new ConcurrentHashMap<>();
+    private final LongAdder untrackedXCount = new LongAdder();
+    private final LongAdder[] histogram = new LongAdder[HISTOGRAM_BUCKETS];
+    private final AtomicReferenceArray<Minute> minutes;
+
+    /**
+     * Creates the recorder.
+     *
+     * @param maxTrackedModuli  The maximum number of distinct moduli counted one by one.
+     * @param throughputMinutes The number of recent minutes whose throughput is kept.
+     * @param clock             The clock the minute of each operation is read from.
+     * @throws IllegalArgumentException If the number of moduli is negative or the number of minutes is not positive.
+     */
+    public StripedOperationStatisticsRecorder(int maxTrackedModuli, int throughputMinutes, Clock clock) {
+        if (maxTrackedModuli < 0) {
+            throw new IllegalArgumentException("The maximum number of tracked moduli cannot be negative: " + maxTrackedModuli);
+        }
+        if (throughputMinutes < 1) {
+            throw new IllegalArgumentException("The throughput must be kept for at least one minute: " + throughputMinutes);
+        }
+        this.maxTrackedModuli = maxTrackedModuli;
+        this.clock = clock;
+        this.minutes = new AtomicReferenceArray<>(throughputMinutes);
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void record(long x, long result) {
+        count.increment();
+        resultSum.add(result);
+        minResult.accumulate(result);
+        maxResult.accumulate(result);
+        histogram[bucket(result)].increment();
+        countOf(x).increment();
+        minute(clock.millis() / MINUTE_MILLIS).count.increment();
+    }
+
+    @Override
+    public OperationStatistics snapshot() {
+        long total = count.sum();
+        Map<Long, Long> byX = new TreeMap<>();
+        countByX.forEach((x, adder) -> byX.put(x, adder.sum()));
+
+        List<OperationStatistics.ResultBucket> buckets = new ArrayList<>();
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            long bucketCount = histogram[i].sum();
+            if (bucketCount > 0) {
+                buckets.add(new OperationStatistics.ResultBucket(lowerBound(i), upperBound(i), bucketCount));
+            }
+        }
+
+        long current = clock.millis() / MINUTE_MILLIS;
+        List<OperationStatistics.MinuteCount> throughput = new ArrayList<>();
+        for (int i = 0; i < minutes.length(); i++) {
+            Minute minute = minutes.get(i);
+            if (minute != null && minute.minute > current - minutes.length() && minute.minute <= current) {
+                throughput.add(new OperationStatistics.MinuteCount(minute.minute * MINUTE_MILLIS, minute.count.sum()));
+            }
+        }
+        throughput.sort(Comparator.comparingLong(OperationStatistics.MinuteCount::getMinuteStart));
+
+        return OperationStatistics.builder()
+                .count(total)
+                .minResult(total == 0 ? null : minResult.get())
+                .maxResult(total == 0 ? null : maxResult.get())
+                .meanResult(total == 0 ? null : resultSum.sum() / total)
+                .countByX(byX)
+                .untrackedXCount(untrackedXCount.sum())
+                .resultHistogram(buckets)
+                .throughput(throughput)
+                .build();
+    }
+
+    /**
+     * Returns the counter of a modulus, creating it while fewer than {@code maxTrackedModuli} moduli are tracked.
+     * The limit is checked without locking, so concurrent first operations of new moduli may exceed it slightly.
+     */
+    private LongAdder countOf(long x) {
+        LongAdder adder = countByX.get(x);
+        if (adder != null) {
+            return adder;
+        }
+        if (countByX.size() >= maxTrackedModuli) {
+            return untrackedXCount;
+        }
+        return countByX.computeIfAbsent(x, key -> new LongAdder());
+    }
+
+    /**
+     * Returns the counter of a minute, replacing the older minute held by its slot of the ring. The slot is
+     * replaced with a compare-and-set, so concurrent operations of a new minute agree on a single counter.
+     */
+    private Minute minute(long epochMinute) {
+        int slot = (int) Math.floorMod(epochMinute, (long) minutes.length());
+        while (true) {
+            Minute minute = minutes.get(slot);
+            if (minute != null && minute.minute >= epochMinute) {
+                return minute;
+            }
+            Minute next = new Minute(epochMinute);
+            if (minutes.compareAndSet(slot, minute, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static int bucket(long result) {
+        return result <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(result);
+    }
+
+    private static long lowerBound(int bucket) {
+        return bucket == 0 ? 0 : 1L << (bucket - 1);
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : (1L << (bucket - 1)) + ((1L << (bucket - 1)) - 1);
+    }
+
+    private static final class Minute {
+        private final long minute;
+        private final LongAdder count = new LongAdder();
+
+        private Minute(long minute) {
+            this.minute = minute;
+        }
+    }
+}
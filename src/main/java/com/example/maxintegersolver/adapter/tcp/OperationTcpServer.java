@@ -0,0 +1,258 @@
+package com.example.maxintegersolver.adapter.tcp;
+
+import com.example.maxintegersolver.application.port.in.OperationCalculatorPort;
+import com.example.maxintegersolver.config.exception.GenericException;
+import com.example.maxintegersolver.config.exception.LoadAppException;
+import com.example.maxintegersolver.config.exception.SPError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TCP listener serving the calculation of {@link OperationCalculatorPort} with a length-prefixed
+ * binary protocol, for internal callers that cannot afford the overhead of HTTP.
+ *
+ * <p>Every frame starts with its payload length as a big-endian 32-bit integer. A request payload is
+ * {@value #REQUEST_SIZE} bytes: a request id chosen by the client followed by x, y and n, all of them
+ * big-endian 64-bit integers. A response payload is {@value #RESPONSE_SIZE} bytes: the request id, a
+ * 32-bit status that is 0 on success or the {@link SPError} code of the failure, and the 64-bit result,
+ * which is 0 on failure. Values out of the range accepted by the REST API are answered with
+ * {@link SPError#INVALID_PARAMS_ERROR}, and a frame of any other length closes the connection.</p>
+ *
+ * <p>Requests may be pipelined: a client can send any number of requests without waiting for their
+ * responses. Each connection is served by its own thread, which answers its requests in the order they
+ * were sent and only flushes its responses once there are no more requests waiting to be read, so a
+ * burst of pipelined requests is answered with a few large writes. Connections beyond the configured
+ * maximum are closed as soon as they are accepted.</p>
+ */
+public class OperationTcpServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperationTcpServer.class);
+
+    /**
+     * Payload size of a request frame: request id, x, y and n.
+     */
+    public static final int REQUEST_SIZE = 4 * Long.BYTES;
+
+    /**
+     * Payload size of a response frame: request id, status and result.
+     */
+    public static final int RESPONSE_SIZE = 2 * Long.BYTES + Integer.BYTES;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OperationCalculatorPort calculatePort;
+    private final String host;
+    private final int port;
+    private final int backlog;
+    private final int maxConnections;
+    private final ThreadFactory threadFactory;
+
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong rejectedConnections = new AtomicLong();
+
+    private volatile ServerSocket serverSocket;
+    private volatile boolean running;
+
+    /**
+     * Creates a TCP server. It does not listen until {@link #start()} is called.
+     *
+     * @param calculatePort  Port for operation calculations.
+     * @param host           The address to listen on.
+     * @param port           The port to listen on, or 0 for any free port.
+     * @param backlog        The maximum number of connections waiting to be accepted.
+     * @param maxConnections The maximum number of connections served at the same time.
+     * @param threadFactory  The factory of the acceptor thread and of the connection threads.
+     */
+    public OperationTcpServer(OperationCalculatorPort calculatePort, String host, int port, int backlog,
+                              int maxConnections, ThreadFactory threadFactory) {
+        this.calculatePort = calculatePort;
+        this.host = host;
+        this.port = port;
+        this.backlog = backlog;
+        this.maxConnections = maxConnections;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Binds the listening socket and starts accepting connections.
+     *
+     * @throws LoadAppException If the socket cannot be bound.
+     */
+    @Override
+    public void start() {
+        try {
+            ServerSocket socket = new ServerSocket();
+            socket.setReuseAddress(true);
+            socket.bind(new InetSocketAddress(host, port), backlog);
+            serverSocket = socket;
+        } catch (IOException e) {
+            throw new LoadAppException(SPError.APP_LOAD_ERROR.getErrorCode(), "Unable to listen on " + host + ":" + port, e);
+        }
+        running = true;
+        threadFactory.newThread(this::accept).start();
+        logger.info("Operation TCP server listening on {}:{}", host, getPort());
+    }
+
+    /**
+     * Stops accepting connections and closes the connections being served.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(serverSocket);
+        for (Socket connection : connections) {
+            closeQuietly(connection);
+        }
+        logger.info("Operation TCP server stopped after serving {} requests", served.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the port the server listens on, which is the configured one unless it was 0.
+     *
+     * @return The local port, or -1 when the server is not listening.
+     */
+    public int getPort() {
+        ServerSocket socket = serverSocket;
+        return socket == null ? -1 : socket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of requests answered since the server was started.
+     *
+     * @return The number of requests answered.
+     */
+    public long getServed() {
+        return served.get();
+    }
+
+    /**
+     * Returns the number of connections closed because the maximum number of connections was reached.
+     *
+     * @return The number of rejected connections.
+     */
+    public long getRejectedConnections() {
+        return rejectedConnections.get();
+    }
+
+    private void accept() {
+        while (running) {
+            Socket connection;
+            try {
+                connection = serverSocket.accept();
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    break;
+                }
+                logger.error("Error accepting TCP connection", e);
+                continue;
+            }
+            if (connections.size() >= maxConnections) {
+                rejectedConnections.incrementAndGet();
+                logger.warn("Closing TCP connection from {}: {} connections already open", connection.getRemoteSocketAddress(), maxConnections);
+                closeQuietly(connection);
+                continue;
+            }
+            connections.add(connection);
+            threadFactory.newThread(() -> serve(connection)).start();
+        }
+    }
+
+    /**
+     * Answers the requests of a connection until the client closes it, sends a malformed frame or the server stops.
+     */
+    private void serve(Socket connection) {
+        try (Socket socket = connection;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE))) {
+            socket.setTcpNoDelay(true);
+            while (running) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length != REQUEST_SIZE) {
+                    logger.warn("Closing TCP connection from {}: invalid frame length {}", socket.getRemoteSocketAddress(), length);
+                    break;
+                }
+                long requestId = in.readLong();
+                long x = in.readLong();
+                long y = in.readLong();
+                long n = in.readLong();
+                respond(out, requestId, x, y, n);
+                served.incrementAndGet();
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            if (running) {
+                logger.warn("TCP connection closed with error: {}", e.getMessage());
+            }
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    private void respond(DataOutputStream out, long requestId, long x, long y, long n) throws IOException {
+        int status = 0;
+        long result = 0;
+        if (outOfRange(x) || outOfRange(y) || outOfRange(n)) {
+            status = SPError.INVALID_PARAMS_ERROR.getErrorCode();
+        } else {
+            try {
+                result = calculatePort.calculate(x, y, n);
+            } catch (GenericException e) {
+                status = e.getErrorCode();
+            } catch (RuntimeException e) {
+                logger.error("Error calculating TCP request {}", requestId, e);
+                status = SPError.GENERIC_ERROR.getErrorCode();
+            }
+        }
+        out.writeInt(RESPONSE_SIZE);
+        out.writeLong(requestId);
+        out.writeInt(status);
+        out.writeLong(result);
+    }
+
+    /**
+     * Checks a value against the range accepted by the REST API for x, y and n.
+     */
+    private static boolean outOfRange(long value) {
+        return value < -1 || value > Integer.MAX_VALUE;
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            logger.debug("Error closing TCP socket", e);
+        }
+    }
+}
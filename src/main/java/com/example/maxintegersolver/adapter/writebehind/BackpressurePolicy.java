@@ -0,0 +1,16 @@
+package com.example.maxintegersolver.adapter.writebehind;
+
+/**
+ * Enumerates the behaviors of the {@link WriteBehindOperationAdapter} when its queue is full.
+ *
+ * <ul>
+ *     <li>BLOCK: The caller waits until there is room in the queue.</li>
+ *     <li>DROP: The operation is discarded and counted as dropped; it is never persisted.</li>
+ *     <li>CALLER_RUNS: The operation is persisted synchronously on the calling thread.</li>
+ * </ul>
+ */
+public enum BackpressurePolicy {
+    BLOCK,
+    DROP,
+    CALLER_RUNS
+}
@@ -0,0 +1,315 @@
+package com.example.maxintegersolver.adapter.writebehind;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import com.example.maxintegersolver.config.exception.DataBaseException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind decorator of an {@link OperationStorageRepository}.
+ * Saved operations are returned immediately and enqueued into a bounded in-memory queue that a
+ * single background writer drains in batches through {@link OperationStorageRepository#saveAll(List)},
+ * taking the latency of the database off the calling thread.
+ *
+ * <p>A batch is written as soon as it reaches the configured batch size, or once the flush interval
+ * has elapsed since its first operation was taken from the queue. When the queue is full, the
+ * configured {@link BackpressurePolicy} decides what happens to new operations. On {@link #close()}
+ * the writer stops accepting new work and drains every pending operation before returning. An operation
+ * enqueued while the adapter is being closed, after the queue was drained, is taken back and persisted
+ * synchronously by its caller, and callers waiting for room in a full queue stop waiting and do the same.</p>
+ *
+ * <p>Reads are delegated directly, so operations that are still queued are not visible to them yet.</p>
+ */
+public class WriteBehindOperationAdapter implements OperationStorageRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindOperationAdapter.class);
+
+    /**
+     * Longest single wait of the writer, so it notices a shutdown promptly even with long flush intervals.
+     */
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final String WRITER_NAME = "operation-write-behind";
+
+    private final OperationStorageRepository delegate;
+    private final BlockingQueue<OperationDomain> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final BackpressurePolicy backpressurePolicy;
+    private final Duration shutdownTimeout;
+    private final Thread writer;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+
+    /**
+     * Creates a write-behind adapter. The background writer is not started until {@link #start()} is called.
+     *
+     * @param delegate           The repository that actually persists the operations.
+     * @param queueCapacity      The maximum number of operations waiting to be written.
+     * @param batchSize          The maximum number of operations written in a single call to the delegate.
+     * @param flushInterval      The maximum time a partial batch waits for more operations before being written.
+     * @param backpressurePolicy The behavior when the queue is full.
+     * @param shutdownTimeout    The maximum time {@link #close()} waits for pending operations to be written.
+     */
+    public WriteBehindOperationAdapter(OperationStorageRepository delegate, int queueCapacity, int batchSize,
+                                       Duration flushInterval, BackpressurePolicy backpressurePolicy, Duration shutdownTimeout) {
+        this(delegate, queueCapacity, batchSize, flushInterval, backpressurePolicy, shutdownTimeout, runnable -> {
+            Thread thread = new Thread(runnable, WRITER_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a write-behind adapter whose background writer is created by the given thread factory,
+     * for instance one creating virtual threads. The writer is not started until {@link #start()} is called.
+     *
+     * @param delegate           The repository that actually persists the operations.
+     * @param queueCapacity      The maximum number of operations waiting to be written.
+     * @param batchSize          The maximum number of operations written in a single call to the delegate.
+     * @param flushInterval      The maximum time a partial batch waits for more operations before being written.
+     * @param backpressurePolicy The behavior when the queue is full.
+     * @param shutdownTimeout    The maximum time {@link #close()} waits for pending operations to be written.
+     * @param threadFactory      The factory creating the background writer.
+     */
+    public WriteBehindOperationAdapter(OperationStorageRepository delegate, int queueCapacity, int batchSize,
+                                       Duration flushInterval, BackpressurePolicy backpressurePolicy, Duration shutdownTimeout,
+                                       ThreadFactory threadFactory) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.backpressurePolicy = backpressurePolicy;
+        this.shutdownTimeout = shutdownTimeout;
+        this.writer = threadFactory.newThread(this::drain);
+    }
+
+    /**
+     * Starts the background writer.
+     */
+    public void start() {
+        running = true;
+        writer.start();
+        logger.info("Write-behind writer started with batch size {} and {} backpressure", batchSize, backpressurePolicy);
+    }
+
+    /**
+     * Enqueues the operation to be persisted by the background writer and returns it immediately.
+     * Once the adapter is closed, operations are persisted synchronously so none is lost. With the
+     * {@link BackpressurePolicy#BLOCK} policy, waiting for room in the queue ends when the adapter is closed.
+     *
+     * @param domain The operation domain object to save.
+     * @return The same operation domain object.
+     * @throws DataBaseException if the calling thread is interrupted while waiting for room in the queue.
+     */
+    @Override
+    public OperationDomain save(OperationDomain domain) {
+        if (!running) {
+            return delegate.save(domain);
+        }
+        if (queue.offer(domain)) {
+            return enqueued(domain);
+        }
+        switch (backpressurePolicy) {
+            case DROP:
+                dropped.incrementAndGet();
+                logger.warn("Write-behind queue is full, operation dropped: {}", domain);
+                return domain;
+            case CALLER_RUNS:
+                return delegate.save(domain);
+            case BLOCK:
+            default:
+                try {
+                    while (running) {
+                        if (queue.offer(domain, MAX_WAIT_NANOS, TimeUnit.NANOSECONDS)) {
+                            return enqueued(domain);
+                        }
+                    }
+                    return delegate.save(domain);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DataBaseException(SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.OPERATION_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+                }
+        }
+    }
+
+    /**
+     * Completes the enqueueing of an operation. When the adapter was closed concurrently, the queue may
+     * already have been drained for the last time, so the operation is taken back and persisted by the
+     * calling thread. If it cannot be taken back, the writer or {@link #close()} has already taken it.
+     */
+    private OperationDomain enqueued(OperationDomain domain) {
+        if (!running && queue.remove(domain)) {
+            return delegate.save(domain);
+        }
+        return domain;
+    }
+
+    /**
+     * Enqueues every operation to be persisted by the background writer, applying the
+     * backpressure policy to each one.
+     *
+     * @param domains The operation domain objects to save.
+     * @return The same operation domain objects.
+     */
+    @Override
+    public List<OperationDomain> saveAll(List<OperationDomain> domains) {
+        for (OperationDomain domain : domains) {
+            save(domain);
+        }
+        return domains;
+    }
+
+    @Override
+    public List<OperationDomain> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public OperationPage getPage(Long afterId, int limit) {
+        return delegate.getPage(afterId, limit);
+    }
+
+    @Override
+    public void forEach(Consumer<OperationDomain> consumer) {
+        delegate.forEach(consumer);
+    }
+
+    @Override
+    public List<OperationDomain> find(OperationQuery query) {
+        return delegate.find(query);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    /**
+     * Stops accepting new operations and waits up to the shutdown timeout for the writer to drain the queue.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        logger.info("Draining {} pending operations of the write-behind queue", queue.size());
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.error("Write-behind queue not drained within {}, {} operations were not persisted", shutdownTimeout, queue.size());
+            return;
+        }
+        List<OperationDomain> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    /**
+     * @return The number of operations waiting to be written.
+     */
+    public int getPending() {
+        return queue.size();
+    }
+
+    /**
+     * @return The number of operations written by the background writer.
+     */
+    public long getWritten() {
+        return written.get();
+    }
+
+    /**
+     * @return The number of operations discarded because the queue was full.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return The number of operations the background writer failed to write.
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Body of the background writer. It keeps writing batches while the adapter is running and,
+     * once closed, until the queue is empty.
+     */
+    private void drain() {
+        List<OperationDomain> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Takes operations from the queue until the batch is full or the flush interval has elapsed
+     * since the first one. Waiting is skipped once the adapter is closed.
+     */
+    private void fill(List<OperationDomain> batch) throws InterruptedException {
+        OperationDomain first = running ? queue.poll(Math.min(flushIntervalNanos, MAX_WAIT_NANOS), TimeUnit.NANOSECONDS) : queue.poll();
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (!running || remaining <= 0) {
+                return;
+            }
+            OperationDomain next = queue.poll(Math.min(remaining, MAX_WAIT_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void flush(List<OperationDomain> batch) {
+        try {
+            delegate.saveAll(batch);
+            written.addAndGet(batch.size());
+        } catch (Exception e) {
+            failed.addAndGet(batch.size());
+            logger.error("Write-behind writer failed to persist {} operations", batch.size(), e);
+        }
+    }
+}
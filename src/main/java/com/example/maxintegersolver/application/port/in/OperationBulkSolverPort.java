@@ -0,0 +1,35 @@
+package com.example.maxintegersolver.application.port.in;
+
+/**
+ * The {@code OperationBulkSolverPort} interface defines the inbound port for solving large
+ * volumes of operations offline, such as the rows of an input file. Unlike
+ * {@link OperationCalculatorPort}, solving and persisting are separate steps, so callers decide
+ * whether the solved operations are loaded into the storage.
+ *
+ * The operations are given as primitive columns that may be larger than the number of
+ * operations they hold; only the first {@code length} elements of each column are used.
+ */
+public interface OperationBulkSolverPort {
+
+    /**
+     * Calculates the maximum non-negative integer k of every operation, without persisting them.
+     *
+     * @param x       The modulus of each operation.
+     * @param y       The remainder of each operation.
+     * @param n       The upper bound of each operation.
+     * @param results The array receiving the result of each operation.
+     * @param length  The number of operations held by the columns.
+     */
+    void solve(long[] x, long[] y, long[] n, long[] results, int length);
+
+    /**
+     * Persists operations that have already been solved.
+     *
+     * @param x       The modulus of each operation.
+     * @param y       The remainder of each operation.
+     * @param n       The upper bound of each operation.
+     * @param results The result of each operation.
+     * @param length  The number of operations held by the columns.
+     */
+    void load(long[] x, long[] y, long[] n, long[] results, int length);
+}
@@ -2,6 +2,8 @@ package com.example.maxintegersolver.application.port.in;
 
 import com.example.maxintegersolver.domain.OperationDomain;
 
+import java.util.List;
+
 /**
  * The {@code OperationCalculatorPort} interface defines the inbound port for calculating
  * operations within the application core. It adheres to the principles of hexagonal
@@ -23,4 +25,37 @@ public interface OperationCalculatorPort {
      *         with the maximum k value that satisfies the equation k mod x = y where k <= n.
      */
     OperationDomain calculate(OperationDomain operationDomain);
+
+    /**
+     * Calculates the maximum non-negative integer k for input parameters already decoded as
+     * primitives, without building an {@link OperationDomain} for the request.
+     *
+     * @param x The modulus of the operation.
+     * @param y The remainder of the operation.
+     * @param n The upper bound of the operation.
+     * @return The maximum k value that satisfies the equation k mod x = y where k <= n.
+     */
+    long calculate(long x, long y, long n);
+
+    /**
+     * Calculates the maximum non-negative integer k for every operation of the batch in a
+     * single pass and persists all of them together.
+     *
+     * @param operationDomains The {@link OperationDomain} instances encapsulating the input
+     *                         parameters x, y, and n of each calculation.
+     * @return The {@link OperationDomain} instances with their results, in the same order
+     *         as the input.
+     */
+    List<OperationDomain> calculateBatch(List<OperationDomain> operationDomains);
+
+    /**
+     * Calculates the maximum non-negative integer k for a batch of operations already decoded
+     * as primitive columns, and persists all of them together.
+     *
+     * @param x The modulus of each operation.
+     * @param y The remainder of each operation.
+     * @param n The upper bound of each operation.
+     * @return The result of each operation, in the same order as the input.
+     */
+    long[] calculateBatch(long[] x, long[] y, long[] n);
 }
@@ -1,7 +1,10 @@
 package com.example.maxintegersolver.application.port.in;
 
 import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The {@code OperationResultsPort} interface specifies the inbound port for retrieving
@@ -22,4 +25,31 @@ public interface OperationResultsPort {
      *         historical results of calculations performed by the application.
      */
     List<OperationDomain> getResults();
+
+    /**
+     * Retrieves a page of {@link OperationDomain} results using keyset pagination, that is,
+     * the results stored after the operation identified by {@code afterId}, in storage order.
+     *
+     * @param afterId The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit   The maximum number of results of the page.
+     * @return An {@link OperationPage} with the results and the cursor of the next page.
+     */
+    OperationPage getResults(Long afterId, int limit);
+
+    /**
+     * Retrieves the {@link OperationDomain} results within the ranges of x, y, n and result
+     * of the query, in the order of the query and up to its limit.
+     *
+     * @param query The ranges, order and maximum number of the results.
+     * @return A {@code List} of the matching {@link OperationDomain} results.
+     */
+    List<OperationDomain> getResults(OperationQuery query);
+
+    /**
+     * Streams every stored {@link OperationDomain} result to the given consumer, in storage
+     * order, without materializing the whole history in memory.
+     *
+     * @param consumer The consumer receiving each result.
+     */
+    void streamResults(Consumer<OperationDomain> consumer);
 }
@@ -0,0 +1,20 @@
+package com.example.maxintegersolver.application.port.in;
+
+import com.example.maxintegersolver.domain.OperationStatistics;
+
+/**
+ * The {@code OperationStatisticsPort} interface specifies the inbound port for retrieving the
+ * aggregate statistics of the calculated operations. It follows the hexagonal architecture
+ * principles, acting as a primary side port that is to be implemented by the core application logic.
+ */
+public interface OperationStatisticsPort {
+
+    /**
+     * Retrieves the aggregates of the operations calculated since the application started. The
+     * aggregates are maintained as the operations are calculated, so retrieving them does not
+     * depend on the number of stored operations.
+     *
+     * @return The {@link OperationStatistics} of the calculated operations.
+     */
+    OperationStatistics getStatistics();
+}
@@ -0,0 +1,37 @@
+package com.example.maxintegersolver.application.port.in.reactive;
+
+import com.example.maxintegersolver.application.port.in.OperationCalculatorPort;
+import com.example.maxintegersolver.domain.OperationDomain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The {@code ReactiveOperationCalculatorPort} interface is the non-blocking counterpart of
+ * {@link OperationCalculatorPort}. It defines the inbound port used by the reactive adapters
+ * to calculate operations, where the results are published once they have been persisted
+ * instead of being returned to a waiting thread.
+ */
+public interface ReactiveOperationCalculatorPort {
+
+    /**
+     * Calculates the maximum non-negative integer k based on the given operation domain
+     * constraints (x, y, n) as per the problem definition.
+     *
+     * @param operationDomain An instance of {@link OperationDomain} encapsulating the input
+     *                        parameters x, y, and n for the calculation.
+     * @return A {@link Mono} emitting the {@link OperationDomain} with the result of the calculation.
+     */
+    Mono<OperationDomain> calculate(OperationDomain operationDomain);
+
+    /**
+     * Calculates the maximum non-negative integer k for every operation of the batch in a
+     * single pass and persists all of them together.
+     *
+     * @param operationDomains The {@link OperationDomain} instances encapsulating the input
+     *                         parameters x, y, and n of each calculation.
+     * @return A {@link Mono} emitting the {@link OperationDomain} instances with their results,
+     *         in the same order as the input.
+     */
+    Mono<List<OperationDomain>> calculateBatch(List<OperationDomain> operationDomains);
+}
@@ -0,0 +1,33 @@
+package com.example.maxintegersolver.application.port.in.reactive;
+
+import com.example.maxintegersolver.application.port.in.OperationResultsPort;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@code ReactiveOperationResultsPort} interface is the non-blocking counterpart of
+ * {@link OperationResultsPort}. It defines the inbound port used by the reactive adapters
+ * to retrieve the results of the operations that have been calculated and stored.
+ */
+public interface ReactiveOperationResultsPort {
+
+    /**
+     * Retrieves every stored {@link OperationDomain} result, in storage order. Results are
+     * published as they are read, so the whole history is never materialized in memory.
+     *
+     * @return A {@link Flux} emitting the historical results of the calculations.
+     */
+    Flux<OperationDomain> getResults();
+
+    /**
+     * Retrieves a page of {@link OperationDomain} results using keyset pagination, that is,
+     * the results stored after the operation identified by {@code afterId}, in storage order.
+     *
+     * @param afterId The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit   The maximum number of results of the page.
+     * @return A {@link Mono} emitting the {@link OperationPage} with the results and the cursor of the next page.
+     */
+    Mono<OperationPage> getResults(Long afterId, int limit);
+}
@@ -0,0 +1,40 @@
+package com.example.maxintegersolver.application.port.out;
+
+import java.util.OptionalLong;
+
+/**
+ * The {@code OperationResultCache} interface defines the outbound port for memoizing the
+ * results of calculations. According to hexagonal architecture principles, this port
+ * represents the secondary side which is to be adapted to a concrete caching mechanism.
+ *
+ * Implementations must be safe for concurrent use and bounded in size.
+ */
+public interface OperationResultCache {
+
+    /**
+     * Retrieves the memoized result of the operation with the given parameters.
+     *
+     * @param x The modulus of the operation.
+     * @param y The expected remainder of the operation.
+     * @param n The upper bound of the operation.
+     * @return The memoized result, or an empty {@link OptionalLong} if it is not cached.
+     */
+    OptionalLong get(long x, long y, long n);
+
+    /**
+     * Memoizes the result of the operation with the given parameters.
+     *
+     * @param x      The modulus of the operation.
+     * @param y      The expected remainder of the operation.
+     * @param n      The upper bound of the operation.
+     * @param result The result of the operation.
+     */
+    void put(long x, long y, long n, long result);
+
+    /**
+     * Indicates whether an operation answered from the cache must still be persisted.
+     *
+     * @return {@code true} if cache hits are persisted like any other calculation.
+     */
+    boolean persistHits();
+}
@@ -0,0 +1,29 @@
+package com.example.maxintegersolver.application.port.out;
+
+import com.example.maxintegersolver.domain.OperationStatistics;
+
+/**
+ * The {@code OperationStatisticsRecorder} interface defines the outbound port for maintaining the
+ * aggregates of the calculated operations as they are calculated, so they can be reported without
+ * reading the stored operations. According to hexagonal architecture principles, this port represents
+ * the secondary side which is to be adapted to a concrete implementation.
+ *
+ * Implementations must be safe for concurrent use, and recording must not block the calculations.
+ */
+public interface OperationStatisticsRecorder {
+
+    /**
+     * Records a calculated operation.
+     *
+     * @param x      The modulus of the operation.
+     * @param result The result of the operation.
+     */
+    void record(long x, long result);
+
+    /**
+     * Returns the current aggregates of the recorded operations.
+     *
+     * @return The {@link OperationStatistics} of the operations recorded so far.
+     */
+    OperationStatistics snapshot();
+}
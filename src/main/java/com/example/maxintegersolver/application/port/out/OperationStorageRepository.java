@@ -1,7 +1,10 @@
 package com.example.maxintegersolver.application.port.out;
 
 import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The {@code OperationStorageRepository} interface defines the outbound port for
@@ -24,6 +27,14 @@ public interface OperationStorageRepository {
      */
     OperationDomain save(OperationDomain domain);
 
+    /**
+     * Persists a group of {@link OperationDomain} objects in a single unit of work.
+     *
+     * @param domains The {@link OperationDomain} instances to be saved.
+     * @return The persisted {@link OperationDomain} instances, in the same order as the input.
+     */
+    List<OperationDomain> saveAll(List<OperationDomain> domains);
+
     /**
      * Retrieves all persisted {@link OperationDomain} objects from the storage mechanism.
      * This method will fetch the complete set of operation results that have been stored.
@@ -33,4 +44,40 @@ public interface OperationStorageRepository {
      */
     List<OperationDomain> getAll();
 
+    /**
+     * Retrieves the persisted {@link OperationDomain} objects stored after the one identified
+     * by {@code afterId}, in storage order, using keyset pagination.
+     *
+     * @param afterId The identifier of the last operation of the previous page, or {@code null}
+     *                to start from the beginning.
+     * @param limit   The maximum number of operations of the page.
+     * @return An {@link OperationPage} with the operations and the cursor of the next page.
+     */
+    OperationPage getPage(Long afterId, int limit);
+
+    /**
+     * Iterates over every persisted {@link OperationDomain} object in storage order, handing
+     * each one to the consumer. Implementations must keep memory usage bounded regardless of
+     * the number of stored operations.
+     *
+     * @param consumer The consumer receiving each operation.
+     */
+    void forEach(Consumer<OperationDomain> consumer);
+
+    /**
+     * Retrieves the persisted {@link OperationDomain} objects within the ranges of the query,
+     * in the order of the query and up to its limit.
+     *
+     * @param query The ranges, order and maximum number of the operations to retrieve.
+     * @return A {@code List} of the matching {@link OperationDomain} instances.
+     */
+    List<OperationDomain> find(OperationQuery query);
+
+    /**
+     * Counts the persisted {@link OperationDomain} objects.
+     *
+     * @return The number of operations currently stored.
+     */
+    long count();
+
 }
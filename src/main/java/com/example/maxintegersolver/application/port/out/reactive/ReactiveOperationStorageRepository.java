@@ -0,0 +1,51 @@
+package com.example.maxintegersolver.application.port.out.reactive;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The {@code ReactiveOperationStorageRepository} interface is the non-blocking counterpart of
+ * {@link OperationStorageRepository}. It defines the outbound port for persisting and retrieving
+ * operation results through a reactive driver, without holding a thread while the storage works.
+ */
+public interface ReactiveOperationStorageRepository {
+
+    /**
+     * Persists an {@link OperationDomain} object to the storage mechanism.
+     *
+     * @param domain The {@link OperationDomain} instance to be saved.
+     * @return A {@link Mono} emitting the persisted {@link OperationDomain} instance.
+     */
+    Mono<OperationDomain> save(OperationDomain domain);
+
+    /**
+     * Persists a group of {@link OperationDomain} objects in a single round trip.
+     *
+     * @param domains The {@link OperationDomain} instances to be saved.
+     * @return A {@link Flux} emitting the persisted {@link OperationDomain} instances, in the same order as the input.
+     */
+    Flux<OperationDomain> saveAll(List<OperationDomain> domains);
+
+    /**
+     * Retrieves all persisted {@link OperationDomain} objects, in storage order.
+     *
+     * @return A {@link Flux} emitting every stored operation as it is read.
+     */
+    Flux<OperationDomain> getAll();
+
+    /**
+     * Retrieves the persisted {@link OperationDomain} objects stored after the one identified
+     * by {@code afterId}, in storage order, using keyset pagination.
+     *
+     * @param afterId The identifier of the last operation of the previous page, or {@code null}
+     *                to start from the beginning.
+     * @param limit   The maximum number of operations of the page.
+     * @return A {@link Mono} emitting the {@link OperationPage} with the operations and the cursor of the next page.
+     */
+    Mono<OperationPage> getPage(Long afterId, int limit);
+}
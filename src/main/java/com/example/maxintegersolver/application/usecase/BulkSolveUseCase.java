@@ -0,0 +1,91 @@
+package com.example.maxintegersolver.application.usecase;
+
+import com.example.maxintegersolver.application.port.in.OperationBulkSolverPort;
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.service.OperationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code BulkSolveUseCase} class implements the {@link OperationBulkSolverPort} interface
+ * to solve large volumes of operations offline. It uses the batch kernel of the
+ * {@link OperationService} directly on the given columns, and persists solved operations through
+ * the {@link OperationStorageRepository} in batches of bounded size, so loading millions of
+ * operations never holds all of them in a single persistence call.
+ */
+public class BulkSolveUseCase implements OperationBulkSolverPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkSolveUseCase.class);
+
+    /**
+     * The maximum number of operations persisted in a single call to the storage repository.
+     */
+    static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final OperationService service;
+    private final OperationStorageRepository repository;
+
+    /**
+     * Constructs a new instance of {@code BulkSolveUseCase} with the given domain service and
+     * storage repository.
+     *
+     * @param service    The domain service responsible for performing the calculation logic.
+     * @param repository The storage repository used for loading the solved operations.
+     */
+    public BulkSolveUseCase(OperationService service, OperationStorageRepository repository) {
+        this.service = service;
+        this.repository = repository;
+    }
+
+    /**
+     * Calculates the maximum non-negative integer k of every operation in a single pass.
+     *
+     * @throws CustomException If any operation has invalid input.
+     */
+    @Override
+    public void solve(long[] x, long[] y, long[] n, long[] results, int length) {
+        try {
+            service.calculateMaxK(x, y, n, results, 0, length);
+        } catch (StacklessCustomException e) {
+            logger.info("Bulk operations rejected in BulkSolveUseCase: {}", e.getMessage());
+            throw StacklessCustomException.of(SPError.OPERATION_BULK_ERROR);
+        } catch (Exception e) {
+            logger.error("Error in BulkSolveUseCase during calculation", e);
+            throw new CustomException(SPError.OPERATION_BULK_ERROR.getErrorCode(), SPError.OPERATION_BULK_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Persists the solved operations in batches of at most {@value #LOAD_BATCH_SIZE} operations.
+     *
+     * @throws CustomException If an error occurs during data persistence.
+     */
+    @Override
+    public void load(long[] x, long[] y, long[] n, long[] results, int length) {
+        try {
+            for (int from = 0; from < length; from += LOAD_BATCH_SIZE) {
+                int to = Math.min(length, from + LOAD_BATCH_SIZE);
+                List<OperationDomain> domains = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    domains.add(OperationDomain.builder()
+                            .x(x[i])
+                            .y(y[i])
+                            .n(n[i])
+                            .result(results[i])
+                            .build());
+                }
+                repository.saveAll(domains);
+            }
+        } catch (Exception e) {
+            logger.error("Error in BulkSolveUseCase while loading {} operations", length, e);
+            throw new CustomException(SPError.OPERATION_BULK_ERROR.getErrorCode(), SPError.OPERATION_BULK_ERROR.getErrorMessage(), e);
+        }
+    }
+}
@@ -1,62 +1,227 @@
 package com.example.maxintegersolver.application.usecase;
 
 import com.example.maxintegersolver.application.port.in.OperationCalculatorPort;
+import com.example.maxintegersolver.application.port.out.OperationResultCache;
+import com.example.maxintegersolver.application.port.out.OperationStatisticsRecorder;
 import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
 import com.example.maxintegersolver.config.exception.CustomException;
 import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
 import com.example.maxintegersolver.domain.OperationDomain;
 import com.example.maxintegersolver.domain.service.OperationService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
 /**
  * The {@code CalculateUseCase} class implements the {@link OperationCalculatorPort} interface
  * to handle the calculation of the maximum non-negative integer k, based on the constraints
  * provided in the {@link OperationDomain}. This class acts as an application service,
  * orchestrating the flow of data between the domain layer and the port interfaces. It
- * utilizes the {@link OperationService} for the core calculation logic and
- * {@link OperationStorageRepository} for persisting the results.
+ * utilizes the {@link OperationService} for the core calculation logic,
+ * {@link OperationStorageRepository} for persisting the results,
+ * {@link OperationResultCache} for answering repeated operations without calculating them again and
+ * {@link OperationStatisticsRecorder} for maintaining the aggregates of every calculated operation.
  */
 public class CalculateUseCase implements OperationCalculatorPort {
 
     private static final Logger logger = LoggerFactory.getLogger(CalculateUseCase.class);
     private final OperationService service;
     private final OperationStorageRepository repository;
+    private final OperationResultCache cache;
+    private final OperationStatisticsRecorder statistics;
 
     /**
-     * Constructs a new instance of {@code CalculateUseCase} with the given domain service
-     * and storage repository.
+     * Constructs a new instance of {@code CalculateUseCase} with the given domain service,
+     * storage repository, result cache and statistics recorder.
      *
      * @param service    The domain service responsible for performing the calculation logic.
      * @param repository The storage repository used for persisting operation results.
+     * @param cache      The cache memoizing the results of repeated operations.
+     * @param statistics The recorder maintaining the aggregates of the calculated operations.
      */
-    public CalculateUseCase(OperationService service, OperationStorageRepository repository) {
+    public CalculateUseCase(OperationService service, OperationStorageRepository repository, OperationResultCache cache,
+                            OperationStatisticsRecorder statistics) {
         this.service = service;
         this.repository = repository;
+        this.cache = cache;
+        this.statistics = statistics;
     }
 
     /**
      * Performs the calculation of the maximum non-negative integer k based on the input
-     * parameters x, y, and n provided in the {@link OperationDomain}. This method also
-     * persists the result and returns the updated domain entity.
+     * parameters x, y, and n provided in the {@link OperationDomain}. The result is taken
+     * from the cache when the same operation was calculated before; otherwise it is
+     * calculated and cached. The result is persisted unless it was a cache hit and the
+     * cache policy skips persisting hits, and it is then recorded in the statistics.
      *
      * @param domain An instance of {@link OperationDomain} containing the input parameters.
      * @return The updated {@link OperationDomain} instance with the calculation result.
      * @throws CustomException If an error occurs during the calculation or data persistence.
      */
     @Override
+    @Timed(value = "operation.usecase", histogram = true)
     public OperationDomain calculate(OperationDomain domain) {
+        logger.info("Calculating in CalculateUseCase with the following data: {}", domain);
+        long result = calculate(domain.getX(), domain.getY(), domain.getN(), domain);
+        return OperationDomain.builder()
+                .result(result)
+                .build();
+    }
+
+    /**
+     * Performs the calculation of the maximum non-negative integer k for input parameters given
+     * as primitives. It follows the same cache, persistence and statistics rules as
+     * {@link #calculate(OperationDomain)}, but an {@link OperationDomain} is only built when the
+     * operation has to be persisted.
+     *
+     * @param x The modulus of the operation.
+     * @param y The remainder of the operation.
+     * @param n The upper bound of the operation.
+     * @return The calculation result.
+     * @throws CustomException If an error occurs during the calculation or data persistence.
+     */
+    @Override
+    @Timed(value = "operation.usecase", histogram = true)
+    public long calculate(long x, long y, long n) {
+        return calculate(x, y, n, null);
+    }
+
+    /**
+     * Applies the cache, persistence and statistics rules shared by both single calculations.
+     *
+     * @param x      The modulus of the operation.
+     * @param y      The remainder of the operation.
+     * @param n      The upper bound of the operation.
+     * @param domain The operation whose result is set and which is persisted, or {@code null} to build
+     *               it from the primitives only when it has to be persisted.
+     * @return The calculation result.
+     * @throws CustomException If an error occurs during the calculation or data persistence.
+     */
+    private long calculate(long x, long y, long n, OperationDomain domain) {
         try {
-            logger.info("Calculating in CalculateUseCase with the following data: {}", domain);
-            Long result = service.calculateMaxK(domain);
-            domain.setResult(result);
-            OperationDomain savedDomain = repository.save(domain);
-            return OperationDomain.builder()
-                    .result(savedDomain.getResult())
-                    .build();
+            long result;
+            OptionalLong cached = cache.get(x, y, n);
+            if (cached.isPresent()) {
+                result = cached.getAsLong();
+            } else {
+                result = service.calculateMaxK(x, y, n);
+                cache.put(x, y, n, result);
+            }
+            if (domain != null) {
+                domain.setResult(result);
+            }
+            if (!cached.isPresent() || cache.persistHits()) {
+                repository.save(domain != null ? domain : OperationDomain.builder()
+                        .x(x)
+                        .y(y)
+                        .n(n)
+                        .result(result)
+                        .build());
+            }
+            statistics.record(x, result);
+            return result;
+        } catch (StacklessCustomException e) {
+            logger.info("Operation rejected in CalculateUseCase: {}", e.getMessage());
+            throw StacklessCustomException.of(SPError.OPERATION_USE_CASE_ERROR_CALCULATE);
         } catch (Exception e) {
             logger.error("Error in CalculateUseCase during calculation", e);
             throw new CustomException(SPError.OPERATION_USE_CASE_ERROR_CALCULATE.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_CALCULATE.getErrorMessage(), e.getCause());
         }
     }
+
+    /**
+     * Performs the calculation of the maximum non-negative integer k for a batch of operations.
+     * The input parameters are copied into primitive arrays so the whole batch is solved in a
+     * single pass by the {@link OperationService}, which splits long batches across threads, and
+     * every result is then persisted in one call to the storage repository and recorded in the statistics.
+     *
+     * @param domains The {@link OperationDomain} instances containing the input parameters.
+     * @return The persisted {@link OperationDomain} instances with their calculation results,
+     *         in the same order as the input.
+     * @throws CustomException If an error occurs during the calculation or data persistence.
+     */
+    @Override
+    @Timed(value = "operation.usecase", histogram = true)
+    public List<OperationDomain> calculateBatch(List<OperationDomain> domains) {
+        try {
+            int size = domains.size();
+            logger.info("Calculating batch of {} operations in CalculateUseCase", size);
+            long[] x = new long[size];
+            long[] y = new long[size];
+            long[] n = new long[size];
+            long[] results = new long[size];
+            for (int i = 0; i < size; i++) {
+                OperationDomain domain = domains.get(i);
+                x[i] = domain.getX();
+                y[i] = domain.getY();
+                n[i] = domain.getN();
+            }
+
+            service.calculateMaxK(x, y, n, results);
+
+            for (int i = 0; i < size; i++) {
+                domains.get(i).setResult(results[i]);
+            }
+            List<OperationDomain> saved = repository.saveAll(domains);
+            for (int i = 0; i < size; i++) {
+                statistics.record(x[i], results[i]);
+            }
+            return saved;
+        } catch (StacklessCustomException e) {
+            logger.info("Batch rejected in CalculateUseCase: {}", e.getMessage());
+            throw StacklessCustomException.of(SPError.OPERATION_USE_CASE_ERROR_BATCH);
+        } catch (Exception e) {
+            logger.error("Error in CalculateUseCase during batch calculation", e);
+            throw new CustomException(SPError.OPERATION_USE_CASE_ERROR_BATCH.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_BATCH.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Performs the calculation of the maximum non-negative integer k for a batch of operations
+     * given as primitive columns. The batch is solved in a single pass by the {@link OperationService}
+     * and persisted in one call to the storage repository and recorded in the statistics, like
+     * {@link #calculateBatch(List)}.
+     *
+     * @param x The modulus of each operation.
+     * @param y The remainder of each operation.
+     * @param n The upper bound of each operation.
+     * @return The calculation results, in the same order as the input.
+     * @throws CustomException If an error occurs during the calculation or data persistence.
+     */
+    @Override
+    @Timed(value = "operation.usecase", histogram = true)
+    public long[] calculateBatch(long[] x, long[] y, long[] n) {
+        try {
+            int size = x.length;
+            logger.info("Calculating batch of {} primitive operations in CalculateUseCase", size);
+            long[] results = new long[size];
+            service.calculateMaxK(x, y, n, results);
+
+            List<OperationDomain> domains = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                domains.add(OperationDomain.builder()
+                        .x(x[i])
+                        .y(y[i])
+                        .n(n[i])
+                        .result(results[i])
+                        .build());
+            }
+            repository.saveAll(domains);
+            for (int i = 0; i < size; i++) {
+                statistics.record(x[i], results[i]);
+            }
+            return results;
+        } catch (StacklessCustomException e) {
+            logger.info("Batch rejected in CalculateUseCase: {}", e.getMessage());
+            throw StacklessCustomException.of(SPError.OPERATION_USE_CASE_ERROR_BATCH);
+        } catch (Exception e) {
+            logger.error("Error in CalculateUseCase during batch calculation", e);
+            throw new CustomException(SPError.OPERATION_USE_CASE_ERROR_BATCH.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_BATCH.getErrorMessage(), e);
+        }
+    }
 }
@@ -5,10 +5,14 @@ import com.example.maxintegersolver.application.port.out.OperationStorageReposit
 import com.example.maxintegersolver.config.exception.CustomException;
 import com.example.maxintegersolver.config.exception.SPError;
 import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The {@code ResultsUseCase} class implements the {@link OperationResultsPort} interface
@@ -41,6 +45,7 @@ public class ResultsUseCase implements OperationResultsPort {
      * @throws CustomException If an error occurs during the data retrieval process.
      */
     @Override
+    @Timed(value = "operation.usecase", histogram = true)
     public List<OperationDomain> getResults() {
         try {
             logger.info("Fetching all operation results");
@@ -50,4 +55,61 @@ public class ResultsUseCase implements OperationResultsPort {
             throw new CustomException(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorMessage(), e.getCause());
         }
     }
+
+    /**
+     * Retrieves a page of persisted {@link OperationDomain} results using keyset pagination.
+     *
+     * @param afterId The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit   The maximum number of results of the page.
+     * @return An {@link OperationPage} with the results and the cursor of the next page.
+     * @throws CustomException If an error occurs during the data retrieval process.
+     */
+    @Override
+    @Timed(value = "operation.usecase", histogram = true)
+    public OperationPage getResults(Long afterId, int limit) {
+        try {
+            logger.info("Fetching {} operation results after id {}", limit, afterId);
+            return this.repository.getPage(afterId, limit);
+        } catch (Exception e) {
+            logger.error("Error fetching operation results page", e);
+            throw new CustomException(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves the persisted {@link OperationDomain} results matching a query.
+     *
+     * @param query The ranges, order and maximum number of the results.
+     * @return A {@code List} of the matching {@link OperationDomain} results.
+     * @throws CustomException If an error occurs during the data retrieval process.
+     */
+    @Override
+    @Timed(value = "operation.usecase", histogram = true)
+    public List<OperationDomain> getResults(OperationQuery query) {
+        try {
+            logger.info("Fetching operation results matching {}", query);
+            return this.repository.find(query);
+        } catch (Exception e) {
+            logger.error("Error fetching operation results matching a query", e);
+            throw new CustomException(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Streams every persisted {@link OperationDomain} result to the given consumer.
+     *
+     * @param consumer The consumer receiving each result.
+     * @throws CustomException If an error occurs during the data retrieval process.
+     */
+    @Override
+    @Timed(value = "operation.usecase", histogram = true)
+    public void streamResults(Consumer<OperationDomain> consumer) {
+        try {
+            logger.info("Streaming all operation results");
+            this.repository.forEach(consumer);
+        } catch (Exception e) {
+            logger.error("Error streaming operation results", e);
+            throw new CustomException(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.maxintegersolver.application.usecase;
+
+import com.example.maxintegersolver.application.port.in.OperationStatisticsPort;
+import com.example.maxintegersolver.application.port.out.OperationStatisticsRecorder;
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.OperationStatistics;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@code StatisticsUseCase} class implements the {@link OperationStatisticsPort} interface
+ * to handle the use case of retrieving the aggregate statistics of the calculated operations.
+ * The aggregates are maintained by the {@link OperationStatisticsRecorder} as {@link CalculateUseCase}
+ * calculates the operations, rather than computed from the persisted operation results.
+ */
+public class StatisticsUseCase implements OperationStatisticsPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsUseCase.class);
+    private final OperationStatisticsRecorder recorder;
+
+    /**
+     * Constructs a new instance of {@code StatisticsUseCase} with the given statistics recorder.
+     *
+     * @param recorder The {@link OperationStatisticsRecorder} maintaining the aggregates.
+     */
+    public StatisticsUseCase(OperationStatisticsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Retrieves the aggregates of the operations calculated since the application started.
+     *
+     * @return The {@link OperationStatistics} of the calculated operations.
+     * @throws CustomException If an error occurs while reading the aggregates.
+     */
+    @Override
+    @Timed(value = "operation.usecase", histogram = true)
+    public OperationStatistics getStatistics() {
+        try {
+            logger.info("Fetching operation statistics");
+            return recorder.snapshot();
+        } catch (Exception e) {
+            logger.error("Error fetching operation statistics", e);
+            throw new CustomException(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.maxintegersolver.application.usecase.reactive;
+
+import com.example.maxintegersolver.application.port.in.reactive.ReactiveOperationCalculatorPort;
+import com.example.maxintegersolver.application.port.out.OperationResultCache;
+import com.example.maxintegersolver.application.port.out.reactive.ReactiveOperationStorageRepository;
+import com.example.maxintegersolver.application.usecase.CalculateUseCase;
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.service.OperationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * The {@code ReactiveCalculateUseCase} class implements the {@link ReactiveOperationCalculatorPort}
+ * interface with the same rules as {@link CalculateUseCase}: results are solved by the
+ * {@link OperationService}, memoized in the {@link OperationResultCache} and persisted through the
+ * {@link ReactiveOperationStorageRepository}. The calculation itself takes nanoseconds and runs on
+ * the calling thread; only the persistence is asynchronous.
+ */
+public class ReactiveCalculateUseCase implements ReactiveOperationCalculatorPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCalculateUseCase.class);
+    private final OperationService service;
+    private final ReactiveOperationStorageRepository repository;
+    private final OperationResultCache cache;
+
+    /**
+     * Constructs a new instance of {@code ReactiveCalculateUseCase} with the given domain service,
+     * reactive storage repository and result cache.
+     *
+     * @param service    The domain service responsible for performing the calculation logic.
+     * @param repository The reactive storage repository used for persisting operation results.
+     * @param cache      The cache memoizing the results of repeated operations.
+     */
+    public ReactiveCalculateUseCase(OperationService service, ReactiveOperationStorageRepository repository, OperationResultCache cache) {
+        this.service = service;
+        this.repository = repository;
+        this.cache = cache;
+    }
+
+    /**
+     * Performs the calculation of the maximum non-negative integer k based on the input
+     * parameters x, y, and n provided in the {@link OperationDomain}, following the same
+     * caching and persistence policy as {@link CalculateUseCase#calculate(OperationDomain)}.
+     *
+     * @param domain An instance of {@link OperationDomain} containing the input parameters.
+     * @return A {@link Mono} emitting the {@link OperationDomain} with the calculation result,
+     *         or failing with a {@link CustomException} if the calculation or persistence fails.
+     */
+    @Override
+    public Mono<OperationDomain> calculate(OperationDomain domain) {
+        return Mono.defer(() -> {
+            logger.info("Calculating in ReactiveCalculateUseCase with the following data: {}", domain);
+            long x = domain.getX();
+            long y = domain.getY();
+            long n = domain.getN();
+            OptionalLong cached = cache.get(x, y, n);
+            if (cached.isPresent()) {
+                domain.setResult(cached.getAsLong());
+                if (!cache.persistHits()) {
+                    return Mono.just(OperationDomain.builder()
+                            .result(cached.getAsLong())
+                            .build());
+                }
+            } else {
+                Long result = service.calculateMaxK(domain);
+                cache.put(x, y, n, result);
+                domain.setResult(result);
+            }
+            return repository.save(domain)
+                    .map(savedDomain -> OperationDomain.builder()
+                            .result(savedDomain.getResult())
+                            .build());
+        }).onErrorMap(e -> {
+            if (e instanceof StacklessCustomException) {
+                logger.info("Operation rejected in ReactiveCalculateUseCase: {}", e.getMessage());
+                return StacklessCustomException.of(SPError.OPERATION_USE_CASE_ERROR_CALCULATE);
+            }
+            logger.error("Error in ReactiveCalculateUseCase during calculation", e);
+            return new CustomException(SPError.OPERATION_USE_CASE_ERROR_CALCULATE.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_CALCULATE.getErrorMessage(), e.getCause());
+        });
+    }
+
+    /**
+     * Performs the calculation of the maximum non-negative integer k for a batch of operations,
+     * solving the whole batch in a single pass and persisting it in one round trip.
+     *
+     * @param domains The {@link OperationDomain} instances containing the input parameters.
+     * @return A {@link Mono} emitting the persisted {@link OperationDomain} instances with their
+     *         calculation results, in the same order as the input, or failing with a {@link CustomException}.
+     */
+    @Override
+    public Mono<List<OperationDomain>> calculateBatch(List<OperationDomain> domains) {
+        return Mono.defer(() -> {
+            int size = domains.size();
+            logger.info("Calculating batch of {} operations in ReactiveCalculateUseCase", size);
+            long[] x = new long[size];
+            long[] y = new long[size];
+            long[] n = new long[size];
+            long[] results = new long[size];
+            for (int i = 0; i < size; i++) {
+                OperationDomain domain = domains.get(i);
+                x[i] = domain.getX();
+                y[i] = domain.getY();
+                n[i] = domain.getN();
+            }
+
+            service.calculateMaxK(x, y, n, results);
+
+            for (int i = 0; i < size; i++) {
+                domains.get(i).setResult(results[i]);
+            }
+            return repository.saveAll(domains).collectList();
+        }).onErrorMap(e -> {
+            if (e instanceof StacklessCustomException) {
+                logger.info("Batch rejected in ReactiveCalculateUseCase: {}", e.getMessage());
+                return StacklessCustomException.of(SPError.OPERATION_USE_CASE_ERROR_BATCH);
+            }
+            logger.error("Error in ReactiveCalculateUseCase during batch calculation", e);
+            return new CustomException(SPError.OPERATION_USE_CASE_ERROR_BATCH.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_BATCH.getErrorMessage(), e);
+        });
+    }
+}
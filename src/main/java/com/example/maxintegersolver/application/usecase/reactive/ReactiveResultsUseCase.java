@@ -0,0 +1,64 @@
+package com.example.maxintegersolver.application.usecase.reactive;
+
+import com.example.maxintegersolver.application.port.in.reactive.ReactiveOperationResultsPort;
+import com.example.maxintegersolver.application.port.out.reactive.ReactiveOperationStorageRepository;
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@code ReactiveResultsUseCase} class implements the {@link ReactiveOperationResultsPort}
+ * interface to retrieve the results of all performed operations through the
+ * {@link ReactiveOperationStorageRepository}.
+ */
+public class ReactiveResultsUseCase implements ReactiveOperationResultsPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveResultsUseCase.class);
+    private final ReactiveOperationStorageRepository repository;
+
+    /**
+     * Constructs a new instance of {@code ReactiveResultsUseCase}.
+     *
+     * @param repository The {@link ReactiveOperationStorageRepository} used to retrieve operation results.
+     */
+    public ReactiveResultsUseCase(ReactiveOperationStorageRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Retrieves every persisted {@link OperationDomain} result, in storage order.
+     *
+     * @return A {@link Flux} emitting the stored results, or failing with a {@link CustomException}.
+     */
+    @Override
+    public Flux<OperationDomain> getResults() {
+        logger.info("Fetching all operation results");
+        return this.repository.getAll()
+                .onErrorMap(e -> {
+                    logger.error("Error fetching operation results", e);
+                    return new CustomException(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorMessage(), e);
+                });
+    }
+
+    /**
+     * Retrieves a page of persisted {@link OperationDomain} results using keyset pagination.
+     *
+     * @param afterId The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit   The maximum number of results of the page.
+     * @return A {@link Mono} emitting the {@link OperationPage}, or failing with a {@link CustomException}.
+     */
+    @Override
+    public Mono<OperationPage> getResults(Long afterId, int limit) {
+        logger.info("Fetching {} operation results after id {}", limit, afterId);
+        return this.repository.getPage(afterId, limit)
+                .onErrorMap(e -> {
+                    logger.error("Error fetching operation results page", e);
+                    return new CustomException(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorMessage(), e);
+                });
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.maxintegersolver.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties class for the kernel solving the batches of operations.
+ * This class binds the properties prefixed with 'operation.batch-kernel' from the application configuration.
+ *
+ * <p>The {@code type} selects the kernel; see {@link BatchKernelType} and {@link KernelConfig}.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "operation.batch-kernel")
+public class BatchKernelConfig {
+
+    private BatchKernelType type = BatchKernelType.AUTO;
+}
@@ -0,0 +1,30 @@
+package com.example.maxintegersolver.config;
+
+/**
+ * The kernels that can solve the ranges of the batches of operations.
+ */
+public enum BatchKernelType {
+
+    /**
+     * The vector kernel when the {@code jdk.incubator.vector} module is present, and the scalar kernel otherwise.
+     */
+    AUTO,
+
+    /**
+     * The kernel solving one operation at a time, available on every runtime.
+     */
+    SCALAR,
+
+    /**
+     * The kernel replacing the division by a multiplication with cached reciprocals of the moduli that
+     * repeat, available on every runtime. It pays off when batches share a modulus or a few moduli
+     * dominate the traffic.
+     */
+    RECIPROCAL,
+
+    /**
+     * The kernel solving several operations at a time with the Vector API. The application fails at
+     * startup when the {@code jdk.incubator.vector} module is not present.
+     */
+    VECTOR
+}
@@ -0,0 +1,76 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.adapter.cli.BulkFileSolver;
+import com.example.maxintegersolver.adapter.cli.BulkFormat;
+import com.example.maxintegersolver.adapter.cli.BulkSolveRunner;
+import com.example.maxintegersolver.application.port.in.OperationBulkSolverPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Configuration class for the command-line bulk solver.
+ *
+ * <p>When the property {@code operation.bulk.input} is set, a {@link BulkSolveRunner} solving that file
+ * is registered, and the application exits once it finishes. It is meant to be combined with the
+ * {@code bulk} profile, which starts the application without a web server.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(BulkFileConfig.class)
+public class BulkConfig {
+
+    private static final String DEFAULT_OUTPUT_SUFFIX = ".out";
+
+    private final BulkFileConfig bulkFileConfig;
+
+    /**
+     * Constructor for {@link BulkConfig}, initializing it with the specified {@link BulkFileConfig}.
+     *
+     * @param bulkFileConfig The configuration properties for the bulk solver.
+     */
+    public BulkConfig(BulkFileConfig bulkFileConfig) {
+        this.bulkFileConfig = bulkFileConfig;
+    }
+
+    /**
+     * Creates the runner of the bulk solving job.
+     *
+     * @param solverPort Port for solving and loading the operations.
+     * @return The bulk solving runner.
+     * @throws IllegalArgumentException If the configured chunk size is not positive or does not fit in an {@code int}.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "operation.bulk", name = "input")
+    public BulkSolveRunner bulkSolveRunner(OperationBulkSolverPort solverPort) {
+        Path input = Paths.get(bulkFileConfig.getInput());
+        Path output = bulkFileConfig.getOutput() == null
+                ? Paths.get(bulkFileConfig.getInput() + DEFAULT_OUTPUT_SUFFIX)
+                : Paths.get(bulkFileConfig.getOutput());
+        BulkFormat format = bulkFileConfig.getFormat();
+        if (format == null) {
+            format = input.getFileName().toString().toLowerCase().endsWith(".csv") ? BulkFormat.CSV : BulkFormat.BINARY;
+        }
+        int parallelism = bulkFileConfig.getParallelism() > 0
+                ? bulkFileConfig.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        BulkFileSolver solver = new BulkFileSolver(solverPort, chunkSize(), parallelism, bulkFileConfig.isLoad());
+        return new BulkSolveRunner(solver, input, output, format);
+    }
+
+    /**
+     * Returns the configured chunk size in bytes, rejecting a size that the solver cannot address.
+     */
+    private int chunkSize() {
+        DataSize chunkSize = bulkFileConfig.getChunkSize();
+        if (chunkSize.toBytes() <= 0 || chunkSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The property operation.bulk.chunk-size must be between 1 byte and "
+                    + Integer.MAX_VALUE + " bytes: " + chunkSize);
+        }
+        return (int) chunkSize.toBytes();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.adapter.cli.BulkFormat;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties class for the command-line bulk solver.
+ * This class binds the properties prefixed with 'operation.bulk' from the application configuration.
+ *
+ * <p>When {@code input} is set, the application solves that file and exits; see {@link BulkConfig}.
+ * The output defaults to the input path followed by {@code .out}, the format is inferred from the
+ * extension of the input when it is not set, and a {@code parallelism} of 0 uses every available
+ * processor.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "operation.bulk")
+public class BulkFileConfig {
+
+    private String input;
+    private String output;
+    private BulkFormat format;
+    private boolean load = false;
+    private DataSize chunkSize = DataSize.ofMegabytes(8);
+    private int parallelism = 0;
+}
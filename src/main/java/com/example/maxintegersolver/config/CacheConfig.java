@@ -0,0 +1,65 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.adapter.cache.NoOpOperationResultCache;
+import com.example.maxintegersolver.adapter.cache.OperationCaffeineCache;
+import com.example.maxintegersolver.application.port.out.OperationResultCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the operation result cache.
+ *
+ * <p>When {@code operation.cache.enabled} is true (the default), an {@link OperationCaffeineCache} bounded by
+ * {@code operation.cache.maximum-size} is registered, and its hit, miss and eviction statistics are published
+ * through Micrometer under the cache name {@code operation.results}. Otherwise a {@link NoOpOperationResultCache}
+ * is registered, so the use cases always calculate.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(OperationCacheConfig.class)
+public class CacheConfig {
+
+    private static final String CACHE_NAME = "operation.results";
+
+    private final OperationCacheConfig operationCacheConfig;
+
+    /**
+     * Constructor for {@link CacheConfig}, initializing it with the specified {@link OperationCacheConfig}.
+     *
+     * @param operationCacheConfig The configuration properties for the operation result cache.
+     */
+    public CacheConfig(OperationCacheConfig operationCacheConfig) {
+        this.operationCacheConfig = operationCacheConfig;
+    }
+
+    /**
+     * Creates the bounded Caffeine result cache and binds its statistics to the meter registry.
+     *
+     * @param meterRegistry The registry where the cache metrics are published.
+     * @return The cache adapter.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "operation.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OperationResultCache operationCaffeineCache(MeterRegistry meterRegistry) {
+        OperationCaffeineCache cache = new OperationCaffeineCache(
+                operationCacheConfig.getMaximumSize(),
+                operationCacheConfig.getExpireAfterAccess(),
+                operationCacheConfig.isPersistHits());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.getNativeCache(), CACHE_NAME);
+        return cache;
+    }
+
+    /**
+     * Creates the cache used when caching is disabled.
+     *
+     * @return The no-op cache adapter.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "operation.cache", name = "enabled", havingValue = "false")
+    public OperationResultCache noOpOperationResultCache() {
+        return new NoOpOperationResultCache();
+    }
+}
@@ -5,6 +5,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * Configuration properties class for H2 DataSource.
  * This class is used to bind the properties prefixed with 'spring.datasource' from the application configuration
@@ -16,6 +18,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * <p>This configuration class is particularly useful for setting up and customizing the H2 database connection,
  * which is an in-memory database often used for development and testing purposes.</p>
  *
+ * <p>The nested {@link Pool} properties, bound from 'spring.datasource.pool', size and tune the connection pool
+ * created by {@link H2Config}.</p>
+ *
  * <p>Note: The fields in this class should match the properties defined with the 'spring.datasource' prefix
  * in the application configuration files.</p>
  */
@@ -29,6 +34,25 @@ public class DataSourceH2Config {
     private String driverClassName;
     private String username;
     private String password;
+    private Pool pool = new Pool();
+
+    /**
+     * Connection pool properties bound from 'spring.datasource.pool'.
+     * A zero {@code leakDetectionThreshold} disables leak detection, and {@code statementCacheSize}
+     * is the number of parsed statements H2 keeps per connection.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Pool {
 
-    // Additional methods or logic can be added here if necessary for advanced configuration.
+        private String name = "operation-pool";
+        private int maximumPoolSize = 20;
+        private int minimumIdle = 5;
+        private Duration connectionTimeout = Duration.ofSeconds(5);
+        private Duration idleTimeout = Duration.ofMinutes(10);
+        private Duration maxLifetime = Duration.ofMinutes(30);
+        private Duration leakDetectionThreshold = Duration.ZERO;
+        private int statementCacheSize = 256;
+    }
 }
@@ -1,10 +1,10 @@
 package com.example.maxintegersolver.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import javax.sql.DataSource;
 
@@ -15,8 +15,10 @@ import javax.sql.DataSource;
  * <p>By enabling {@link EnableConfigurationProperties} with {@link DataSourceH2Config},
  * this class leverages the properties defined in {@link DataSourceH2Config} to configure the database connection.</p>
  *
- * <p>The method {@link #dataSource()} constructs and configures a {@link DriverManagerDataSource} instance
- * using the properties from {@link DataSourceH2Config}, thereby setting up the connection details for the H2 database.</p>
+ * <p>The method {@link #dataSource()} constructs and configures a pooled {@link HikariDataSource} instance
+ * using the properties from {@link DataSourceH2Config}, so physical connections are reused across transactions
+ * instead of being opened for every one of them. The pool statistics are published through Micrometer
+ * by the actuator auto-configuration under the {@code hikaricp} metrics.</p>
  *
  * <p>This setup is essential for applications using an H2 database, particularly for development and testing environments,
  * where an in-memory or file-based lightweight database is preferable.</p>
@@ -25,6 +27,11 @@ import javax.sql.DataSource;
 @EnableConfigurationProperties(DataSourceH2Config.class)
 public class H2Config {
 
+    /**
+     * H2 connection setting holding the number of parsed statements cached per session.
+     */
+    private static final String QUERY_CACHE_SIZE = "QUERY_CACHE_SIZE";
+
     private final DataSourceH2Config dataSourceH2Config;
 
     /**
@@ -37,18 +44,28 @@ public class H2Config {
     }
 
     /**
-     * Creates and configures a {@link DataSource} bean for the H2 database.
+     * Creates and configures a pooled {@link DataSource} bean for the H2 database.
      * The {@link DataSource} is configured based on the properties provided in {@link DataSourceH2Config}.
      *
      * @return Configured {@link DataSource} instance for the H2 database.
      */
-    @Bean
-    public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(dataSourceH2Config.getDriverClassName());
-        dataSource.setUrl(dataSourceH2Config.getUrl());
-        dataSource.setUsername(dataSourceH2Config.getUsername());
-        dataSource.setPassword(dataSourceH2Config.getPassword());
-        return dataSource;
+    @Bean(destroyMethod = "close")
+    public HikariDataSource dataSource() {
+        DataSourceH2Config.Pool pool = dataSourceH2Config.getPool();
+
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(dataSourceH2Config.getDriverClassName());
+        config.setJdbcUrl(dataSourceH2Config.getUrl());
+        config.setUsername(dataSourceH2Config.getUsername());
+        config.setPassword(dataSourceH2Config.getPassword());
+        config.setPoolName(pool.getName());
+        config.setMaximumPoolSize(pool.getMaximumPoolSize());
+        config.setMinimumIdle(pool.getMinimumIdle());
+        config.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        config.setIdleTimeout(pool.getIdleTimeout().toMillis());
+        config.setMaxLifetime(pool.getMaxLifetime().toMillis());
+        config.setLeakDetectionThreshold(pool.getLeakDetectionThreshold().toMillis());
+        config.addDataSourceProperty(QUERY_CACHE_SIZE, String.valueOf(pool.getStatementCacheSize()));
+        return new HikariDataSource(config);
     }
 }
@@ -0,0 +1,60 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.domain.service.BatchKernel;
+import com.example.maxintegersolver.domain.service.OperationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the kernel solving the batches of operations.
+ *
+ * <p>It registers the {@link BatchKernel} used by the {@link OperationService} for every range of a batch,
+ * selected by the property {@code operation.batch-kernel.type}. The vector kernel is only available when
+ * the application runs with {@code --add-modules jdk.incubator.vector}; see {@link VectorKernels}.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(BatchKernelConfig.class)
+public class KernelConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(KernelConfig.class);
+
+    private final BatchKernelConfig batchKernelConfig;
+
+    /**
+     * Constructor for {@link KernelConfig}, initializing it with the specified {@link BatchKernelConfig}.
+     *
+     * @param batchKernelConfig The configuration properties for the batch kernel.
+     */
+    public KernelConfig(BatchKernelConfig batchKernelConfig) {
+        this.batchKernelConfig = batchKernelConfig;
+    }
+
+    /**
+     * Creates the kernel of the batches of operations.
+     *
+     * @return The selected kernel.
+     */
+    @Bean
+    public BatchKernel batchKernel() {
+        BatchKernel kernel;
+        switch (batchKernelConfig.getType()) {
+            case SCALAR:
+                kernel = BatchKernel.scalar();
+                break;
+            case RECIPROCAL:
+                kernel = BatchKernel.reciprocal();
+                break;
+            case VECTOR:
+                kernel = VectorKernels.require();
+                break;
+            default:
+                kernel = VectorKernels.load().orElseGet(BatchKernel::scalar);
+                break;
+        }
+        logger.info("Solving batches of operations with {}", kernel.getClass().getSimpleName());
+        return kernel;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the application metrics, published through the Prometheus actuator endpoint.
+ *
+ * <p>The {@link TimedAspect} records the {@code @Timed} methods of each layer as timers with percentile
+ * histograms, tagged with their class and method: {@code operation.controller}, {@code operation.usecase}
+ * and {@code operation.adapter}. The domain service is not timed, so that the calculation itself stays free
+ * of proxies and allocations. Validation and serialization are the difference between the
+ * {@code http.server.requests} timer and the controller timer.</p>
+ *
+ * <p>The {@code operation.table.size} gauge reports the number of stored operations, read from the
+ * {@link OperationStorageRepository} every {@value #TABLE_SIZE_REFRESH_SECONDS} seconds rather than on
+ * every scrape; see {@link OperationTableSize}.</p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String TABLE_SIZE = "operation.table.size";
+    private static final long TABLE_SIZE_REFRESH_SECONDS = 30;
+
+    /**
+     * Creates the aspect recording the methods annotated with {@code @Timed}.
+     *
+     * @param meterRegistry The registry where the timers are published.
+     * @return The timed aspect.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Creates the number of stored operations, counted periodically while the context is running.
+     *
+     * @param repository The storage repository counting the operations.
+     * @return The number of stored operations.
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public OperationTableSize operationTableSize(OperationStorageRepository repository) {
+        return new OperationTableSize(repository, Duration.ofSeconds(TABLE_SIZE_REFRESH_SECONDS));
+    }
+
+    /**
+     * Registers the gauge reporting the last counted number of stored operations.
+     *
+     * @param meterRegistry      The registry where the gauge is published.
+     * @param operationTableSize The number of stored operations.
+     * @return The gauge.
+     */
+    @Bean
+    public Gauge operationTableSizeGauge(MeterRegistry meterRegistry, OperationTableSize operationTableSize) {
+        return Gauge.builder(TABLE_SIZE, operationTableSize, OperationTableSize::value)
+                .description("Number of stored operations")
+                .register(meterRegistry);
+    }
+}
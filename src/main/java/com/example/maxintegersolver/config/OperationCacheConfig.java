@@ -0,0 +1,27 @@
+package com.example.maxintegersolver.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties class for the operation result cache.
+ * This class binds the properties prefixed with 'operation.cache' from the application configuration.
+ *
+ * <p>{@code persistHits} decides whether an operation answered from the cache still stores a row, which
+ * keeps the history complete, or skips the database entirely for repeated operations.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "operation.cache")
+public class OperationCacheConfig {
+
+    private boolean enabled = true;
+    private long maximumSize = 100_000;
+    private Duration expireAfterAccess;
+    private boolean persistHits = true;
+}
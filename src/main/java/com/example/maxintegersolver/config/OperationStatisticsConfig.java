@@ -0,0 +1,23 @@
+package com.example.maxintegersolver.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties class for the aggregate statistics of the calculated operations.
+ * This class binds the properties prefixed with 'operation.statistics' from the application configuration.
+ *
+ * <p>{@code maxTrackedModuli} bounds the memory of the count per modulus, since the moduli are chosen
+ * by the clients, and {@code throughputMinutes} is the number of recent minutes whose throughput is kept.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "operation.statistics")
+public class OperationStatisticsConfig {
+
+    private int maxTrackedModuli = 1024;
+    private int throughputMinutes = 60;
+}
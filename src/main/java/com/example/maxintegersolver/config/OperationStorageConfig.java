@@ -0,0 +1,72 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.adapter.log.FsyncPolicy;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties class for the storage of the calculated operations.
+ * This class binds the properties prefixed with 'operation.storage' from the application configuration.
+ *
+ * <p>The {@code type} selects the storage adapter; see {@link StorageConfig}. The {@code columnar}
+ * properties only apply to the {@link StorageType#COLUMNAR} storage, and the {@code log} properties to
+ * the {@link StorageType#LOG} storage.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "operation.storage")
+public class OperationStorageConfig {
+
+    private StorageType type = StorageType.H2;
+    private Columnar columnar = new Columnar();
+    private Log log = new Log();
+
+    /**
+     * Properties of the off-heap columnar storage.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Columnar {
+
+        /**
+         * The size of each segment allocated off-heap, 32 bytes per operation.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(32);
+    }
+
+    /**
+     * Properties of the memory-mapped log storage.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Log {
+
+        /**
+         * The directory of the segment files.
+         */
+        private String directory = "data/operations";
+
+        /**
+         * The size of each segment file, 40 bytes per operation.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * When the appended operations are forced to the storage device.
+         */
+        private FsyncPolicy fsyncPolicy = FsyncPolicy.INTERVAL;
+
+        /**
+         * The interval between forces with the {@link FsyncPolicy#INTERVAL} policy.
+         */
+        private Duration fsyncInterval = Duration.ofMillis(10);
+    }
+}
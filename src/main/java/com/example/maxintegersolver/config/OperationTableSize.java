@@ -0,0 +1,84 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The number of stored operations reported by the {@code operation.table.size} gauge.
+ *
+ * <p>Counting the operations of the H2 storage scans the whole table, so the number is not counted on
+ * every scrape of the metrics but refreshed by a background thread at a fixed interval, and the gauge
+ * reports the last counted value. It is {@code NaN} until the first count finishes, and a failed count
+ * keeps the previous value.</p>
+ */
+public class OperationTableSize {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperationTableSize.class);
+    private static final String REFRESHER_NAME = "operation-table-size";
+
+    private final OperationStorageRepository repository;
+    private final Duration interval;
+    private volatile double value = Double.NaN;
+    private ScheduledExecutorService refresher;
+
+    /**
+     * Creates the table size. The operations are not counted until {@link #start()}.
+     *
+     * @param repository The storage repository counting the operations.
+     * @param interval   The interval between counts.
+     */
+    public OperationTableSize(OperationStorageRepository repository, Duration interval) {
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("The refresh interval of the table size must be positive: " + interval);
+        }
+        this.repository = repository;
+        this.interval = interval;
+    }
+
+    /**
+     * Starts counting the operations at the fixed interval, the first time right away.
+     */
+    public void start() {
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, REFRESHER_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refresh, 0, interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops counting the operations.
+     */
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the last counted number of operations.
+     *
+     * @return The number of stored operations, or {@code NaN} before the first count.
+     */
+    public double value() {
+        return value;
+    }
+
+    /**
+     * Counts the operations, keeping the previous value when the count fails.
+     */
+    void refresh() {
+        try {
+            value = repository.count();
+        } catch (Exception e) {
+            logger.warn("Error counting the stored operations: {}", e.getMessage());
+        }
+    }
+}
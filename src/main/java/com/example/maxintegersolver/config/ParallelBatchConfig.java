@@ -0,0 +1,61 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.domain.service.OperationService;
+import com.example.maxintegersolver.domain.service.ParallelBatchExecutor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Configuration class for the parallel solving of batches of operations.
+ *
+ * <p>It registers the {@link ParallelBatchExecutor} used by the {@link OperationService} for every batch.
+ * When the property {@code operation.parallel-batch.enabled} is true, which is the default, long batches
+ * are split across a dedicated {@link ForkJoinPool} that is shut down with the context;
+ * otherwise every batch is solved by the calling thread.</p>
+ *
+ * <p>The pool is not a bean: an {@code Executor} bean would make Spring Boot back off from creating its
+ * {@code applicationTaskExecutor}, which runs the asynchronous MVC work such as the streamed results.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ParallelBatchPoolConfig.class)
+public class ParallelBatchConfig {
+
+    private static final String THREAD_PREFIX = "operation-batch-";
+
+    private final ParallelBatchPoolConfig parallelBatchPoolConfig;
+
+    /**
+     * Constructor for {@link ParallelBatchConfig}, initializing it with the specified {@link ParallelBatchPoolConfig}.
+     *
+     * @param parallelBatchPoolConfig The configuration properties for the parallel solving of batches.
+     */
+    public ParallelBatchConfig(ParallelBatchPoolConfig parallelBatchPoolConfig) {
+        this.parallelBatchPoolConfig = parallelBatchPoolConfig;
+    }
+
+    /**
+     * Creates the executor of the batches of operations, together with its pool when the parallel solving
+     * is enabled. The pool is shut down with the executor.
+     *
+     * @return The parallel executor when the parallel solving is enabled, and the sequential executor otherwise.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ParallelBatchExecutor parallelBatchExecutor() {
+        if (!parallelBatchPoolConfig.isEnabled()) {
+            return ParallelBatchExecutor.sequential();
+        }
+        int parallelism = parallelBatchPoolConfig.getParallelism() > 0
+                ? parallelBatchPoolConfig.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName(THREAD_PREFIX + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        return new ParallelBatchExecutor(pool, parallelBatchPoolConfig.getThreshold());
+    }
+}
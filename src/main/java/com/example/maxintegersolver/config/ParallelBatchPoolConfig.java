@@ -0,0 +1,30 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.adapter.controller.model.OperationBatchRequest;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties class for the parallel solving of batches of operations.
+ * This class binds the properties prefixed with 'operation.parallel-batch' from the application configuration.
+ *
+ * <p>When {@code enabled} is true, batches of at least {@code threshold} operations are split across a
+ * fork-join pool of {@code parallelism} workers, 0 meaning one per available processor; see
+ * {@link ParallelBatchConfig}.</p>
+ *
+ * <p>The default threshold is below the limit of {@value OperationBatchRequest#MAX_BATCH_SIZE} operations of
+ * the JSON and binary batches, so their longest batches are split; a threshold above that limit
+ * disables the split for every request.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "operation.parallel-batch")
+public class ParallelBatchPoolConfig {
+
+    private boolean enabled = true;
+    private int parallelism = 0;
+    private int threshold = 4096;
+}
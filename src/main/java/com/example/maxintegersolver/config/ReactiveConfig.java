@@ -0,0 +1,123 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.application.port.out.OperationResultCache;
+import com.example.maxintegersolver.application.port.out.reactive.ReactiveOperationStorageRepository;
+import com.example.maxintegersolver.application.usecase.reactive.ReactiveCalculateUseCase;
+import com.example.maxintegersolver.application.usecase.reactive.ReactiveResultsUseCase;
+import com.example.maxintegersolver.domain.service.OperationService;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Configuration class for the reactive stack, active only when the application runs as a reactive
+ * web application (the {@code reactive} profile).
+ *
+ * <p>It creates a pooled R2DBC {@link ConnectionFactory} for the same H2 database configured in
+ * {@link DataSourceH2Config}: the JDBC url is reused without its {@code jdbc:h2:} prefix and the pool is
+ * sized with the same 'spring.datasource.pool' properties. The schema is still created by JPA, so the
+ * reactive adapter works on the tables and sequences the blocking adapter already uses.</p>
+ *
+ * <p>A Netty server is registered explicitly, since Tomcat is also on the classpath for the servlet stack
+ * and would otherwise be picked first.</p>
+ *
+ * <p>The reactive use cases are registered here instead of through {@link UsesCasesConfig},
+ * since they depend on beans that only exist on the reactive stack.</p>
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(DataSourceH2Config.class)
+public class ReactiveConfig {
+
+    private static final String JDBC_H2_PREFIX = "jdbc:h2:";
+
+    private final DataSourceH2Config dataSourceH2Config;
+
+    /**
+     * Constructor for {@link ReactiveConfig}, initializing it with the specified {@link DataSourceH2Config}.
+     *
+     * @param dataSourceH2Config The configuration properties for the H2 database.
+     */
+    public ReactiveConfig(DataSourceH2Config dataSourceH2Config) {
+        this.dataSourceH2Config = dataSourceH2Config;
+    }
+
+    /**
+     * Creates the Netty web server factory, so requests are served by the Netty event loop.
+     *
+     * @return The Netty reactive web server factory.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory reactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Creates the pooled R2DBC connection factory for the H2 database.
+     *
+     * @return The connection pool.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory() {
+        String url = dataSourceH2Config.getUrl();
+        H2ConnectionConfiguration.Builder h2 = H2ConnectionConfiguration.builder()
+                .url(url.startsWith(JDBC_H2_PREFIX) ? url.substring(JDBC_H2_PREFIX.length()) : url)
+                .username(dataSourceH2Config.getUsername());
+        if (dataSourceH2Config.getPassword() != null) {
+            h2.password(dataSourceH2Config.getPassword());
+        }
+
+        DataSourceH2Config.Pool pool = dataSourceH2Config.getPool();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(new H2ConnectionFactory(h2.build()))
+                .name(pool.getName() + "-r2dbc")
+                .initialSize(pool.getMinimumIdle())
+                .maxSize(pool.getMaximumPoolSize())
+                .maxAcquireTime(pool.getConnectionTimeout())
+                .maxIdleTime(pool.getIdleTimeout())
+                .maxLifeTime(pool.getMaxLifetime())
+                .build());
+    }
+
+    /**
+     * Creates the reactive database client used by the R2DBC storage adapter.
+     *
+     * @param connectionFactory The pooled connection factory.
+     * @return The database client.
+     */
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Creates the reactive calculation use case.
+     *
+     * @param service    The domain service performing the calculation.
+     * @param repository The reactive storage repository.
+     * @param cache      The operation result cache.
+     * @return The reactive calculation use case.
+     */
+    @Bean
+    public ReactiveCalculateUseCase reactiveCalculateUseCase(OperationService service, ReactiveOperationStorageRepository repository, OperationResultCache cache) {
+        return new ReactiveCalculateUseCase(service, repository, cache);
+    }
+
+    /**
+     * Creates the reactive results use case.
+     *
+     * @param repository The reactive storage repository.
+     * @return The reactive results use case.
+     */
+    @Bean
+    public ReactiveResultsUseCase reactiveResultsUseCase(ReactiveOperationStorageRepository repository) {
+        return new ReactiveResultsUseCase(repository);
+    }
+}
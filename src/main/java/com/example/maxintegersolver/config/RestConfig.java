@@ -1,12 +1,19 @@
 package com.example.maxintegersolver.config;
 
+import com.example.maxintegersolver.adapter.controller.OperationResponseHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Configuration class for REST API settings.
@@ -39,4 +46,27 @@ public class RestConfig {
         source.registerCorsConfiguration("/**", config); // Apply these settings to all paths.
         return new CorsFilter(source);
     }
+
+    /**
+     * Registers the {@link OperationResponseHttpMessageConverter} ahead of the Jackson converter, so
+     * successful operation responses are written from pre-encoded fragments.
+     *
+     * <p>It is enabled unless {@code operation.response.pre-encoded} is false. Disable it when the JSON
+     * output is customized through the {@code spring.jackson} properties, since the pre-encoded
+     * fragments follow the default serialization.</p>
+     *
+     * @param objectMapper The mapper used for the responses that cannot be pre-encoded.
+     * @return the {@link WebMvcConfigurer} adding the converter
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "operation.response", name = "pre-encoded", havingValue = "true", matchIfMissing = true)
+    public WebMvcConfigurer operationResponseConverterConfigurer(ObjectMapper objectMapper) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.add(0, new OperationResponseHttpMessageConverter(objectMapper));
+            }
+        };
+    }
 }
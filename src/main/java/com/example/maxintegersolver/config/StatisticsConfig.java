@@ -0,0 +1,45 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.adapter.statistics.StripedOperationStatisticsRecorder;
+import com.example.maxintegersolver.application.port.out.OperationStatisticsRecorder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Configuration class for the aggregate statistics of the calculated operations.
+ *
+ * <p>It registers a {@link StripedOperationStatisticsRecorder}, updated by the calculation use case on every
+ * calculated operation and read by the statistics endpoint. The statistics are kept in memory, so they cover
+ * the operations calculated since the application started.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(OperationStatisticsConfig.class)
+public class StatisticsConfig {
+
+    private final OperationStatisticsConfig operationStatisticsConfig;
+
+    /**
+     * Constructor for {@link StatisticsConfig}, initializing it with the specified {@link OperationStatisticsConfig}.
+     *
+     * @param operationStatisticsConfig The configuration properties for the operation statistics.
+     */
+    public StatisticsConfig(OperationStatisticsConfig operationStatisticsConfig) {
+        this.operationStatisticsConfig = operationStatisticsConfig;
+    }
+
+    /**
+     * Creates the recorder maintaining the aggregates of the calculated operations.
+     *
+     * @return The statistics recorder adapter.
+     */
+    @Bean
+    public OperationStatisticsRecorder operationStatisticsRecorder() {
+        return new StripedOperationStatisticsRecorder(
+                operationStatisticsConfig.getMaxTrackedModuli(),
+                operationStatisticsConfig.getThroughputMinutes(),
+                Clock.systemUTC());
+    }
+}
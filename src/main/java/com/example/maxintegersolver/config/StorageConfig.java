@@ -0,0 +1,89 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.adapter.columnar.ColumnarOperationAdapter;
+import com.example.maxintegersolver.adapter.h2.OperationH2Adapter;
+import com.example.maxintegersolver.adapter.log.OperationLogAdapter;
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Paths;
+
+/**
+ * Configuration class for the storage of the calculated operations.
+ *
+ * <p>The property {@code operation.storage.type} selects the {@link OperationStorageRepository} used by
+ * the use cases: the {@link OperationH2Adapter} by default, or one of the adapters registered here, the
+ * off-heap {@link ColumnarOperationAdapter} when it is {@code COLUMNAR} and the memory-mapped
+ * {@link OperationLogAdapter} when it is {@code LOG}. Only the selected adapter is created, and the
+ * write-behind decorator wraps whichever it is; see {@link WriteBehindConfig}.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(OperationStorageConfig.class)
+public class StorageConfig {
+
+    private final OperationStorageConfig operationStorageConfig;
+
+    /**
+     * Constructor for {@link StorageConfig}, initializing it with the specified {@link OperationStorageConfig}.
+     *
+     * @param operationStorageConfig The configuration properties for the storage of the operations.
+     */
+    public StorageConfig(OperationStorageConfig operationStorageConfig) {
+        this.operationStorageConfig = operationStorageConfig;
+    }
+
+    /**
+     * Creates the off-heap columnar storage adapter.
+     *
+     * @return The columnar storage adapter.
+     * @throws IllegalArgumentException If the configured segment size holds no row or more rows than a segment can.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "operation.storage", name = "type", havingValue = "COLUMNAR")
+    public ColumnarOperationAdapter columnarOperationAdapter() {
+        return new ColumnarOperationAdapter(segmentRows("operation.storage.columnar.segment-size",
+                operationStorageConfig.getColumnar().getSegmentSize(), ColumnarOperationAdapter.ROW_SIZE));
+    }
+
+    /**
+     * Creates the memory-mapped log storage adapter. Its segments are recovered when the context starts,
+     * and its pending records are forced when the context is closed.
+     *
+     * @return The log storage adapter.
+     * @throws IllegalArgumentException If the configured segment size holds no record or more records than a segment can.
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "operation.storage", name = "type", havingValue = "LOG")
+    public OperationLogAdapter operationLogAdapter() {
+        OperationStorageConfig.Log log = operationStorageConfig.getLog();
+        return new OperationLogAdapter(
+                Paths.get(log.getDirectory()),
+                segmentRows("operation.storage.log.segment-size", log.getSegmentSize(), OperationLogAdapter.RECORD_SIZE),
+                log.getFsyncPolicy(),
+                log.getFsyncInterval());
+    }
+
+    /**
+     * Converts a configured segment size into its number of rows. The number is not adjusted, so the
+     * application fails to start when the size holds no row, and the adapter rejects a size holding more
+     * rows than a segment can.
+     *
+     * @param property The name of the property the size is configured by.
+     * @param size     The configured segment size.
+     * @param rowSize  The number of bytes of each row.
+     * @return The number of rows of each segment.
+     * @throws IllegalArgumentException If the size holds no row or more rows than fit in an {@code int}.
+     */
+    private static int segmentRows(String property, DataSize size, int rowSize) {
+        long rows = size.toBytes() / rowSize;
+        if (rows <= 0 || rows > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The property " + property + " must hold between 1 and "
+                    + Integer.MAX_VALUE + " rows of " + rowSize + " bytes: " + size);
+        }
+        return (int) rows;
+    }
+}
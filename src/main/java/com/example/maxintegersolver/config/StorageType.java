@@ -0,0 +1,22 @@
+package com.example.maxintegersolver.config;
+
+/**
+ * The implementations of the storage of the calculated operations.
+ */
+public enum StorageType {
+
+    /**
+     * Rows of the H2 database, through JPA.
+     */
+    H2,
+
+    /**
+     * Append-only columnar segments allocated off-heap, kept in memory.
+     */
+    COLUMNAR,
+
+    /**
+     * Append-only log of checksummed records in memory-mapped segment files, recovered on startup.
+     */
+    LOG
+}
@@ -0,0 +1,70 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.adapter.tcp.OperationTcpServer;
+import com.example.maxintegersolver.application.port.in.OperationCalculatorPort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuration class for the optional TCP listener of the calculation.
+ *
+ * <p>When the property {@code operation.tcp.enabled} is true, an {@link OperationTcpServer} dispatching
+ * to the {@link OperationCalculatorPort} is registered. Being a lifecycle bean, it starts listening once
+ * the context is refreshed and closes its connections when the context is closed.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(TcpServerConfig.class)
+public class TcpConfig {
+
+    private static final String THREAD_PREFIX = "operation-tcp-";
+
+    private final TcpServerConfig tcpServerConfig;
+
+    /**
+     * Constructor for {@link TcpConfig}, initializing it with the specified {@link TcpServerConfig}.
+     *
+     * @param tcpServerConfig The configuration properties for the TCP listener.
+     */
+    public TcpConfig(TcpServerConfig tcpServerConfig) {
+        this.tcpServerConfig = tcpServerConfig;
+    }
+
+    /**
+     * Creates the TCP listener of the calculation.
+     *
+     * The acceptor and every connection run on threads of the {@code backgroundThreadFactory} bean when
+     * it exists, such as virtual threads, and on dedicated daemon threads otherwise.
+     *
+     * @param calculatePort Port for operation calculations.
+     * @param backgroundThreadFactory The optional factory of background threads.
+     * @return The TCP server.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "operation.tcp", name = "enabled", havingValue = "true")
+    public OperationTcpServer operationTcpServer(OperationCalculatorPort calculatePort,
+                                                 ObjectProvider<ThreadFactory> backgroundThreadFactory) {
+        ThreadFactory threadFactory = backgroundThreadFactory.getIfAvailable(TcpConfig::daemonThreadFactory);
+        return new OperationTcpServer(
+                calculatePort,
+                tcpServerConfig.getHost(),
+                tcpServerConfig.getPort(),
+                tcpServerConfig.getBacklog(),
+                tcpServerConfig.getMaxConnections(),
+                threadFactory);
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.maxintegersolver.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties class for the TCP listener of the calculation.
+ * This class binds the properties prefixed with 'operation.tcp' from the application configuration.
+ *
+ * <p>When {@code enabled} is true, an
+ * {@link com.example.maxintegersolver.adapter.tcp.OperationTcpServer} is started alongside the
+ * application; see {@link TcpConfig}.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "operation.tcp")
+public class TcpServerConfig {
+
+    private boolean enabled = false;
+    private String host = "0.0.0.0";
+    private int port = 9090;
+    private int backlog = 128;
+    private int maxConnections = 256;
+}
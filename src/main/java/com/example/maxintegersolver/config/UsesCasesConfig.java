@@ -14,10 +14,14 @@ import org.springframework.context.annotation.FilterType;
  *
  * <p>Note: The use of custom filters here is to maintain adherence to the Domain-Driven Design (DDD) principles,
  * where only classes named with 'UseCase' suffix are considered for dependency injection.</p>
+ *
+ * <p>The reactive use cases of the 'application.usecase.reactive' package are excluded, since they are only
+ * registered by {@link ReactiveConfig} when the application runs on the reactive stack.</p>
  */
 @Configuration
 @ComponentScan(basePackages = "com.example.maxintegersolver.application.usecase",
         includeFilters = {@ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+UseCase$")},
+        excludeFilters = {@ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+\\.reactive\\..+$")},
         useDefaultFilters = false)
 public class UsesCasesConfig {
     // This class does not require additional methods or attributes as its purpose is solely configuration.
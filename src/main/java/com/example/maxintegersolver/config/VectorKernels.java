@@ -0,0 +1,50 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.config.exception.LoadAppException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.service.BatchKernel;
+
+import java.util.Optional;
+
+/**
+ * Access to the vector kernel of the batches from code compiled for Java 11.
+ *
+ * <p>The vector kernel uses the incubating Vector API, so it is compiled for Java 17 in its own source
+ * set and looked up reflectively. It can only be loaded when the application runs on Java 17 or later
+ * with {@code --add-modules jdk.incubator.vector}.</p>
+ */
+final class VectorKernels {
+
+    private static final String VECTOR_KERNEL = "com.example.maxintegersolver.domain.service.VectorBatchKernel";
+
+    private VectorKernels() {
+    }
+
+    /**
+     * Loads the vector kernel when the runtime supports it.
+     *
+     * @return The vector kernel, or empty when the Vector API is not available.
+     */
+    static Optional<BatchKernel> load() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((BatchKernel) Class.forName(VECTOR_KERNEL).getConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Loads the vector kernel, failing when the runtime does not support it.
+     *
+     * @return The vector kernel.
+     * @throws LoadAppException If the Vector API is not available.
+     */
+    static BatchKernel require() {
+        return load().orElseThrow(() -> new LoadAppException(SPError.APP_LOAD_ERROR.getErrorCode(),
+                "The vector kernel requires Java 17 or later with --add-modules jdk.incubator.vector, running on Java "
+                        + Runtime.version().feature()));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.config.exception.LoadAppException;
+import com.example.maxintegersolver.config.exception.SPError;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to the virtual threads of Java 21 from code compiled for Java 11.
+ *
+ * <p>The application is still built for Java 11, so the virtual thread API is looked up reflectively
+ * and only when the virtual thread mode is enabled. Enabling it on an older runtime fails at startup
+ * with a {@link LoadAppException} instead of silently falling back to platform threads.</p>
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @return The virtual thread per task executor.
+     */
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Class.forName("java.util.concurrent.Executors").getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw unsupported(e);
+        }
+    }
+
+    /**
+     * Creates a factory of virtual threads named with the given prefix and an increasing counter.
+     *
+     * @param prefix The prefix of the thread names.
+     * @return The virtual thread factory.
+     */
+    static ThreadFactory newThreadFactory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw unsupported(e);
+        }
+    }
+
+    private static LoadAppException unsupported(Exception e) {
+        return new LoadAppException(SPError.APP_LOAD_ERROR.getErrorCode(),
+                "Virtual threads require Java 21 or later, running on Java " + Runtime.version().feature(), e);
+    }
+}
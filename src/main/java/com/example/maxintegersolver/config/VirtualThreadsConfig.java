@@ -0,0 +1,80 @@
+package com.example.maxintegersolver.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Configuration class for the virtual thread execution mode, active when {@code spring.threads.virtual.enabled}
+ * is true, the same switch later Spring Boot versions use natively. It requires a Java 21 runtime.
+ *
+ * <p>Tomcat hands every request to a new virtual thread instead of a thread of its bounded pool, so a request
+ * blocked on H2, such as the persistence call of the calculation use case, no longer holds one of a fixed
+ * number of threads. The same executor replaces the {@code applicationTaskExecutor} used for asynchronous
+ * MVC work like the streamed results, and the {@code backgroundThreadFactory} bean is used to create
+ * background workers such as the write-behind writer.</p>
+ *
+ * <p>Concurrent database work is still bounded by the size of the connection pool.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    private static final String BACKGROUND_THREAD_PREFIX = "operation-background-";
+    private static final String VIRTUAL_THREAD_EXECUTOR_BEAN_NAME = "virtualThreadExecutor";
+
+    /**
+     * Creates the executor starting a new virtual thread for each task. It is shut down when the context is
+     * closed, once the beans using it have been destroyed.
+     *
+     * @return The virtual thread per task executor.
+     */
+    @Bean(name = VIRTUAL_THREAD_EXECUTOR_BEAN_NAME, destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        return VirtualThreads.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Creates the task executor running each task on a new virtual thread.
+     *
+     * @param virtualThreadExecutor The virtual thread per task executor.
+     * @return The virtual thread task executor.
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor(
+            @Qualifier(VIRTUAL_THREAD_EXECUTOR_BEAN_NAME) ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    /**
+     * Makes Tomcat process every request on the virtual thread task executor.
+     *
+     * @param applicationTaskExecutor The virtual thread task executor.
+     * @return The Tomcat protocol handler customizer.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer(
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor applicationTaskExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(applicationTaskExecutor);
+    }
+
+    /**
+     * Creates the factory of virtual threads for background work.
+     *
+     * @return The background thread factory.
+     */
+    @Bean
+    public ThreadFactory backgroundThreadFactory() {
+        return VirtualThreads.newThreadFactory(BACKGROUND_THREAD_PREFIX);
+    }
+}
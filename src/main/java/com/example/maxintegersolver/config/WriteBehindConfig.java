@@ -0,0 +1,86 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.adapter.columnar.ColumnarOperationAdapter;
+import com.example.maxintegersolver.adapter.h2.OperationH2Adapter;
+import com.example.maxintegersolver.adapter.log.OperationLogAdapter;
+import com.example.maxintegersolver.adapter.writebehind.WriteBehindOperationAdapter;
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Configuration class for the optional write-behind persistence of operations.
+ *
+ * <p>When the property {@code operation.write-behind.enabled} is true, a {@link WriteBehindOperationAdapter}
+ * wrapping the storage adapter selected by {@code operation.storage.type} is registered as the primary
+ * {@link OperationStorageRepository}, so the use cases
+ * enqueue their results instead of waiting for the database. The writer is started with the context and
+ * drains every pending operation when the context is closed.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(WriteBehindQueueConfig.class)
+public class WriteBehindConfig {
+
+    private final WriteBehindQueueConfig writeBehindQueueConfig;
+
+    /**
+     * Constructor for {@link WriteBehindConfig}, initializing it with the specified {@link WriteBehindQueueConfig}.
+     *
+     * @param writeBehindQueueConfig The configuration properties for the write-behind queue.
+     */
+    public WriteBehindConfig(WriteBehindQueueConfig writeBehindQueueConfig) {
+        this.writeBehindQueueConfig = writeBehindQueueConfig;
+    }
+
+    /**
+     * Creates the write-behind decorator of the selected storage adapter.
+     *
+     * The writer runs on a thread of the {@code backgroundThreadFactory} bean when it exists, such as
+     * a virtual thread, and on a dedicated daemon thread otherwise.
+     *
+     * @param operationH2Adapter The H2 storage adapter, when it is the selected one.
+     * @param columnarOperationAdapter The columnar storage adapter, when it is the selected one.
+     * @param operationLogAdapter The log storage adapter, when it is the selected one.
+     * @param backgroundThreadFactory The optional factory of background threads.
+     * @return The write-behind storage adapter.
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @Primary
+    @ConditionalOnProperty(prefix = "operation.write-behind", name = "enabled", havingValue = "true")
+    public WriteBehindOperationAdapter writeBehindOperationAdapter(ObjectProvider<OperationH2Adapter> operationH2Adapter,
+                                                                   ObjectProvider<ColumnarOperationAdapter> columnarOperationAdapter,
+                                                                   ObjectProvider<OperationLogAdapter> operationLogAdapter,
+                                                                   ObjectProvider<ThreadFactory> backgroundThreadFactory) {
+        OperationStorageRepository delegate = columnarOperationAdapter.getIfAvailable();
+        if (delegate == null) {
+            delegate = operationLogAdapter.getIfAvailable();
+        }
+        if (delegate == null) {
+            delegate = operationH2Adapter.getObject();
+        }
+        ThreadFactory threadFactory = backgroundThreadFactory.getIfAvailable();
+        if (threadFactory == null) {
+            return new WriteBehindOperationAdapter(
+                    delegate,
+                    writeBehindQueueConfig.getQueueCapacity(),
+                    writeBehindQueueConfig.getBatchSize(),
+                    writeBehindQueueConfig.getFlushInterval(),
+                    writeBehindQueueConfig.getBackpressurePolicy(),
+                    writeBehindQueueConfig.getShutdownTimeout());
+        }
+        return new WriteBehindOperationAdapter(
+                delegate,
+                writeBehindQueueConfig.getQueueCapacity(),
+                writeBehindQueueConfig.getBatchSize(),
+                writeBehindQueueConfig.getFlushInterval(),
+                writeBehindQueueConfig.getBackpressurePolicy(),
+                writeBehindQueueConfig.getShutdownTimeout(),
+                threadFactory);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.maxintegersolver.config;
+
+import com.example.maxintegersolver.adapter.writebehind.BackpressurePolicy;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties class for the write-behind persistence of operations.
+ * This class binds the properties prefixed with 'operation.write-behind' from the application configuration.
+ *
+ * <p>When {@code enabled} is true, calculated operations are returned before being persisted and are
+ * written in batches by a background writer; see {@link WriteBehindConfig}.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "operation.write-behind")
+public class WriteBehindQueueConfig {
+
+    private boolean enabled = false;
+    private int queueCapacity = 10_000;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofMillis(100);
+    private BackpressurePolicy backpressurePolicy = BackpressurePolicy.CALLER_RUNS;
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
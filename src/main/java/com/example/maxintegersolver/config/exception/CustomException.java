@@ -8,11 +8,15 @@ public class CustomException  extends GenericException {
 
     public CustomException(int errorCode, String message, Throwable cause) {
         super(errorCode, message, cause);
-        logger.error("Exception CustomException: code:{}, message:{}, cause:{}", errorCode, message, cause.getCause());
+        logger.error("Exception CustomException: code:{}, message:{}, cause:{}", errorCode, message, cause == null ? null : cause.getCause());
     }
 
     public CustomException(int errorCode, String message) {
         super(errorCode, message);
         logger.error("Exception CustomException: code:{}, message:{}", errorCode, message);
     }
+
+    protected CustomException(int errorCode, String message, boolean writableStackTrace) {
+        super(errorCode, message, writableStackTrace);
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.maxintegersolver.config.exception;
+
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Counter of the errors of the application by {@link SPError} code.
+ *
+ * <p>Errors are recorded in the global Micrometer registry, to which Spring Boot adds its registries, under
+ * {@value #ERRORS} with the error code as the {@code code} tag. Each layer reports its own codes, so the
+ * counters show where failures originate as well as how they are reported to clients.</p>
+ */
+public final class ErrorMetrics {
+
+    /**
+     * Name of the error counter.
+     */
+    public static final String ERRORS = "operation.errors";
+
+    private static final String CODE_TAG = "code";
+
+    private ErrorMetrics() {
+    }
+
+    /**
+     * Counts an error with the given code.
+     *
+     * @param errorCode The code of the error, usually one of {@link SPError}.
+     */
+    public static void record(int errorCode) {
+        Metrics.counter(ERRORS, CODE_TAG, Integer.toString(errorCode)).increment();
+    }
+}
@@ -15,10 +15,12 @@ import lombok.*;
  *
  * <p>Annotations like {@link JsonNaming} and {@link JsonIgnoreProperties} are used to ensure
  * proper serialization and deserialization of JSON data, adhering to API conventions such as snake_case naming.</p>
+ *
+ * <p>Every error response built with {@link #ErrorResponse(boolean, int, String, Object)} is counted by its
+ * code through {@link ErrorMetrics}.</p>
  */
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 @JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -28,4 +30,20 @@ public class ErrorResponse {
     private int codeStatus;
     private String message;
     private Object data;
+
+    /**
+     * Creates an error response and counts it by its code.
+     *
+     * @param status     The status of the response, typically false.
+     * @param codeStatus The {@link SPError} code of the error.
+     * @param message    The message describing the error.
+     * @param data       Any additional information about the error.
+     */
+    public ErrorResponse(boolean status, int codeStatus, String message, Object data) {
+        this.status = status;
+        this.codeStatus = codeStatus;
+        this.message = message;
+        this.data = data;
+        ErrorMetrics.record(codeStatus);
+    }
 }
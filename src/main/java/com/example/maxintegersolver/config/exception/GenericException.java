@@ -10,6 +10,8 @@ package com.example.maxintegersolver.config.exception;
  *
  * <p>Derived classes can utilize this class to create more specific exceptions with distinct error codes
  * and messages, tailored to various error scenarios encountered in the application.</p>
+ *
+ * <p>Every exception is counted by its error code through {@link ErrorMetrics}.</p>
  */
 public abstract class GenericException extends RuntimeException {
 
@@ -25,6 +27,7 @@ public abstract class GenericException extends RuntimeException {
     public GenericException(int errorCode, String message, Throwable cause) {
         super(message, cause);
         this.errorCode = errorCode;
+        ErrorMetrics.record(errorCode);
     }
 
     /**
@@ -36,6 +39,20 @@ public abstract class GenericException extends RuntimeException {
     public GenericException(int errorCode, String message) {
         super(message);
         this.errorCode = errorCode;
+        ErrorMetrics.record(errorCode);
+    }
+
+    /**
+     * Constructs a new GenericException without a cause, optionally without a stack trace. It is meant for
+     * preallocated instances that are thrown many times, so they are not counted when they are created.
+     *
+     * @param errorCode The error code associated with this exception.
+     * @param message The detailed message for this exception.
+     * @param writableStackTrace Whether the stack trace is filled in.
+     */
+    protected GenericException(int errorCode, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errorCode = errorCode;
     }
 
     /**
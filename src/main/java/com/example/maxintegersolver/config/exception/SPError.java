@@ -24,6 +24,9 @@ package com.example.maxintegersolver.config.exception;
  *     <li>OPERATION_CONTROLLER_ERROR_CALCULATE: Failures in controller layer during calculation processing.</li>
  *     <li>OPERATION_USE_CASE_ERROR_RESULTS: Failures in business logic or operation execution when retrieving results.</li>
  *     <li>OPERATION_CONTROLLER_ERROR_RESULTS: Failures in controller layer when processing result retrieval.</li>
+ *     <li>OPERATION_USE_CASE_ERROR_BATCH: Failures in business logic or operation execution during batch calculation use cases.</li>
+ *     <li>OPERATION_CONTROLLER_ERROR_BATCH: Failures in controller layer during batch calculation processing.</li>
+ *     <li>OPERATION_BULK_ERROR: Malformed input files or invalid operations when solving files in bulk.</li>
  * </ul>
  */
 public enum SPError {
@@ -39,7 +42,10 @@ public enum SPError {
     OPERATION_USE_CASE_ERROR_CALCULATE(1010, "Use case calculation error, indicates failures in business logic or operation execution"),
     OPERATION_CONTROLLER_ERROR_CALCULATE(1011, "Controller calculation error, indicates failures in business logic or operation execution"),
     OPERATION_USE_CASE_ERROR_RESULTS(1012, "Use case results error, indicates failures in business logic or operation execution"),
-    OPERATION_CONTROLLER_ERROR_RESULTS(1013, "Controller results error, indicates failures in business logic or operation execution");
+    OPERATION_CONTROLLER_ERROR_RESULTS(1013, "Controller results error, indicates failures in business logic or operation execution"),
+    OPERATION_USE_CASE_ERROR_BATCH(1014, "Use case batch calculation error, indicates failures in business logic or operation execution"),
+    OPERATION_CONTROLLER_ERROR_BATCH(1015, "Controller batch calculation error, indicates failures in business logic or operation execution"),
+    OPERATION_BULK_ERROR(1016, "Bulk file solving error, indicates malformed input files or invalid operations");
 
     private final int errorCode;
     private final String errorMessage;
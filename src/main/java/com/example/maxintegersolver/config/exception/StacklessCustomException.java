@@ -0,0 +1,41 @@
+package com.example.maxintegersolver.config.exception;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Lightweight {@link CustomException} used to reject invalid operations.
+ *
+ * <p>Rejections are caused by the input of the client, so their stack trace carries no information. There is
+ * one preallocated instance per {@link SPError} without stack trace, cause or suppressed exceptions, so
+ * throwing it costs no allocation and no stack walk. Each call to {@link #of(SPError)} is still counted
+ * through {@link ErrorMetrics}.</p>
+ *
+ * <p>Since the instances are shared, they are immutable: their cause cannot be initialized and
+ * suppressed exceptions are not recorded.</p>
+ */
+public final class StacklessCustomException extends CustomException {
+
+    private static final Map<SPError, StacklessCustomException> INSTANCES = new EnumMap<>(SPError.class);
+
+    static {
+        for (SPError error : SPError.values()) {
+            INSTANCES.put(error, new StacklessCustomException(error));
+        }
+    }
+
+    private StacklessCustomException(SPError error) {
+        super(error.getErrorCode(), error.getErrorMessage(), false);
+    }
+
+    /**
+     * Returns the preallocated exception of the given error and counts it.
+     *
+     * @param error The error being reported.
+     * @return The shared exception of the error.
+     */
+    public static StacklessCustomException of(SPError error) {
+        ErrorMetrics.record(error.getErrorCode());
+        return INSTANCES.get(error);
+    }
+}
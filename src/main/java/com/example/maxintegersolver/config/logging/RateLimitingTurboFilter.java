@@ -0,0 +1,111 @@
+package com.example.maxintegersolver.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter limiting the number of INFO and lower events that each configured logger
+ * emits per second. It is meant for the loggers of the request hot path, which otherwise write
+ * several lines for every calculation.
+ *
+ * <p>Events of other loggers, and WARN and ERROR events of every logger, are never limited. Once the
+ * budget of a logger is spent for the current second, its level checks such as
+ * {@code logger.isDebugEnabled()} also answer false, so guarded arguments are not even built.</p>
+ *
+ * <p>It is configured in {@code logback-spring.xml} with one {@code <logger>} element per limited
+ * logger and a {@code <maxPerSecond>} element.</p>
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private int maxPerSecond = 100;
+
+    /**
+     * Adds a logger whose events are limited.
+     *
+     * @param name The name of the logger.
+     */
+    public void addLogger(String name) {
+        windows.put(name, new Window());
+    }
+
+    /**
+     * Sets the maximum number of events each limited logger emits per second.
+     *
+     * @param maxPerSecond The maximum number of events per second.
+     */
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /**
+     * Returns the number of events discarded since the filter was started.
+     *
+     * @return The number of discarded events.
+     */
+    public long getDiscarded() {
+        long discarded = 0;
+        for (Window window : windows.values()) {
+            discarded += window.discarded.get();
+        }
+        return discarded;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.get(logger.getName());
+        if (window == null) {
+            return FilterReply.NEUTRAL;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        // A null format is a level check, which must not spend the budget of the event that follows it.
+        boolean allowed = format == null ? window.hasCapacity(second, maxPerSecond) : window.tryAcquire(second, maxPerSecond);
+        return allowed ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * Fixed one-second window of a logger. The second and the number of events emitted in it are packed
+     * into a single long, the second in the high half and the count in the low half, so the window is
+     * updated with a single compare-and-set.
+     */
+    private static final class Window {
+
+        private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+        private final AtomicLong state = new AtomicLong();
+        private final AtomicLong discarded = new AtomicLong();
+
+        boolean hasCapacity(long second, int max) {
+            long current = state.get();
+            return (current >>> 32) != second || (current & COUNT_MASK) < max;
+        }
+
+        boolean tryAcquire(long second, int max) {
+            while (true) {
+                long current = state.get();
+                long next;
+                if ((current >>> 32) != second) {
+                    next = (second << 32) | 1;
+                } else if ((current & COUNT_MASK) < max) {
+                    next = current + 1;
+                } else {
+                    discarded.incrementAndGet();
+                    return false;
+                }
+                if (state.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.maxintegersolver.domain;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * The {@code OperationPage} class represents a page of stored operations retrieved with
+ * keyset pagination. Besides the operations of the page, it carries the cursor that must be
+ * sent back to retrieve the next page, which is the identifier of the last stored operation
+ * of this page.
+ *
+ * The cursor is {@code null} when there are no more operations after this page.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class OperationPage {
+    private final List<OperationDomain> items;
+    private final Long nextCursor;
+}
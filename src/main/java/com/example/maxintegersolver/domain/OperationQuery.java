@@ -0,0 +1,187 @@
+package com.example.maxintegersolver.domain;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The {@code OperationQuery} class represents a search over the stored operations: inclusive
+ * ranges of {@code x}, {@code y}, {@code n} and {@code result}, where a {@code null} bound leaves
+ * the range open on that side, the order of the results and their maximum number.
+ *
+ * The results are ordered by the {@link Sort} value and then by storage order, in the same
+ * direction. Storage implementations that cannot delegate the search to an index evaluate it
+ * with {@link #matches(long, long, long, long)} and collect the results with a {@link Selection}.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class OperationQuery {
+
+    /**
+     * The values the results of a query can be ordered by.
+     */
+    public enum Sort {
+        ID,
+        X,
+        Y,
+        N,
+        RESULT
+    }
+
+    private final Long xMin;
+    private final Long xMax;
+    private final Long yMin;
+    private final Long yMax;
+    private final Long nMin;
+    private final Long nMax;
+    private final Long resultMin;
+    private final Long resultMax;
+    private final int limit;
+    @Builder.Default
+    private final Sort sort = Sort.ID;
+    private final boolean descending;
+
+    /**
+     * Checks whether an operation falls within every range of the query.
+     *
+     * @return true when every value is within its range.
+     */
+    public boolean matches(long x, long y, long n, long result) {
+        return within(x, xMin, xMax) && within(y, yMin, yMax) && within(n, nMin, nMax) && within(result, resultMin, resultMax);
+    }
+
+    /**
+     * Checks whether the results are ordered by storage order, newest first, so storage implementations
+     * should scan backwards.
+     *
+     * @return true when the results are the most recent operations.
+     */
+    public boolean isNewestFirst() {
+        return sort == Sort.ID && descending;
+    }
+
+    /**
+     * Creates a collector of the results of the query, to be fed with the matching operations in storage
+     * order, or in reverse storage order when {@link #isNewestFirst()}.
+     *
+     * @return An empty selection.
+     */
+    public Selection select() {
+        return new Selection(this);
+    }
+
+    private static boolean within(long value, Long min, Long max) {
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    /**
+     * Collects the first {@code limit} results of a query from the matching operations of a scan.
+     *
+     * When the query is ordered by storage order the results are the first operations offered, and the
+     * selection is complete once it has {@code limit} of them, so the scan can stop. Otherwise it keeps the
+     * best {@code limit} operations offered so far in a bounded heap.
+     */
+    public static final class Selection {
+
+        private final int limit;
+        private final List<OperationDomain> first;
+        private final PriorityQueue<Ranked> best;
+        private final Comparator<Ranked> order;
+        private long offered;
+
+        private Selection(OperationQuery query) {
+            this.limit = query.limit;
+            if (query.sort == Sort.ID) {
+                this.first = new ArrayList<>(Math.min(limit, 1024));
+                this.best = null;
+                this.order = null;
+            } else {
+                Comparator<Ranked> ascending = Comparator.<Ranked>comparingLong(ranked -> key(ranked.domain, query.sort))
+                        .thenComparingLong(ranked -> ranked.position);
+                this.order = query.descending ? ascending.reversed() : ascending;
+                this.first = null;
+                this.best = new PriorityQueue<>(Math.min(limit, 1024) + 1, order.reversed());
+            }
+        }
+
+        /**
+         * Offers a matching operation, in scan order.
+         *
+         * @param domain The matching operation.
+         */
+        public void offer(OperationDomain domain) {
+            long position = offered++;
+            if (first != null) {
+                if (first.size() < limit) {
+                    first.add(domain);
+                }
+                return;
+            }
+            if (limit == 0) {
+                return;
+            }
+            Ranked candidate = new Ranked(domain, position);
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (order.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+
+        /**
+         * Checks whether offering more operations can no longer change the results.
+         *
+         * @return true when the scan can stop.
+         */
+        public boolean isComplete() {
+            return first != null && first.size() >= limit;
+        }
+
+        /**
+         * Returns the results of the query, in order.
+         *
+         * @return The selected operations.
+         */
+        public List<OperationDomain> toList() {
+            if (first != null) {
+                return first;
+            }
+            List<Ranked> ranked = new ArrayList<>(best);
+            ranked.sort(order);
+            List<OperationDomain> results = new ArrayList<>(ranked.size());
+            for (Ranked entry : ranked) {
+                results.add(entry.domain);
+            }
+            return results;
+        }
+
+        private static long key(OperationDomain domain, Sort sort) {
+            switch (sort) {
+                case X:
+                    return domain.getX();
+                case Y:
+                    return domain.getY();
+                case N:
+                    return domain.getN();
+                default:
+                    return domain.getResult();
+            }
+        }
+
+        private static final class Ranked {
+            private final OperationDomain domain;
+            private final long position;
+
+            private Ranked(OperationDomain domain, long position) {
+                this.domain = domain;
+                this.position = position;
+            }
+        }
+    }
+}
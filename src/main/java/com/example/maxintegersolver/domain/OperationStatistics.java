@@ -0,0 +1,55 @@
+package com.example.maxintegersolver.domain;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code OperationStatistics} class represents the aggregates of the operations calculated since the
+ * application started: their number, the number per modulus {@code x}, the minimum, maximum and mean
+ * result, a histogram of the results and the number of operations of each recent minute.
+ *
+ * The histogram has a bucket per power of two: the first bucket holds the results equal to 0 and the
+ * bucket {@code i} the results from {@code 2^(i-1)} to {@code 2^i - 1}. Only the buckets and minutes
+ * with operations are included.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class OperationStatistics {
+
+    private final long count;
+    private final Long minResult;
+    private final Long maxResult;
+    private final Double meanResult;
+    private final Map<Long, Long> countByX;
+    private final long untrackedXCount;
+    private final List<ResultBucket> resultHistogram;
+    private final List<MinuteCount> throughput;
+
+    /**
+     * The number of results within an inclusive range of the histogram.
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class ResultBucket {
+        private final long from;
+        private final long to;
+        private final long count;
+    }
+
+    /**
+     * The number of operations calculated during the minute starting at {@code minuteStart},
+     * in milliseconds since the epoch.
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class MinuteCount {
+        private final long minuteStart;
+        private final long count;
+    }
+}
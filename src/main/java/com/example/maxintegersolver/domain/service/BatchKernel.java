@@ -0,0 +1,44 @@
+package com.example.maxintegersolver.domain.service;
+
+/**
+ * The {@code BatchKernel} interface defines the loop that applies the formula of the algorithm to a range
+ * of a batch of operations whose parameters have already been validated by the {@link OperationService}.
+ *
+ * <p>Every kernel must write exactly the same results as {@link #scalar()}, including the wrap-around of
+ * {@code long} arithmetic for remainders close to {@link Long#MAX_VALUE}, so the kernel in use never
+ * changes the output of the application.</p>
+ */
+public interface BatchKernel {
+
+    /**
+     * Calculates the maximum non-negative integer k of the operations between {@code from}, inclusive,
+     * and {@code to}, exclusive.
+     *
+     * @param x    The values of x of every operation, all of them greater than zero.
+     * @param y    The values of y of every operation, none of them negative.
+     * @param n    The values of n of every operation, none of them negative.
+     * @param out  The array receiving the calculated maximum value of k of every operation.
+     * @param from The index of the first operation to solve.
+     * @param to   The index after the last operation to solve.
+     */
+    void solve(long[] x, long[] y, long[] n, long[] out, int from, int to);
+
+    /**
+     * Returns the kernel solving one operation at a time, available on every runtime.
+     *
+     * @return The scalar kernel.
+     */
+    static BatchKernel scalar() {
+        return ScalarBatchKernel.INSTANCE;
+    }
+
+    /**
+     * Creates a kernel computing remainders with cached reciprocals of the moduli that repeat.
+     * Each kernel has its own cache, so it should be shared by every batch.
+     *
+     * @return A new reciprocal kernel.
+     */
+    static BatchKernel reciprocal() {
+        return new ReciprocalBatchKernel();
+    }
+}
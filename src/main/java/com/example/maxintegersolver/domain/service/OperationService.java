@@ -2,6 +2,7 @@ package com.example.maxintegersolver.domain.service;
 
 import com.example.maxintegersolver.config.exception.CustomException;
 import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
 import com.example.maxintegersolver.domain.OperationDomain;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,36 +11,118 @@ import org.slf4j.LoggerFactory;
  * The {@code OperationService} class, part of the domain service layer, encapsulates the business logic
  * for calculating the maximum non-negative integer k, such that 0 ≤ k ≤ n and k mod x = y.
  * It implements the core algorithm for the problem defined at https://codeforces.com/problemset/problem/1374/A.
+ * Batches of operations are solved through a {@link ParallelBatchExecutor}, which splits long batches
+ * across the workers of a fork-join pool, and each range is solved by a {@link BatchKernel}, such as a
+ * vectorized one.
  */
 public class OperationService {
 
     private static final Logger logger = LoggerFactory.getLogger(OperationService.class);
 
+    private final ParallelBatchExecutor batchExecutor;
+    private final BatchKernel batchKernel;
+
+    /**
+     * Constructs a new instance of {@code OperationService} solving batches with the given executor and kernel.
+     *
+     * @param batchExecutor The executor splitting long batches of operations across threads.
+     * @param batchKernel   The kernel solving the validated ranges of the batches.
+     */
+    public OperationService(ParallelBatchExecutor batchExecutor, BatchKernel batchKernel) {
+        this.batchExecutor = batchExecutor;
+        this.batchKernel = batchKernel;
+    }
+
     /**
      * Calculates the maximum non-negative integer k satisfying 0 ≤ k ≤ n and k mod x = y.
      * It uses the {@link OperationDomain} object to retrieve the parameters x, y, and n,
-     * and applies the algorithm to find the suitable value of k.
+     * and delegates to {@link #calculateMaxK(long, long, long)} to find the suitable value of k.
      *
      * @param domain An instance of {@link OperationDomain} containing parameters x, y, and n.
      * @return The calculated maximum value of k that meets the conditions.
      * @throws CustomException If an error occurs during the calculation process.
      */
     public Long calculateMaxK(OperationDomain domain) {
-        if (domain.getX() < 0 || domain.getY() < 0 || domain.getN() < 0) {
-            logger.error("Invalid input for MaxK calculation: x={}, y={}, n={}", domain.getX(), domain.getY(), domain.getN());
+        return calculateMaxK(domain.getX(), domain.getY(), domain.getN());
+    }
+
+    /**
+     * Calculates the maximum non-negative integer k satisfying 0 ≤ k ≤ n and k mod x = y
+     * working exclusively on primitive values. This is the core of the algorithm: it does not
+     * allocate, box or log unless the input is rejected.
+     *
+     * @param x The modulus of the operation, must be greater than zero.
+     * @param y The expected remainder of the operation, must not be negative.
+     * @param n The upper bound of the operation, must not be negative.
+     * @return The calculated maximum value of k that meets the conditions.
+     * @throws CustomException If any of the parameters is out of range.
+     */
+    public long calculateMaxK(long x, long y, long n) {
+        if (x <= 0 || y < 0 || n < 0) {
+            throw invalidInput(x, y, n);
+        }
+        return ScalarBatchKernel.maxK(x, y, n);
+    }
+
+    /**
+     * Calculates the maximum non-negative integer k for a batch of operations in a single pass.
+     * The parameters of the i-th operation are read from {@code x[i]}, {@code y[i]} and {@code n[i]},
+     * and its result is written to {@code out[i]}. Batches shorter than the threshold of the
+     * {@link ParallelBatchExecutor} are validated as a whole before any result is written, so a
+     * rejected batch leaves {@code out} untouched; longer batches are split into ranges solved in
+     * parallel, each validated before its results are written, so a rejected batch may leave
+     * {@code out} partially written. Like the primitive core, ranges do not allocate, box or log
+     * unless they are rejected.
+     *
+     * @param x   The values of x of every operation.
+     * @param y   The values of y of every operation.
+     * @param n   The values of n of every operation.
+     * @param out The array receiving the calculated maximum value of k of every operation.
+     * @throws CustomException If the arrays differ in length or any operation has invalid input.
+     */
+    public void calculateMaxK(long[] x, long[] y, long[] n, long[] out) {
+        int length = out.length;
+        if (x.length != length || y.length != length || n.length != length) {
+            logger.error("Invalid batch for MaxK calculation: x={}, y={}, n={}, out={} elements", x.length, y.length, n.length, length);
             throw new CustomException(SPError.OPERATION_SERVICE_ERROR_CALCULATE.getErrorCode(), SPError.OPERATION_SERVICE_ERROR_CALCULATE.getErrorMessage());
         }
 
-        try {
-            Long maxK = domain.getN() - (domain.getN() % domain.getX()) + domain.getY();
-            if (maxK > domain.getN()) {
-                maxK -= domain.getX();
+        batchExecutor.execute(length, (from, to) -> calculateMaxK(x, y, n, out, from, to));
+    }
+
+    /**
+     * Calculates the maximum non-negative integer k for the operations of a batch between
+     * {@code from}, inclusive, and {@code to}, exclusive, with the same rules as
+     * {@link #calculateMaxK(long[], long[], long[], long[])}. It lets callers solve a part of a
+     * batch, or arrays that are larger than the batch they hold, without copying them. The range
+     * is validated before any result is written.
+     *
+     * @param x    The values of x of every operation.
+     * @param y    The values of y of every operation.
+     * @param n    The values of n of every operation.
+     * @param out  The array receiving the calculated maximum value of k of every operation.
+     * @param from The index of the first operation to solve.
+     * @param to   The index after the last operation to solve.
+     * @throws CustomException If any operation of the range has invalid input.
+     */
+    public void calculateMaxK(long[] x, long[] y, long[] n, long[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (x[i] <= 0 || y[i] < 0 || n[i] < 0) {
+                throw invalidInput(x[i], y[i], n[i]);
             }
-            logger.info("Calculated MaxK: {}", maxK);
-            return maxK;
-        } catch (Exception e) {
-            logger.error("Error in MaxK calculation", e);
-            throw new CustomException(SPError.OPERATION_SERVICE_ERROR_CALCULATE.getErrorCode(), SPError.OPERATION_SERVICE_ERROR_CALCULATE.getErrorMessage(), e);
         }
+
+        batchKernel.solve(x, y, n, out, from, to);
+    }
+
+    /**
+     * Returns the exception reported for out of range parameters. It is kept apart from the
+     * calculation so the rejection path does not weigh on the inlining of the hot methods, and
+     * it is a preallocated {@link StacklessCustomException}, since the input of the client is
+     * the only cause of the rejection.
+     */
+    private static CustomException invalidInput(long x, long y, long n) {
+        logger.info("Invalid input for MaxK calculation: x={}, y={}, n={}", x, y, n);
+        return StacklessCustomException.of(SPError.OPERATION_SERVICE_ERROR_CALCULATE);
     }
 }
@@ -0,0 +1,131 @@
+package com.example.maxintegersolver.domain.service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The {@code ParallelBatchExecutor} class splits the work of a batch of operations across the
+ * workers of a {@link ForkJoinPool}.
+ *
+ * <p>A batch is given by its length and a {@link RangeAction} that solves the operations between two
+ * indexes. Batches shorter than the threshold are solved by the calling thread in a single range, since
+ * handing them to the pool costs more than solving them. Longer batches are halved recursively into
+ * ranges of at least {@value #MIN_RANGE_SIZE} operations, about {@value #RANGES_PER_WORKER} per worker
+ * so that idle workers can steal the ranges of busy ones, and the calling thread waits for all of them.</p>
+ *
+ * <p>Ranges never overlap, so actions writing their results to a shared array need no synchronization.
+ * The calling thread returns once every range has finished. When an action fails, its exception is
+ * rethrown to the caller, and the other ranges may or may not have been solved.</p>
+ */
+public class ParallelBatchExecutor {
+
+    /**
+     * The smallest number of operations solved as a unit in parallel.
+     */
+    static final int MIN_RANGE_SIZE = 1024;
+
+    /**
+     * The number of ranges a batch is split into per worker of the pool.
+     */
+    static final int RANGES_PER_WORKER = 4;
+
+    private static final ParallelBatchExecutor SEQUENTIAL = new ParallelBatchExecutor(null, Integer.MAX_VALUE);
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Creates an executor solving batches of at least {@code threshold} operations in the given pool.
+     *
+     * @param pool      The pool solving the ranges of long batches, or null to solve every batch sequentially.
+     * @param threshold The length from which batches are solved in parallel.
+     */
+    public ParallelBatchExecutor(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = Math.max(threshold, MIN_RANGE_SIZE);
+    }
+
+    /**
+     * Returns the executor that solves every batch in the calling thread.
+     *
+     * @return The sequential executor.
+     */
+    public static ParallelBatchExecutor sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Solves a batch of operations, in parallel when it is long enough.
+     *
+     * @param length The number of operations of the batch.
+     * @param action The action solving the operations of a range of the batch.
+     */
+    public void execute(int length, RangeAction action) {
+        if (pool == null || pool.getParallelism() == 1 || length < threshold) {
+            action.apply(0, length);
+            return;
+        }
+        int rangeSize = Math.max(MIN_RANGE_SIZE, length / (pool.getParallelism() * RANGES_PER_WORKER));
+        pool.invoke(new RangeTask(action, 0, length, rangeSize));
+    }
+
+    /**
+     * Shuts down the pool of the executor, if it has one. The batches being solved finish, but later long
+     * batches are rejected.
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Solves the operations of a batch between two indexes.
+     */
+    @FunctionalInterface
+    public interface RangeAction {
+
+        /**
+         * Solves the operations between {@code from}, inclusive, and {@code to}, exclusive.
+         *
+         * @param from The index of the first operation of the range.
+         * @param to   The index after the last operation of the range.
+         */
+        void apply(int from, int to);
+    }
+
+    /**
+     * Halves its range until it is not longer than the range size, and then applies the action to it.
+     * The second half is forked and always joined, even when the first one fails.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        private final RangeAction action;
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+
+        RangeTask(RangeAction action, int from, int to, int rangeSize) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= rangeSize) {
+                action.apply(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask right = new RangeTask(action, middle, to, rangeSize);
+            right.fork();
+            try {
+                new RangeTask(action, from, middle, rangeSize).compute();
+            } finally {
+                right.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.maxintegersolver.domain.service;
+
+/**
+ * The {@link BatchKernel} replacing the {@code long} division of the formula by a multiplication with a
+ * precomputed reciprocal of the modulus, which is cheaper, for moduli that repeat.
+ *
+ * <p>The reciprocal of a modulus {@code x} is {@code m = floor((2^64 - 1) / x)}, computed once with an
+ * unsigned division. For any {@code n} below 2<sup>63</sup>, the high half of the unsigned product
+ * {@code n * m} is either the quotient {@code n / x} or one less, so the remainder is exact after at most
+ * one subtraction of {@code x}.</p>
+ *
+ * <p>A reciprocal only pays off when its modulus is used again, so it is chosen in two ways:</p>
+ * <ul>
+ *     <li>When every operation of a range shares its modulus, which is common in batches, the range is
+ *     solved in a loop that keeps the reciprocal in registers.</li>
+ *     <li>Otherwise each operation looks its reciprocal up in a direct-mapped cache of {@value #CACHE_SIZE}
+ *     entries indexed by the modulus and shared by every batch. A modulus is admitted into the cache the
+ *     second time in a row it misses in its slot, so frequent moduli are cached while a stream of distinct
+ *     moduli costs a plain division and no allocation.</li>
+ * </ul>
+ *
+ * <p>The cache is written without synchronization by the threads solving the ranges of the batches.
+ * Entries are immutable and always checked against the modulus they are used for, so a race can only
+ * cost a cache miss, never a wrong result.</p>
+ */
+final class ReciprocalBatchKernel implements BatchKernel {
+
+    /**
+     * The number of entries of the cache of reciprocals, a power of two.
+     */
+    static final int CACHE_SIZE = 1 << 10;
+
+    private static final int CACHE_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(CACHE_SIZE);
+
+    private final Reciprocal[] reciprocals = new Reciprocal[CACHE_SIZE];
+    private final long[] candidates = new long[CACHE_SIZE];
+
+    @Override
+    public void solve(long[] x, long[] y, long[] n, long[] out, int from, int to) {
+        if (from < to && sharesModulus(x, from, to)) {
+            solveSingleModulus(reciprocal(x[from]), y, n, out, from, to);
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            long modulus = x[i];
+            long value = n[i];
+            out[i] = maxK(modulus, y[i], value, remainder(modulus, value));
+        }
+    }
+
+    /**
+     * Returns whether every operation of the range has the same modulus. It stops at the first
+     * different modulus, so it costs almost nothing when moduli are mixed.
+     */
+    private static boolean sharesModulus(long[] x, int from, int to) {
+        long modulus = x[from];
+        for (int i = from + 1; i < to; i++) {
+            if (x[i] != modulus) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Solves a range of operations sharing the modulus of the reciprocal, keeping it in registers.
+     */
+    private static void solveSingleModulus(Reciprocal reciprocal, long[] y, long[] n, long[] out, int from, int to) {
+        long modulus = reciprocal.modulus;
+        long multiplier = reciprocal.multiplier;
+        for (int i = from; i < to; i++) {
+            long value = n[i];
+            out[i] = maxK(modulus, y[i], value, Reciprocal.remainder(value, modulus, multiplier));
+        }
+    }
+
+    private static long maxK(long x, long y, long n, long remainder) {
+        long maxK = n - remainder + y;
+        return maxK > n ? maxK - x : maxK;
+    }
+
+    /**
+     * Returns the reciprocal of a modulus shared by a whole range, from the cache or computed and cached.
+     */
+    private Reciprocal reciprocal(long modulus) {
+        int slot = slot(modulus);
+        Reciprocal reciprocal = reciprocals[slot];
+        if (reciprocal == null || reciprocal.modulus != modulus) {
+            reciprocal = new Reciprocal(modulus);
+            reciprocals[slot] = reciprocal;
+        }
+        return reciprocal;
+    }
+
+    /**
+     * Returns {@code value % modulus} with the cached reciprocal of the modulus when there is one, and
+     * with a division otherwise.
+     */
+    private long remainder(long modulus, long value) {
+        int slot = slot(modulus);
+        Reciprocal reciprocal = reciprocals[slot];
+        if (reciprocal != null && reciprocal.modulus == modulus) {
+            return Reciprocal.remainder(value, modulus, reciprocal.multiplier);
+        }
+        admit(slot, modulus);
+        return value % modulus;
+    }
+
+    /**
+     * Records a modulus that missed in its slot, and caches its reciprocal when it is the same modulus
+     * that missed last time.
+     */
+    private void admit(int slot, long modulus) {
+        if (candidates[slot] == modulus) {
+            reciprocals[slot] = new Reciprocal(modulus);
+        } else {
+            candidates[slot] = modulus;
+        }
+    }
+
+    /**
+     * Returns the slot of the modulus, taken from the high bits of its Fibonacci hash so that moduli
+     * sharing their low bits, such as multiples of a power of two, are spread across the cache.
+     */
+    private static int slot(long modulus) {
+        return (int) ((modulus * 0x9E3779B97F4A7C15L) >>> CACHE_SHIFT);
+    }
+
+    /**
+     * A modulus along with its precomputed reciprocal.
+     */
+    static final class Reciprocal {
+
+        final long modulus;
+        final long multiplier;
+
+        Reciprocal(long modulus) {
+            this.modulus = modulus;
+            this.multiplier = Long.divideUnsigned(-1L, modulus);
+        }
+
+        /**
+         * Returns {@code value % modulus} for a value that is not negative, given the reciprocal of the modulus.
+         */
+        static long remainder(long value, long modulus, long multiplier) {
+            long quotient = Math.multiplyHigh(value, multiplier) + ((multiplier >> 63) & value);
+            long remainder = value - quotient * modulus;
+            return remainder >= modulus ? remainder - modulus : remainder;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.maxintegersolver.domain.service;
+
+/**
+ * The {@link BatchKernel} solving one operation at a time with {@code long} division.
+ */
+final class ScalarBatchKernel implements BatchKernel {
+
+    static final ScalarBatchKernel INSTANCE = new ScalarBatchKernel();
+
+    private ScalarBatchKernel() {
+    }
+
+    @Override
+    public void solve(long[] x, long[] y, long[] n, long[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = maxK(x[i], y[i], n[i]);
+        }
+    }
+
+    /**
+     * Applies the formula of the algorithm to parameters that have already been validated.
+     */
+    static long maxK(long x, long y, long n) {
+        long maxK = n - (n % x) + y;
+        return maxK > n ? maxK - x : maxK;
+    }
+}
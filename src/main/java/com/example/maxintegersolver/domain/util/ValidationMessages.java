@@ -20,6 +20,16 @@ public class ValidationMessages {
     public static final String MAX_VALUE_X = "X supera el valor máximo permitido " + Long.MAX_VALUE;
     public static final String MAX_VALUE_Y = "Y supera el valor máximo permitido " + Long.MAX_VALUE;
     public static final String MAX_VALUE_N = "N supera el valor máximo permitido " + Long.MAX_VALUE;
+    public static final String NOT_EMPTY_BATCH = "El lote de operaciones no puede estar vacío";
+    public static final String MAX_SIZE_BATCH = "El lote de operaciones supera el tamaño máximo permitido";
+    public static final String NOT_NULL_OPERATION = "La operación no puede ser null";
+    public static final String MIN_VALUE_LIMIT = "El límite de la página debe ser mayor a 0";
+    public static final String MAX_VALUE_LIMIT = "El límite de la página supera el valor máximo permitido";
+    public static final String MIN_VALUE_AFTER_ID = "El cursor de la página no puede ser negativo";
+    public static final String INVALID_RANGE = "El mínimo del rango no puede ser mayor que el máximo";
+    public static final String INVALID_SORT = "El orden debe ser uno de: id, x, y, n, result";
+    public static final String INVALID_ORDER = "La dirección del orden debe ser asc o desc";
+    public static final String AFTER_ID_WITH_FILTERS = "El cursor de la página no se puede combinar con filtros ni con orden";
 
     /**
      * Private constructor to prevent instantiation of this utility class.
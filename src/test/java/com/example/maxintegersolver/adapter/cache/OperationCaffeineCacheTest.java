@@ -0,0 +1,49 @@
+package com.example.maxintegersolver.adapter.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link OperationCaffeineCache}.
+ * These tests validate the memoization of results and the persistence policy of the cache.
+ */
+class OperationCaffeineCacheTest {
+
+    /**
+     * Test that a cached result is returned for the same operation only.
+     */
+    @Test
+    void get_AfterPut() {
+        OperationCaffeineCache cache = new OperationCaffeineCache(100, null, true);
+
+        cache.put(10L, 5L, 15L, 15L);
+
+        assertEquals(15L, cache.get(10L, 5L, 15L).getAsLong(), "The cached result should be returned");
+        assertFalse(cache.get(10L, 5L, 16L).isPresent(), "A different operation should not be cached");
+    }
+
+    /**
+     * Test that the cache does not grow beyond its maximum size.
+     */
+    @Test
+    void put_BoundedSize() {
+        OperationCaffeineCache cache = new OperationCaffeineCache(10, null, true);
+
+        for (long n = 0; n < 1000; n++) {
+            cache.put(7L, 5L, n, n);
+        }
+        cache.getNativeCache().cleanUp();
+
+        assertTrue(cache.getNativeCache().estimatedSize() <= 10, "The cache should evict results beyond its maximum size");
+    }
+
+    /**
+     * Test that the persistence policy of the cache is exposed.
+     */
+    @Test
+    void persistHits_Policy() {
+        assertFalse(new OperationCaffeineCache(10, null, false).persistHits(), "Hits should not be persisted");
+        assertTrue(new OperationCaffeineCache(10, null, true).persistHits(), "Hits should be persisted");
+    }
+}
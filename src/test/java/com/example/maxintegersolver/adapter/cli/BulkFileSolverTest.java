@@ -0,0 +1,159 @@
+package com.example.maxintegersolver.adapter.cli;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import com.example.maxintegersolver.application.usecase.BulkSolveUseCase;
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.service.BatchKernel;
+import com.example.maxintegersolver.domain.service.OperationService;
+import com.example.maxintegersolver.domain.service.ParallelBatchExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for {@link BulkFileSolver} class.
+ * These tests solve small files split into many regions, with the real domain service and a mocked storage.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkFileSolverTest {
+
+    private static final int OPERATIONS = 1000;
+
+    @Mock
+    private OperationStorageRepository repository;
+
+    @TempDir
+    Path directory;
+
+    private BulkSolveUseCase useCase;
+
+    /**
+     * Sets up the test environment before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        useCase = new BulkSolveUseCase(new OperationService(ParallelBatchExecutor.sequential(), BatchKernel.scalar()), repository);
+    }
+
+    /**
+     * Test to ensure a CSV file with a header, blank lines and CRLF line breaks is solved in input order.
+     */
+    @Test
+    void solve_Csv() throws IOException {
+        StringBuilder input = new StringBuilder("x, y, n\r\n");
+        StringBuilder expected = new StringBuilder("x,y,n,result\n");
+        for (int i = 0; i < OPERATIONS; i++) {
+            long n = 12345 + i;
+            input.append("7, 5, ").append(n).append("\r\n");
+            if (i % 100 == 0) {
+                input.append("\r\n");
+            }
+            expected.append("7,5,").append(n).append(',').append(new OperationService(ParallelBatchExecutor.sequential(), BatchKernel.scalar()).calculateMaxK(7, 5, n)).append('\n');
+        }
+        Path inputFile = write("operations.csv", input.toString().getBytes(StandardCharsets.US_ASCII));
+        Path outputFile = directory.resolve("results.csv");
+
+        long solved = new BulkFileSolver(useCase, 256, 3, false).solve(inputFile, outputFile, BulkFormat.CSV);
+
+        assertEquals(OPERATIONS, solved);
+        assertEquals(expected.toString(), new String(Files.readAllBytes(outputFile), StandardCharsets.US_ASCII));
+        verifyNoInteractions(repository);
+    }
+
+    /**
+     * Test to ensure a binary file is solved into little-endian results in input order.
+     */
+    @Test
+    void solve_Binary() throws IOException {
+        ByteBuffer input = ByteBuffer.allocate(OPERATIONS * 24).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < OPERATIONS; i++) {
+            input.putLong(10).putLong(5).putLong(i + 5L);
+        }
+        Path inputFile = write("operations.bin", input.array());
+        Path outputFile = directory.resolve("results.bin");
+
+        long solved = new BulkFileSolver(useCase, 1000, 4, false).solve(inputFile, outputFile, BulkFormat.BINARY);
+
+        assertEquals(OPERATIONS, solved);
+        ByteBuffer output = ByteBuffer.wrap(Files.readAllBytes(outputFile)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(OPERATIONS * 8, output.remaining());
+        for (int i = 0; i < OPERATIONS; i++) {
+            assertEquals(new OperationService(ParallelBatchExecutor.sequential(), BatchKernel.scalar()).calculateMaxK(10, 5, i + 5L), output.getLong());
+        }
+    }
+
+    /**
+     * Test to ensure the solved operations are loaded into the storage when requested.
+     */
+    @Test
+    void solve_Load() throws IOException {
+        Path inputFile = write("operations.csv", "7,5,12345\n5,0,4\n".getBytes(StandardCharsets.US_ASCII));
+
+        long solved = new BulkFileSolver(useCase, 1024, 2, true)
+                .solve(inputFile, directory.resolve("results.csv"), BulkFormat.CSV);
+
+        assertEquals(2, solved);
+        verify(repository).saveAll(argThat(domains -> domains.size() == 2
+                && domains.get(0).getResult() == 12339 && domains.get(1).getResult() == 0));
+    }
+
+    /**
+     * Test to ensure an invalid operation stops the job and is reported with the bulk error code.
+     */
+    @Test
+    void solve_InvalidOperation() throws IOException {
+        Path inputFile = write("operations.csv", "7,5,12345\n0,5,10\n".getBytes(StandardCharsets.US_ASCII));
+
+        CustomException exception = assertThrows(CustomException.class, () -> new BulkFileSolver(useCase, 1024, 2, false)
+                .solve(inputFile, directory.resolve("results.csv"), BulkFormat.CSV));
+
+        assertEquals(SPError.OPERATION_BULK_ERROR.getErrorCode(), exception.getErrorCode());
+        assertTrue(exception.getMessage().contains("x=0, y=5, n=10"));
+    }
+
+    /**
+     * Test to ensure a malformed CSV row is reported with its position.
+     */
+    @Test
+    void solve_MalformedCsv() throws IOException {
+        Path inputFile = write("operations.csv", "7,5,12345\n7;5;12345\n".getBytes(StandardCharsets.US_ASCII));
+
+        CustomException exception = assertThrows(CustomException.class, () -> new BulkFileSolver(useCase, 1024, 2, false)
+                .solve(inputFile, directory.resolve("results.csv"), BulkFormat.CSV));
+
+        assertEquals(SPError.OPERATION_BULK_ERROR.getErrorCode(), exception.getErrorCode());
+        assertEquals("Malformed CSV row at byte 11", exception.getMessage());
+    }
+
+    /**
+     * Test to ensure a binary file that does not hold whole triples is rejected.
+     */
+    @Test
+    void solve_TruncatedBinary() throws IOException {
+        Path inputFile = write("operations.bin", new byte[25]);
+
+        CustomException exception = assertThrows(CustomException.class, () -> new BulkFileSolver(useCase, 1024, 2, false)
+                .solve(inputFile, directory.resolve("results.bin"), BulkFormat.BINARY));
+
+        assertEquals(SPError.OPERATION_BULK_ERROR.getErrorCode(), exception.getErrorCode());
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(directory.resolve(name), content);
+    }
+}
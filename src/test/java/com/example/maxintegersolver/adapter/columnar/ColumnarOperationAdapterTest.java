@@ -0,0 +1,208 @@
+package com.example.maxintegersolver.adapter.columnar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for {@link ColumnarOperationAdapter}.
+ * These tests use segments of a few rows so that every operation crosses segment boundaries.
+ */
+class ColumnarOperationAdapterTest {
+
+    private final ColumnarOperationAdapter adapter = new ColumnarOperationAdapter(4);
+
+    /**
+     * Test that saved operations are read back in insertion order across several segments.
+     */
+    @Test
+    void saveAll_ReadBackAcrossSegments() {
+        List<OperationDomain> domains = operations(10);
+
+        List<OperationDomain> saved = adapter.saveAll(domains.subList(0, 3));
+        adapter.save(domains.get(3));
+        adapter.saveAll(domains.subList(4, 10));
+
+        assertEquals(3, saved.size(), "The saved operations should be returned");
+        assertEquals(10, adapter.count(), "Every operation should be counted");
+        assertEquals(3L * 4 * ColumnarOperationAdapter.ROW_SIZE, adapter.allocatedBytes(), "Ten rows should fill three segments of four rows");
+        assertOperations(domains, adapter.getAll());
+    }
+
+    /**
+     * Test that an empty store returns no operations.
+     */
+    @Test
+    void getAll_Empty() {
+        assertTrue(adapter.getAll().isEmpty(), "An empty store should return no operations");
+        assertEquals(0, adapter.count(), "An empty store should count no operations");
+        assertNull(adapter.getPage(null, 5).getNextCursor(), "An empty store should have a single page");
+    }
+
+    /**
+     * Test that pages follow the cursor of the previous page until the last one.
+     */
+    @Test
+    void getPage_FollowsCursor() {
+        List<OperationDomain> domains = operations(7);
+        adapter.saveAll(domains);
+
+        OperationPage first = adapter.getPage(null, 3);
+        OperationPage second = adapter.getPage(first.getNextCursor(), 3);
+        OperationPage last = adapter.getPage(second.getNextCursor(), 3);
+
+        assertEquals(3L, first.getNextCursor(), "The cursor should be the identifier of the last operation of the page");
+        assertEquals(6L, second.getNextCursor(), "The cursor should be the identifier of the last operation of the page");
+        assertNull(last.getNextCursor(), "The last page should not have a cursor");
+        assertOperations(domains.subList(0, 3), first.getItems());
+        assertOperations(domains.subList(3, 6), second.getItems());
+        assertOperations(domains.subList(6, 7), last.getItems());
+        assertTrue(adapter.getPage(100L, 3).getItems().isEmpty(), "A cursor after the last operation should return an empty page");
+    }
+
+    /**
+     * Test that every stored operation is streamed in insertion order.
+     */
+    @Test
+    void forEach_StreamsInOrder() {
+        List<OperationDomain> domains = operations(9);
+        adapter.saveAll(domains);
+
+        List<OperationDomain> streamed = new ArrayList<>();
+        adapter.forEach(streamed::add);
+
+        assertOperations(domains, streamed);
+    }
+
+    /**
+     * Test that queries return the operations within their ranges, in their order and up to their limit.
+     */
+    @Test
+    void find_FiltersAndOrders() {
+        List<OperationDomain> domains = operations(10);
+        adapter.saveAll(domains);
+
+        List<OperationDomain> newest = adapter.find(OperationQuery.builder().xMin(4L).xMax(8L).limit(2).descending(true).build());
+        List<OperationDomain> highest = adapter.find(OperationQuery.builder().nMax(1005L).limit(3)
+                .sort(OperationQuery.Sort.RESULT).descending(true).build());
+
+        assertOperations(List.of(domains.get(6), domains.get(5)), newest);
+        assertOperations(List.of(domains.get(5), domains.get(4), domains.get(3)), highest);
+        assertTrue(adapter.find(OperationQuery.builder().resultMin(Long.MAX_VALUE).limit(5).build()).isEmpty(),
+                "No operation should match an empty range");
+    }
+
+    /**
+     * Test that queries running while operations are appended across segment boundaries only see
+     * complete operations, in order.
+     */
+    @Test
+    void find_ConcurrentWithAppends() throws Exception {
+        int total = 2_000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < total; i++) {
+                    adapter.save(operation(i + 2, 0, 1000L + i));
+                }
+            });
+            while (!writer.isDone()) {
+                assertConsecutive(adapter.find(OperationQuery.builder().limit(3).descending(true).build()), -1);
+                assertConsecutive(adapter.find(OperationQuery.builder().limit(3).build()), 1);
+            }
+            writer.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(total + 1L, adapter.find(OperationQuery.builder().limit(1).descending(true).build()).get(0).getX(),
+                "The newest operation should be found once every append has finished");
+    }
+
+    /**
+     * Test that concurrent appends are neither lost nor interleaved within a batch.
+     */
+    @Test
+    void saveAll_Concurrent() throws Exception {
+        int writers = 4;
+        int batches = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                long writer = w + 1;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int b = 0; b < batches; b++) {
+                        adapter.saveAll(Arrays.asList(operation(writer, b, 0), operation(writer, b, 1), operation(writer, b, 2)));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<OperationDomain> stored = adapter.getAll();
+        assertEquals(writers * batches * 3L, adapter.count(), "No operation should be lost");
+        for (int i = 0; i < stored.size(); i += 3) {
+            for (int j = 1; j < 3; j++) {
+                assertEquals(stored.get(i).getX(), stored.get(i + j).getX(), "A batch should be stored contiguously");
+                assertEquals(Long.valueOf(j), stored.get(i + j).getN(), "A batch should keep its order");
+            }
+        }
+    }
+
+    /**
+     * Test that a segment must hold at least one row.
+     */
+    @Test
+    void constructor_InvalidSegmentRows() {
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarOperationAdapter(0));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarOperationAdapter(ColumnarOperationAdapter.MAX_SEGMENT_ROWS + 1));
+    }
+
+    private static void assertConsecutive(List<OperationDomain> found, int step) {
+        for (int i = 1; i < found.size(); i++) {
+            assertEquals(found.get(i - 1).getX() + step, found.get(i).getX(), "The operations should be consecutive in storage order");
+        }
+    }
+
+    private static List<OperationDomain> operations(int count) {
+        List<OperationDomain> domains = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            domains.add(operation(i + 2, i, 1000L + i));
+        }
+        return domains;
+    }
+
+    private static OperationDomain operation(long x, long y, long n) {
+        return OperationDomain.builder().x(x).y(y).n(n).result(x * y + n).build();
+    }
+
+    private static void assertOperations(List<OperationDomain> expected, List<OperationDomain> actual) {
+        assertEquals(expected.size(), actual.size(), "The number of operations should match");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), actual.get(i).getX(), "x should match at " + i);
+            assertEquals(expected.get(i).getY(), actual.get(i).getY(), "y should match at " + i);
+            assertEquals(expected.get(i).getN(), actual.get(i).getN(), "n should match at " + i);
+            assertEquals(expected.get(i).getResult(), actual.get(i).getResult(), "The result should match at " + i);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.maxintegersolver.adapter.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.example.maxintegersolver.adapter.controller.model.OperationResponse;
+import com.example.maxintegersolver.application.port.in.OperationCalculatorPort;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
+import com.example.maxintegersolver.domain.util.ValidationMessages;
+import com.example.maxintegersolver.mocks.MockFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Tests for {@link FastOperationsController} using MockMvc and Mockito.
+ * These tests ensure the streaming decoder answers with the same results and validation messages
+ * as the regular calculation endpoint.
+ */
+@ExtendWith(MockitoExtension.class)
+class FastOperationsControllerTest {
+
+    private static final String URL = "/api/v1/operation";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private OperationCalculatorPort calculatorPort;
+
+    @InjectMocks
+    private FastOperationsController fastOperationsController;
+
+    /**
+     * Setup for MockMvc with injected mocks before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(fastOperationsController).build();
+    }
+
+    /**
+     * Test the POST endpoint for a successful calculation with the primitives of the request.
+     */
+    @Test
+    void calculate_Success() throws Exception {
+        when(calculatorPort.calculate(5L, 0L, 4L)).thenReturn(0L);
+
+        mockMvc.perform(post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MockFactory.getJsonContentValid()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.result").value(0));
+    }
+
+    /**
+     * Test that values are coerced like the default data binding and unknown fields are skipped.
+     */
+    @Test
+    void calculate_CoercedValues() throws Exception {
+        when(calculatorPort.calculate(7L, 5L, 12345L)).thenReturn(12339L);
+
+        mockMvc.perform(post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":{\"a\":[1,2]},\"x\":\"7\",\"y\":5.9,\"n\":12345}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.result").value(12339));
+    }
+
+    /**
+     * Test the POST endpoint with missing and out of range fields.
+     */
+    @Test
+    void calculate_InvalidRequest() throws Exception {
+        mockMvc.perform(post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"x\":-2,\"y\":2147483648,\"n\":null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(SPError.INVALID_PARAMS_ERROR.getErrorMessage()))
+                .andExpect(jsonPath("$.data", contains(
+                        OperationResponse.fieldError("x", ValidationMessages.MIN_VALUE_X),
+                        OperationResponse.fieldError("y", ValidationMessages.MAX_VALUE_Y),
+                        OperationResponse.fieldError("n", ValidationMessages.NOT_NULL_N))));
+        verifyNoInteractions(calculatorPort);
+    }
+
+    /**
+     * Test the POST endpoint with a body that is not a valid operation.
+     */
+    @Test
+    void calculate_MalformedRequest() throws Exception {
+        mockMvc.perform(post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"x\":true,\"y\":0,\"n\":4}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code_status").value(SPError.INVALID_REQUEST_ERROR.getErrorCode()));
+        verifyNoInteractions(calculatorPort);
+    }
+
+    /**
+     * Test the POST endpoint handling an operation rejected by the application core.
+     */
+    @Test
+    void calculate_Rejected() throws Exception {
+        when(calculatorPort.calculate(5L, 0L, 4L)).thenThrow(StacklessCustomException.of(SPError.OPERATION_USE_CASE_ERROR_CALCULATE));
+
+        mockMvc.perform(post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MockFactory.getJsonContentValid()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code_status").value(SPError.OPERATION_CONTROLLER_ERROR_CALCULATE.getErrorCode()));
+    }
+}
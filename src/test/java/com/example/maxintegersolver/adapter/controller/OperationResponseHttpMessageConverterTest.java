@@ -0,0 +1,86 @@
+package com.example.maxintegersolver.adapter.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.adapter.controller.model.OperationResponse;
+import com.example.maxintegersolver.adapter.controller.model.OperationResponseWriter;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for {@link OperationResponseHttpMessageConverter}.
+ * These tests validate that every response is written with exactly the same bytes as the Jackson serialization.
+ */
+class OperationResponseHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final OperationResponseHttpMessageConverter converter = new OperationResponseHttpMessageConverter(objectMapper);
+
+    /**
+     * Test that the result of the calculation endpoint is pre-encoded with the same bytes as Jackson.
+     */
+    @Test
+    void write_Calculation() throws Exception {
+        OperationResponse response = OperationResponse.of(OperationDomain.builder().result(12339L).build(), HttpStatus.CREATED);
+
+        assertTrue(OperationResponseWriter.canWrite(response), "The calculation response should be pre-encoded");
+        assertEquals(objectMapper.writeValueAsString(response), write(response));
+    }
+
+    /**
+     * Test that a list of results larger than the output buffer is pre-encoded with the same bytes as Jackson.
+     */
+    @Test
+    void write_Results() throws Exception {
+        List<OperationDomain> results = new ArrayList<>();
+        for (long i = 0; i < 500; i++) {
+            results.add(new OperationDomain(i % 3 == 0 ? null : i, -1L, Long.MIN_VALUE, Long.MAX_VALUE - i));
+        }
+        results.add(null);
+        OperationResponse response = OperationResponse.of(results, HttpStatus.OK);
+
+        assertTrue(OperationResponseWriter.canWrite(response), "The results response should be pre-encoded");
+        assertEquals(objectMapper.writeValueAsString(response), write(response));
+    }
+
+    /**
+     * Test that an empty list of results is pre-encoded with the same bytes as Jackson.
+     */
+    @Test
+    void write_EmptyResults() throws Exception {
+        OperationResponse response = OperationResponse.of(Collections.emptyList(), HttpStatus.OK);
+
+        assertEquals(objectMapper.writeValueAsString(response), write(response));
+    }
+
+    /**
+     * Test that validation errors and pages fall back to Jackson.
+     */
+    @Test
+    void write_FallbackToJackson() throws Exception {
+        OperationResponse errors = OperationResponse.badRequest(Arrays.asList("Field: x -> Error: X no puede ser null"));
+        OperationResponse page = OperationResponse.of(new OperationPage(Collections.emptyList(), null), HttpStatus.OK);
+
+        assertFalse(OperationResponseWriter.canWrite(errors), "Validation errors should not be pre-encoded");
+        assertFalse(OperationResponseWriter.canWrite(page), "Pages should not be pre-encoded");
+        assertEquals(objectMapper.writeValueAsString(errors), write(errors));
+        assertEquals(objectMapper.writeValueAsString(page), write(page));
+    }
+
+    private String write(OperationResponse response) throws Exception {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsString();
+    }
+}
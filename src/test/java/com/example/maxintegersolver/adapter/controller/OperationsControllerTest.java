@@ -1,24 +1,32 @@
 package com.example.maxintegersolver.adapter.controller;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.example.maxintegersolver.adapter.controller.model.OperationResponse;
 import com.example.maxintegersolver.application.port.in.OperationCalculatorPort;
 import com.example.maxintegersolver.application.port.in.OperationResultsPort;
+import com.example.maxintegersolver.config.exception.SPError;
 import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationQuery;
+import com.example.maxintegersolver.domain.util.ValidationMessages;
 import com.example.maxintegersolver.mocks.MockFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Tests for {@link OperationsController} using MockMvc and Mockito.
@@ -37,14 +45,14 @@ class OperationsControllerTest {
     @Mock
     private OperationResultsPort resultsPort;
 
-    @InjectMocks
     private OperationsController operationsController;
 
     /**
-     * Setup for MockMvc with injected mocks before each test.
+     * Setup for MockMvc with the mocked ports and an object mapper built like the application one before each test.
      */
     @BeforeEach
     void setUp() {
+        operationsController = new OperationsController(calculatorPort, resultsPort, Jackson2ObjectMapperBuilder.json().build());
         mockMvc = MockMvcBuilders.standaloneSetup(operationsController).build();
     }
 
@@ -87,6 +95,114 @@ class OperationsControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    /**
+     * Test the batch POST endpoint for a successful calculation.
+     */
+    @Test
+    void calculateBatch_Success() throws Exception {
+        when(calculatorPort.calculateBatch(anyList())).thenReturn(MockFactory.getOperationDomainBatchFactory());
+
+        mockMvc.perform(post(URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MockFactory.getJsonBatchContentValid()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data.length()").value(2));
+    }
+
+    /**
+     * Test the batch POST endpoint with an invalid operation in the request.
+     */
+    @Test
+    void calculateBatch_InvalidRequest() throws Exception {
+        mockMvc.perform(post(URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MockFactory.getJsonBatchContentInvalid()))
+                .andExpect(status().isBadRequest());
+
+        verify(calculatorPort, never()).calculateBatch(anyList());
+    }
+
+    /**
+     * Test the batch POST endpoint with an empty request.
+     */
+    @Test
+    void calculateBatch_EmptyRequest() throws Exception {
+        mockMvc.perform(post(URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MockFactory.getJsonBatchContentEmpty()))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test the batch POST endpoint handling a calculation error.
+     */
+    @Test
+    void calculateBatch_CalculationError() throws Exception {
+        when(calculatorPort.calculateBatch(anyList())).thenThrow(MockFactory.getCustomExceptionUseCaseFactory());
+
+        mockMvc.perform(post(URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MockFactory.getJsonBatchContentValid()))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test the binary POST endpoint for a successful calculation.
+     */
+    @Test
+    void calculateBinary_Success() throws Exception {
+        when(calculatorPort.calculateBatch(new long[]{5L, 10L}, new long[]{0L, 5L}, new long[]{4L, 15L})).thenReturn(new long[]{0L, 15L});
+
+        mockMvc.perform(post(URL + "/binary")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(MockFactory.getBinaryContent(5L, 0L, 4L, 10L, 5L, 15L)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(MockFactory.getBinaryContent(0L, 15L)));
+    }
+
+    /**
+     * Test the binary POST endpoint with a frame that is not a whole number of operations.
+     */
+    @Test
+    void calculateBinary_MalformedFrame() throws Exception {
+        mockMvc.perform(post(URL + "/binary")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[30]))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code_status").value(SPError.INVALID_REQUEST_ERROR.getErrorCode()));
+
+        verifyNoInteractions(calculatorPort);
+    }
+
+    /**
+     * Test the binary POST endpoint with values out of range.
+     */
+    @Test
+    void calculateBinary_InvalidRequest() throws Exception {
+        mockMvc.perform(post(URL + "/binary")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(MockFactory.getBinaryContent(5L, 0L, 4L, 5L, -2L, 4L)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data[0]").value(OperationResponse.fieldError("operations[1].y", ValidationMessages.MIN_VALUE_Y)));
+
+        verifyNoInteractions(calculatorPort);
+    }
+
+    /**
+     * Test the binary POST endpoint with an empty frame.
+     */
+    @Test
+    void calculateBinary_EmptyRequest() throws Exception {
+        mockMvc.perform(post(URL + "/binary")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[0]))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data[0]").value(OperationResponse.fieldError("operations", ValidationMessages.NOT_EMPTY_BATCH)));
+    }
+
     /**
      * Test the GET endpoint for successfully retrieving results.
      */
@@ -99,6 +215,103 @@ class OperationsControllerTest {
                 .andExpect(jsonPath("$.data").isArray());
     }
 
+    /**
+     * Test the GET endpoint for successfully retrieving a page of results.
+     */
+    @Test
+    void result_Page() throws Exception {
+        when(resultsPort.getResults(10L, 1)).thenReturn(MockFactory.getOperationPageFactory());
+
+        mockMvc.perform(get(URL).param("after_id", "10").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.nextCursor").value(1));
+    }
+
+    /**
+     * Test the GET endpoint applying the default page size when only the cursor is given.
+     */
+    @Test
+    void result_PageDefaultLimit() throws Exception {
+        when(resultsPort.getResults(10L, OperationsController.DEFAULT_PAGE_SIZE)).thenReturn(MockFactory.getOperationPageFactory());
+
+        mockMvc.perform(get(URL).param("after_id", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items").isArray());
+    }
+
+    /**
+     * Test the GET endpoint rejecting an out of range page size.
+     */
+    @Test
+    void result_PageInvalidLimit() throws Exception {
+        mockMvc.perform(get(URL).param("limit", String.valueOf(OperationsController.MAX_PAGE_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+
+        verify(resultsPort, never()).getResults(any(), anyInt());
+    }
+
+    /**
+     * Test the GET endpoint retrieving the results within ranges, in the requested order.
+     */
+    @Test
+    void result_Query() throws Exception {
+        ArgumentCaptor<OperationQuery> query = ArgumentCaptor.forClass(OperationQuery.class);
+        when(resultsPort.getResults(query.capture())).thenReturn(List.of(MockFactory.getOperationDomainFactory()));
+
+        mockMvc.perform(get(URL).param("x_min", "7").param("x_max", "7").param("n_max", "1000")
+                        .param("sort", "result").param("order", "DESC").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isArray());
+
+        OperationQuery captured = query.getValue();
+        assertEquals(7L, captured.getXMin());
+        assertEquals(7L, captured.getXMax());
+        assertEquals(1000L, captured.getNMax());
+        assertNull(captured.getYMin());
+        assertEquals(OperationQuery.Sort.RESULT, captured.getSort());
+        assertTrue(captured.isDescending());
+        assertEquals(5, captured.getLimit());
+    }
+
+    /**
+     * Test the GET endpoint rejecting inverted ranges, unknown orders and a cursor combined with filters.
+     */
+    @Test
+    void result_QueryInvalid() throws Exception {
+        mockMvc.perform(get(URL).param("n_min", "10").param("n_max", "5").param("sort", "k").param("after_id", "3"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0]").value(OperationResponse.fieldError("after_id", ValidationMessages.AFTER_ID_WITH_FILTERS)))
+                .andExpect(jsonPath("$.data[1]").value(OperationResponse.fieldError("n_min", ValidationMessages.INVALID_RANGE)))
+                .andExpect(jsonPath("$.data[2]").value(OperationResponse.fieldError("sort", ValidationMessages.INVALID_SORT)));
+
+        verify(resultsPort, never()).getResults(any(OperationQuery.class));
+    }
+
+    /**
+     * Test the streaming GET endpoint writing one JSON result per line.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamResults_Success() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<OperationDomain> consumer = invocation.getArgument(0);
+            consumer.accept(MockFactory.getOperationDomainFactory());
+            consumer.accept(MockFactory.getOperationDomainFactory());
+            return null;
+        }).when(resultsPort).streamResults(any(Consumer.class));
+
+        MvcResult mvcResult = mockMvc.perform(get(URL + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"x\":10,\"y\":5,\"n\":15,\"result\":15}\n{\"x\":10,\"y\":5,\"n\":15,\"result\":15}\n"));
+    }
+
     /**
      * Test the GET endpoint handling a service error.
      */
@@ -0,0 +1,132 @@
+package com.example.maxintegersolver.adapter.controller;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.application.port.in.reactive.ReactiveOperationCalculatorPort;
+import com.example.maxintegersolver.application.port.in.reactive.ReactiveOperationResultsPort;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.mocks.MockFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for {@link ReactiveOperationsController} using WebTestClient and Mockito.
+ * These tests ensure the reactive controller answers like the servlet one.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveOperationsControllerTest {
+
+    private static final String URL = "/api/v1/operation";
+
+    private WebTestClient webTestClient;
+
+    @Mock
+    private ReactiveOperationCalculatorPort calculatorPort;
+
+    @Mock
+    private ReactiveOperationResultsPort resultsPort;
+
+    @InjectMocks
+    private ReactiveOperationsController operationsController;
+
+    /**
+     * Setup for WebTestClient bound to the controller with injected mocks before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToController(operationsController).build();
+    }
+
+    /**
+     * Test the POST endpoint for a successful calculation.
+     */
+    @Test
+    void calculate_Success() {
+        OperationDomain mockResponse = MockFactory.getOperationDomainFactory();
+        when(calculatorPort.calculate(any())).thenReturn(Mono.just(mockResponse));
+
+        webTestClient.post().uri(URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MockFactory.getJsonContentValid())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.data").exists();
+    }
+
+    /**
+     * Test the POST endpoint with an invalid request.
+     */
+    @Test
+    void calculate_InvalidRequest() {
+        webTestClient.post().uri(URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MockFactory.getJsonContentInvalid())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(calculatorPort, never()).calculate(any());
+    }
+
+    /**
+     * Test the POST endpoint handling a calculation error.
+     */
+    @Test
+    void calculate_CalculationError() {
+        when(calculatorPort.calculate(any())).thenReturn(Mono.error(MockFactory.getCustomExceptionUseCaseFactory()));
+
+        webTestClient.post().uri(URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MockFactory.getJsonContentValid())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    /**
+     * Test the batch POST endpoint for a successful calculation.
+     */
+    @Test
+    void calculateBatch_Success() {
+        when(calculatorPort.calculateBatch(anyList())).thenReturn(Mono.just(MockFactory.getOperationDomainBatchFactory()));
+
+        webTestClient.post().uri(URL + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MockFactory.getJsonBatchContentValid())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.data.length()").isEqualTo(2);
+    }
+
+    /**
+     * Test the GET endpoint with an invalid page size.
+     */
+    @Test
+    void result_InvalidLimit() {
+        webTestClient.get().uri(URL + "?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    /**
+     * Test the stream endpoint emitting one JSON line per result.
+     */
+    @Test
+    void streamResults_Success() {
+        when(resultsPort.getResults()).thenReturn(Flux.just(MockFactory.getOperationDomainFactory(), MockFactory.getOperationDomainFactory()));
+
+        webTestClient.get().uri(URL + "/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> assertEquals(2, body.lines().count(), "Every result should be written on its own line"));
+    }
+}
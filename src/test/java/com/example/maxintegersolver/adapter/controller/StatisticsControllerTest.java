@@ -0,0 +1,71 @@
+package com.example.maxintegersolver.adapter.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.example.maxintegersolver.application.port.in.OperationStatisticsPort;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.mocks.MockFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Tests for {@link StatisticsController} using MockMvc and Mockito.
+ * These tests ensure the statistics endpoint serializes the aggregates and reports errors.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatisticsControllerTest {
+
+    private static final String URL = "/api/v1/operation/statistics";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private OperationStatisticsPort statisticsPort;
+
+    @InjectMocks
+    private StatisticsController statisticsController;
+
+    /**
+     * Setup for MockMvc with injected mocks before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(statisticsController).build();
+    }
+
+    /**
+     * Test the GET endpoint returning the aggregates of the calculated operations.
+     */
+    @Test
+    void statistics_Success() throws Exception {
+        when(statisticsPort.getStatistics()).thenReturn(MockFactory.getOperationStatisticsFactory());
+
+        mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.count").value(1))
+                .andExpect(jsonPath("$.data.meanResult").value(15.0))
+                .andExpect(jsonPath("$.data.countByX['10']").value(1))
+                .andExpect(jsonPath("$.data.resultHistogram[0].from").value(8))
+                .andExpect(jsonPath("$.data.throughput[0].minuteStart").value(60_000));
+    }
+
+    /**
+     * Test the GET endpoint when the statistics cannot be retrieved.
+     */
+    @Test
+    void statistics_Error() throws Exception {
+        when(statisticsPort.getStatistics()).thenThrow(MockFactory.getCustomExceptionUseCaseFactory());
+
+        mockMvc.perform(get(URL))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code_status").value(SPError.OPERATION_CONTROLLER_ERROR_RESULTS.getErrorCode()));
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.example.maxintegersolver.adapter.h2.models.OperationEntity;
 import com.example.maxintegersolver.config.exception.DataBaseException;
 import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
 import com.example.maxintegersolver.mocks.MockFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,8 +14,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Unit tests for {@link OperationH2Adapter} class.
@@ -26,6 +31,9 @@ class OperationH2AdapterTest {
     @Mock
     private OperationH2Repository repository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private OperationH2Adapter adapter;
 
@@ -65,6 +73,31 @@ class OperationH2AdapterTest {
                 "DataBaseException should be thrown on save error");
     }
 
+    /**
+     * Test saving a group of operations to the database successfully.
+     */
+    @Test
+    void saveAll_Success() {
+        when(repository.saveAll(anyList())).thenReturn(List.of(operationEntity, operationEntity));
+
+        List<OperationDomain> result = adapter.saveAll(List.of(operationDomain, operationDomain));
+
+        assertEquals(2, result.size(), "Every operation should be saved");
+        assertEquals(operationDomain.getResult(), result.get(1).getResult(), "Result values should match");
+    }
+
+    /**
+     * Test error handling when saving a group of operations to the database fails.
+     */
+    @Test
+    void saveAll_Error() {
+        when(repository.saveAll(anyList())).thenThrow(new RuntimeException("Database error"));
+
+        List<OperationDomain> batch = List.of(operationDomain);
+        assertThrows(DataBaseException.class, () -> adapter.saveAll(batch),
+                "DataBaseException should be thrown on saveAll error");
+    }
+
     /**
      * Test retrieving all operations from the database successfully.
      */
@@ -92,4 +125,95 @@ class OperationH2AdapterTest {
         assertThrows(DataBaseException.class, () -> adapter.getAll(),
                 "DataBaseException should be thrown on getAll error");
     }
+
+    /**
+     * Test retrieving a page of operations that is followed by more operations.
+     */
+    @Test
+    void getPage_WithNextPage() {
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(entityWithId(1L), entityWithId(2L), entityWithId(3L)));
+
+        OperationPage page = adapter.getPage(null, 2);
+
+        assertEquals(2, page.getItems().size(), "The page should contain the requested number of operations");
+        assertEquals(2L, page.getNextCursor(), "The cursor should be the id of the last operation of the page");
+    }
+
+    /**
+     * Test retrieving the last page of operations.
+     */
+    @Test
+    void getPage_LastPage() {
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(entityWithId(3L)));
+
+        OperationPage page = adapter.getPage(2L, 2);
+
+        assertEquals(1, page.getItems().size(), "The page should contain the remaining operations");
+        assertNull(page.getNextCursor(), "There should be no cursor after the last page");
+    }
+
+    /**
+     * Test streaming every operation and detaching each entity once consumed.
+     */
+    @Test
+    void forEach_Success() {
+        when(repository.streamAll()).thenReturn(Stream.of(entityWithId(1L), entityWithId(2L)));
+
+        List<OperationDomain> consumed = new ArrayList<>();
+        adapter.forEach(consumed::add);
+
+        assertEquals(2, consumed.size(), "Every operation should be handed to the consumer");
+        verify(entityManager, times(2)).detach(any(OperationEntity.class));
+    }
+
+    /**
+     * Test error handling when streaming the operations fails.
+     */
+    @Test
+    void forEach_Error() {
+        when(repository.streamAll()).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(DataBaseException.class, () -> adapter.forEach(domain -> { }),
+                "DataBaseException should be thrown on forEach error");
+    }
+
+    private OperationEntity entityWithId(Long id) {
+        OperationEntity entity = OperationEntity.fromDomain(operationDomain);
+        entity.setId(id);
+        return entity;
+    }
+
+    /**
+     * Test error handling when the query of the operations matching a filter fails.
+     */
+    @Test
+    void find_Error() {
+        when(entityManager.getCriteriaBuilder()).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(DataBaseException.class, () -> adapter.find(MockFactory.getOperationQueryFactory()),
+                "DataBaseException should be thrown on find error");
+    }
+
+    /**
+     * Test the count method to ensure it returns the number of stored operations.
+     */
+    @Test
+    void count_Success() {
+        when(repository.count()).thenReturn(3L);
+
+        assertEquals(3L, adapter.count(), "The number of stored operations should be returned");
+    }
+
+    /**
+     * Test the count method to ensure it throws DataBaseException on database errors.
+     */
+    @Test
+    void count_Error() {
+        when(repository.count()).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(DataBaseException.class, () -> adapter.count(),
+                "DataBaseException should be thrown on count error");
+    }
 }
@@ -0,0 +1,280 @@
+package com.example.maxintegersolver.adapter.log;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link OperationLogAdapter}.
+ * These tests use segments of four records, so the operations span several segment files, and reopen
+ * the log to validate the recovery of complete and torn logs.
+ */
+class OperationLogAdapterTest {
+
+    private static final int SEGMENT_RECORDS = 4;
+
+    @TempDir
+    Path directory;
+
+    private final List<OperationLogAdapter> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(OperationLogAdapter::close);
+    }
+
+    /**
+     * Test that saved operations are read back in order across several segment files.
+     */
+    @Test
+    void saveAll_ReadBackAcrossSegments() throws IOException {
+        OperationLogAdapter adapter = open(FsyncPolicy.ALWAYS);
+        List<OperationDomain> domains = operations(10);
+
+        adapter.saveAll(domains.subList(0, 3));
+        adapter.save(domains.get(3));
+        adapter.saveAll(domains.subList(4, 10));
+
+        assertEquals(10, adapter.count(), "Every operation should be counted");
+        assertOperations(domains, adapter.getAll());
+        assertEquals(3, segmentFiles().size(), "Ten records should fill three segments of four records");
+    }
+
+    /**
+     * Test that pages follow the cursor of the previous page until the last one.
+     */
+    @Test
+    void getPage_FollowsCursor() {
+        OperationLogAdapter adapter = open(FsyncPolicy.NONE);
+        List<OperationDomain> domains = operations(7);
+        adapter.saveAll(domains);
+
+        OperationPage first = adapter.getPage(null, 5);
+        OperationPage last = adapter.getPage(first.getNextCursor(), 5);
+
+        assertEquals(5L, first.getNextCursor(), "The cursor should be the identifier of the last operation of the page");
+        assertNull(last.getNextCursor(), "The last page should not have a cursor");
+        assertOperations(domains.subList(0, 5), first.getItems());
+        assertOperations(domains.subList(5, 7), last.getItems());
+    }
+
+    /**
+     * Test that queries newest first scan the segments backwards and stop at their limit.
+     */
+    @Test
+    void find_NewestFirstAcrossSegments() {
+        OperationLogAdapter adapter = open(FsyncPolicy.NONE);
+        List<OperationDomain> domains = operations(10);
+        adapter.saveAll(domains);
+
+        List<OperationDomain> found = adapter.find(OperationQuery.builder().yMax(7L).limit(5).descending(true).build());
+
+        assertOperations(List.of(domains.get(7), domains.get(6), domains.get(5), domains.get(4), domains.get(3)), found);
+    }
+
+    /**
+     * Test that queries running while records are appended across segment boundaries only see
+     * complete operations, in order.
+     */
+    @Test
+    void find_ConcurrentWithAppends() throws Exception {
+        OperationLogAdapter adapter = open(FsyncPolicy.NONE);
+        int total = 500;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < total; i++) {
+                    adapter.save(operation(i + 2, 0, 1000L + i));
+                }
+            });
+            while (!writer.isDone()) {
+                assertConsecutive(adapter.find(OperationQuery.builder().limit(3).descending(true).build()), -1);
+                assertConsecutive(adapter.find(OperationQuery.builder().limit(3).build()), 1);
+            }
+            writer.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(total + 1L, adapter.find(OperationQuery.builder().limit(1).descending(true).build()).get(0).getX(),
+                "The newest operation should be found once every append has finished");
+    }
+
+    /**
+     * Test that every operation is recovered when the log is reopened, and that new operations follow them.
+     */
+    @Test
+    void start_RecoversClosedLog() {
+        List<OperationDomain> domains = operations(6);
+        OperationLogAdapter adapter = open(FsyncPolicy.INTERVAL);
+        adapter.saveAll(domains.subList(0, 5));
+        adapter.close();
+
+        OperationLogAdapter reopened = open(FsyncPolicy.NONE);
+        reopened.save(domains.get(5));
+
+        assertEquals(6, reopened.count(), "The recovered and the new operations should be counted");
+        assertOperations(domains, reopened.getAll());
+    }
+
+    /**
+     * Test that the log ends at a record with a wrong checksum and that the slot is reused.
+     */
+    @Test
+    void start_TruncatesTornTail() throws IOException {
+        List<OperationDomain> domains = operations(7);
+        OperationLogAdapter adapter = open(FsyncPolicy.ALWAYS);
+        adapter.saveAll(domains.subList(0, 6));
+        adapter.close();
+        corrupt(segmentFiles().get(1), 1);
+
+        OperationLogAdapter reopened = open(FsyncPolicy.ALWAYS);
+        assertEquals(5, reopened.count(), "The log should end before the torn record");
+        reopened.save(domains.get(6));
+        reopened.close();
+
+        OperationLogAdapter recovered = open(FsyncPolicy.ALWAYS);
+        List<OperationDomain> expected = new ArrayList<>(domains.subList(0, 5));
+        expected.add(domains.get(6));
+        assertOperations(expected, recovered.getAll());
+    }
+
+    /**
+     * Test that the segments after a torn segment are set aside rather than deleted.
+     */
+    @Test
+    void start_SetsAsideSegmentsAfterTornSegment() throws IOException {
+        OperationLogAdapter adapter = open(FsyncPolicy.NONE);
+        adapter.saveAll(operations(10));
+        adapter.close();
+        corrupt(segmentFiles().get(0), 2);
+
+        OperationLogAdapter reopened = open(FsyncPolicy.NONE);
+
+        assertEquals(2, reopened.count(), "The log should end before the torn record");
+        assertEquals(1, segmentFiles().size(), "Only the torn segment should remain in the log");
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.filter(path -> path.toString().endsWith(OperationLogAdapter.CORRUPT_SUFFIX)).count(),
+                    "The later segments should be renamed");
+        }
+    }
+
+    /**
+     * Test that concurrent saves with group commit are neither lost nor interleaved within a batch.
+     */
+    @Test
+    void saveAll_ConcurrentGroupCommit() throws Exception {
+        OperationLogAdapter adapter = open(FsyncPolicy.ALWAYS);
+        int writers = 4;
+        int batches = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                long writer = w + 1;
+                futures.add(executor.submit(() -> {
+                    for (int b = 0; b < batches; b++) {
+                        adapter.saveAll(List.of(operation(writer, b, 0), operation(writer, b, 1)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        adapter.close();
+
+        List<OperationDomain> stored = open(FsyncPolicy.NONE).getAll();
+        assertEquals(writers * batches * 2, stored.size(), "No operation should be lost");
+        for (int i = 0; i < stored.size(); i += 2) {
+            assertEquals(stored.get(i).getX(), stored.get(i + 1).getX(), "A batch should be stored contiguously");
+        }
+    }
+
+    /**
+     * Test that invalid segment sizes and fsync intervals are rejected.
+     */
+    @Test
+    void constructor_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new OperationLogAdapter(directory, 0, FsyncPolicy.NONE, null));
+        assertThrows(IllegalArgumentException.class, () -> new OperationLogAdapter(directory, SEGMENT_RECORDS, FsyncPolicy.INTERVAL, Duration.ZERO));
+    }
+
+    private OperationLogAdapter open(FsyncPolicy fsyncPolicy) {
+        OperationLogAdapter adapter = new OperationLogAdapter(directory, SEGMENT_RECORDS, fsyncPolicy, Duration.ofMillis(5));
+        adapter.start();
+        opened.add(adapter);
+        return adapter;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(OperationLogAdapter.SEGMENT_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Flips a byte of the values of a record, as a write torn by a crash would leave it.
+     */
+    private static void corrupt(Path segment, int record) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer value = ByteBuffer.allocate(1);
+            long position = (long) record * OperationLogAdapter.RECORD_SIZE + 3;
+            channel.read(value, position);
+            value.put(0, (byte) (value.get(0) ^ 0x5A)).rewind();
+            channel.write(value, position);
+        }
+    }
+
+    private static void assertConsecutive(List<OperationDomain> found, int step) {
+        for (int i = 1; i < found.size(); i++) {
+            assertEquals(found.get(i - 1).getX() + step, found.get(i).getX(), "The operations should be consecutive in storage order");
+        }
+    }
+
+    private static List<OperationDomain> operations(int count) {
+        List<OperationDomain> domains = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            domains.add(operation(i + 2, i, 1000L + i));
+        }
+        return domains;
+    }
+
+    private static OperationDomain operation(long x, long y, long n) {
+        return OperationDomain.builder().x(x).y(y).n(n).result(x * y + n).build();
+    }
+
+    private static void assertOperations(List<OperationDomain> expected, List<OperationDomain> actual) {
+        assertEquals(expected.size(), actual.size(), "The number of operations should match");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), actual.get(i).getX(), "x should match at " + i);
+            assertEquals(expected.get(i).getY(), actual.get(i).getY(), "y should match at " + i);
+            assertEquals(expected.get(i).getN(), actual.get(i).getN(), "n should match at " + i);
+            assertEquals(expected.get(i).getResult(), actual.get(i).getResult(), "The result should match at " + i);
+        }
+    }
+}
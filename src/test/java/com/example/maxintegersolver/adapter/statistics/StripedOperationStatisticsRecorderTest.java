@@ -0,0 +1,183 @@
+package com.example.maxintegersolver.adapter.statistics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.maxintegersolver.domain.OperationStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for {@link StripedOperationStatisticsRecorder}.
+ * These tests use a mocked clock to place the operations in known minutes.
+ */
+class StripedOperationStatisticsRecorderTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private Clock clock;
+
+    /**
+     * Sets up the clock at the start of a minute before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(100 * MINUTE);
+    }
+
+    /**
+     * Test that an empty recorder reports no operations and no result aggregates.
+     */
+    @Test
+    void snapshot_Empty() {
+        OperationStatistics statistics = new StripedOperationStatisticsRecorder(10, 5, clock).snapshot();
+
+        assertEquals(0, statistics.getCount(), "No operation should be counted");
+        assertNull(statistics.getMinResult(), "There should be no minimum without operations");
+        assertNull(statistics.getMeanResult(), "There should be no mean without operations");
+        assertTrue(statistics.getCountByX().isEmpty(), "No modulus should be counted");
+        assertTrue(statistics.getResultHistogram().isEmpty(), "The histogram should be empty");
+        assertTrue(statistics.getThroughput().isEmpty(), "No minute should be reported");
+    }
+
+    /**
+     * Test that the count, the count per modulus and the minimum, maximum and mean result are aggregated.
+     */
+    @Test
+    void record_Aggregates() {
+        StripedOperationStatisticsRecorder recorder = new StripedOperationStatisticsRecorder(10, 5, clock);
+
+        recorder.record(7, 5);
+        recorder.record(7, 12);
+        recorder.record(3, 0);
+        recorder.record(5, 7);
+
+        OperationStatistics statistics = recorder.snapshot();
+        assertEquals(4, statistics.getCount(), "Every operation should be counted");
+        assertEquals(0L, statistics.getMinResult(), "The minimum result should be reported");
+        assertEquals(12L, statistics.getMaxResult(), "The maximum result should be reported");
+        assertEquals(6.0, statistics.getMeanResult(), "The mean result should be reported");
+        assertEquals(Map.of(3L, 1L, 5L, 1L, 7L, 2L), statistics.getCountByX(), "The operations should be counted per modulus");
+        assertEquals(0, statistics.getUntrackedXCount(), "Every modulus should be tracked");
+    }
+
+    /**
+     * Test that the results are counted in buckets by powers of two, and that only non-empty buckets are reported.
+     */
+    @Test
+    void record_ResultHistogram() {
+        StripedOperationStatisticsRecorder recorder = new StripedOperationStatisticsRecorder(10, 5, clock);
+
+        recorder.record(2, 0);
+        recorder.record(2, 4);
+        recorder.record(2, 7);
+        recorder.record(2, Long.MAX_VALUE);
+
+        List<OperationStatistics.ResultBucket> buckets = recorder.snapshot().getResultHistogram();
+        assertEquals(3, buckets.size(), "Only the non-empty buckets should be reported");
+        assertBucket(0, 0, 1, buckets.get(0));
+        assertBucket(4, 7, 2, buckets.get(1));
+        assertBucket(1L << 62, Long.MAX_VALUE, 1, buckets.get(2));
+    }
+
+    /**
+     * Test that the moduli beyond the tracked ones are only counted as untracked.
+     */
+    @Test
+    void record_UntrackedModuli() {
+        StripedOperationStatisticsRecorder recorder = new StripedOperationStatisticsRecorder(2, 5, clock);
+
+        recorder.record(3, 1);
+        recorder.record(4, 1);
+        recorder.record(5, 1);
+        recorder.record(3, 1);
+
+        OperationStatistics statistics = recorder.snapshot();
+        assertEquals(Map.of(3L, 2L, 4L, 1L), statistics.getCountByX(), "The first moduli should be tracked");
+        assertEquals(1, statistics.getUntrackedXCount(), "The other moduli should be counted as untracked");
+    }
+
+    /**
+     * Test that the throughput is reported per minute, oldest first, and only for the recent minutes.
+     */
+    @Test
+    void record_ThroughputPerMinute() {
+        StripedOperationStatisticsRecorder recorder = new StripedOperationStatisticsRecorder(10, 3, clock);
+
+        recorder.record(2, 1);
+        when(clock.millis()).thenReturn(101 * MINUTE + 10);
+        recorder.record(2, 1);
+        recorder.record(2, 1);
+        when(clock.millis()).thenReturn(103 * MINUTE);
+        recorder.record(2, 1);
+
+        List<OperationStatistics.MinuteCount> throughput = recorder.snapshot().getThroughput();
+        assertEquals(2, throughput.size(), "The minutes older than the ring should not be reported");
+        assertEquals(101 * MINUTE, throughput.get(0).getMinuteStart(), "The minutes should be reported oldest first");
+        assertEquals(2, throughput.get(0).getCount(), "The operations of the minute should be counted");
+        assertEquals(103 * MINUTE, throughput.get(1).getMinuteStart(), "The minute should replace the oldest one of its slot");
+        assertEquals(1, throughput.get(1).getCount(), "The replaced minute should start from zero");
+    }
+
+    /**
+     * Test that concurrent recordings are not lost.
+     */
+    @Test
+    void record_Concurrent() throws Exception {
+        StripedOperationStatisticsRecorder recorder = new StripedOperationStatisticsRecorder(10, 5, clock);
+        int writers = 4;
+        int operations = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                long x = w + 2;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < operations; i++) {
+                        recorder.record(x, i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        OperationStatistics statistics = recorder.snapshot();
+        assertEquals((long) writers * operations, statistics.getCount(), "No operation should be lost");
+        statistics.getCountByX().values().forEach(count -> assertEquals(operations, count, "No operation of a modulus should be lost"));
+        assertEquals((long) writers * operations, statistics.getThroughput().get(0).getCount(), "No operation of the minute should be lost");
+        assertEquals((operations - 1) / 2.0, statistics.getMeanResult(), "The mean result should be exact");
+    }
+
+    /**
+     * Test that invalid limits are rejected.
+     */
+    @Test
+    void constructor_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedOperationStatisticsRecorder(-1, 5, clock));
+        assertThrows(IllegalArgumentException.class, () -> new StripedOperationStatisticsRecorder(10, 0, clock));
+    }
+
+    private static void assertBucket(long from, long to, long count, OperationStatistics.ResultBucket bucket) {
+        assertEquals(from, bucket.getFrom(), "The lower bound of the bucket should match");
+        assertEquals(to, bucket.getTo(), "The upper bound of the bucket should match");
+        assertEquals(count, bucket.getCount(), "The count of the bucket should match");
+    }
+}
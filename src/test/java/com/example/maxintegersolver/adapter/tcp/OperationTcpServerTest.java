@@ -0,0 +1,131 @@
+package com.example.maxintegersolver.adapter.tcp;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.maxintegersolver.application.port.in.OperationCalculatorPort;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * Unit tests for {@link OperationTcpServer}.
+ * These tests validate the framing, pipelining and error statuses of the TCP protocol over a local socket.
+ */
+@ExtendWith(MockitoExtension.class)
+class OperationTcpServerTest {
+
+    @Mock
+    private OperationCalculatorPort calculatorPort;
+
+    private OperationTcpServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new OperationTcpServer(calculatorPort, "127.0.0.1", 0, 16, 4, runnable -> {
+            Thread thread = new Thread(runnable, "operation-tcp-test");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    /**
+     * Test that pipelined requests are answered in order with their request ids.
+     */
+    @Test
+    void serve_PipelinedRequests() throws IOException {
+        when(calculatorPort.calculate(7L, 5L, 12345L)).thenReturn(12339L);
+        when(calculatorPort.calculate(5L, 0L, 4L)).thenReturn(0L);
+
+        try (Socket socket = connect()) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            for (long requestId = 1; requestId <= 10; requestId++) {
+                writeRequest(out, requestId, requestId % 2 == 0 ? 5L : 7L, requestId % 2 == 0 ? 0L : 5L, requestId % 2 == 0 ? 4L : 12345L);
+            }
+            out.flush();
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            for (long requestId = 1; requestId <= 10; requestId++) {
+                assertEquals(OperationTcpServer.RESPONSE_SIZE, in.readInt(), "The frame should have the response size");
+                assertEquals(requestId, in.readLong(), "Responses should be returned in the order of the requests");
+                assertEquals(0, in.readInt(), "The request should succeed");
+                assertEquals(requestId % 2 == 0 ? 0L : 12339L, in.readLong(), "The result should match the expected value");
+            }
+        }
+        assertEquals(10, server.getServed(), "Every request should be counted as served");
+    }
+
+    /**
+     * Test that values out of range and rejected operations are answered with their error codes.
+     */
+    @Test
+    void serve_ErrorStatuses() throws IOException {
+        when(calculatorPort.calculate(0L, 0L, 10L)).thenThrow(StacklessCustomException.of(SPError.OPERATION_USE_CASE_ERROR_CALCULATE));
+
+        try (Socket socket = connect()) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            writeRequest(out, 1L, -2L, 0L, 10L);
+            writeRequest(out, 2L, 0L, 0L, 10L);
+            out.flush();
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertEquals(SPError.INVALID_PARAMS_ERROR.getErrorCode(), readStatus(in, 1L), "Values out of range should be rejected");
+            assertEquals(SPError.OPERATION_USE_CASE_ERROR_CALCULATE.getErrorCode(), readStatus(in, 2L), "The error code of the rejection should be returned");
+        }
+        verify(calculatorPort, never()).calculate(-2L, 0L, 10L);
+    }
+
+    /**
+     * Test that a frame with an unexpected length closes the connection.
+     */
+    @Test
+    void serve_InvalidFrameClosesConnection() throws IOException {
+        try (Socket socket = connect()) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeInt(3);
+            out.write(new byte[3]);
+            out.flush();
+
+            assertEquals(-1, socket.getInputStream().read(), "The server should close the connection");
+        }
+        verifyNoInteractions(calculatorPort);
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket("127.0.0.1", server.getPort());
+        socket.setSoTimeout(5000);
+        return socket;
+    }
+
+    private static void writeRequest(DataOutputStream out, long requestId, long x, long y, long n) throws IOException {
+        out.writeInt(OperationTcpServer.REQUEST_SIZE);
+        out.writeLong(requestId);
+        out.writeLong(x);
+        out.writeLong(y);
+        out.writeLong(n);
+    }
+
+    private static int readStatus(DataInputStream in, long requestId) throws IOException {
+        assertEquals(OperationTcpServer.RESPONSE_SIZE, in.readInt(), "The frame should have the response size");
+        assertEquals(requestId, in.readLong(), "The request id should be returned");
+        int status = in.readInt();
+        in.readLong();
+        return status;
+    }
+}
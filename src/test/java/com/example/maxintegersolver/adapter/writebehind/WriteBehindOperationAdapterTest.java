@@ -0,0 +1,212 @@
+package com.example.maxintegersolver.adapter.writebehind;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.mocks.MockFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Unit tests for {@link WriteBehindOperationAdapter}.
+ * These tests validate the batching, backpressure and shutdown behavior of the write-behind queue.
+ */
+@ExtendWith(MockitoExtension.class)
+class WriteBehindOperationAdapterTest {
+
+    @Mock
+    private OperationStorageRepository delegate;
+
+    private WriteBehindOperationAdapter adapter;
+
+    private final CountDownLatch writerReleased = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        writerReleased.countDown();
+        if (adapter != null) {
+            adapter.close();
+        }
+    }
+
+    /**
+     * Test that saved operations are returned immediately and written in batches on shutdown.
+     */
+    @Test
+    void save_WrittenInBatches() {
+        List<Integer> batchSizes = recordBatchSizes();
+        adapter = newAdapter(100, 2, Duration.ofSeconds(10), BackpressurePolicy.BLOCK);
+        adapter.start();
+
+        OperationDomain domain = MockFactory.getOperationDomainFactory();
+        for (int i = 0; i < 5; i++) {
+            assertSame(domain, adapter.save(domain), "The operation should be returned without waiting for the database");
+        }
+        adapter.close();
+
+        assertEquals(5, batchSizes.stream().mapToInt(Integer::intValue).sum(), "Every operation should be written on shutdown");
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 2), "No batch should exceed the configured batch size");
+        assertEquals(5, adapter.getWritten(), "Every operation should be counted as written");
+        verify(delegate, never()).save(any());
+    }
+
+    /**
+     * Test that a partial batch is written once the flush interval elapses.
+     */
+    @Test
+    void save_FlushedAfterInterval() {
+        adapter = newAdapter(100, 500, Duration.ofMillis(10), BackpressurePolicy.BLOCK);
+        adapter.start();
+
+        adapter.save(MockFactory.getOperationDomainFactory());
+
+        verify(delegate, timeout(2000)).saveAll(anyList());
+    }
+
+    /**
+     * Test that operations are dropped when the queue is full with the DROP policy.
+     */
+    @Test
+    void save_DropWhenFull() {
+        adapter = newAdapter(1, 10, Duration.ofMillis(10), BackpressurePolicy.DROP);
+        startWithoutWriter();
+
+        adapter.save(MockFactory.getOperationDomainFactory());
+        adapter.save(MockFactory.getOperationDomainFactory());
+
+        assertEquals(1, adapter.getPending(), "Only the first operation should be queued");
+        assertEquals(1, adapter.getDropped(), "The second operation should be dropped");
+        verify(delegate, never()).save(any());
+    }
+
+    /**
+     * Test that operations are persisted synchronously when the queue is full with the CALLER_RUNS policy.
+     */
+    @Test
+    void save_CallerRunsWhenFull() {
+        adapter = newAdapter(1, 10, Duration.ofMillis(10), BackpressurePolicy.CALLER_RUNS);
+        OperationDomain domain = MockFactory.getOperationDomainFactory();
+        when(delegate.save(domain)).thenReturn(domain);
+        startWithoutWriter();
+
+        adapter.save(domain);
+        adapter.save(domain);
+
+        verify(delegate, times(1)).save(domain);
+    }
+
+    /**
+     * Test that a caller waiting for room in a full queue with the BLOCK policy stops waiting when the
+     * adapter is closed, and persists its operation synchronously.
+     */
+    @Test
+    void save_BlockedCallerReleasedOnClose() throws Exception {
+        adapter = new WriteBehindOperationAdapter(delegate, 1, 10, Duration.ofMillis(10), BackpressurePolicy.BLOCK, Duration.ofMillis(100));
+        OperationDomain blocked = MockFactory.getOperationDomainBorderFactory();
+        when(delegate.save(blocked)).thenReturn(blocked);
+        startWithoutWriter();
+        adapter.save(MockFactory.getOperationDomainFactory());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<OperationDomain> caller = executor.submit(() -> adapter.save(blocked));
+            assertThrows(TimeoutException.class, () -> caller.get(100, TimeUnit.MILLISECONDS), "The caller should wait while the queue is full");
+
+            adapter.close();
+
+            assertSame(blocked, caller.get(2, TimeUnit.SECONDS), "The caller should be released once the adapter is closed");
+            verify(delegate, times(1)).save(blocked);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that operations are persisted synchronously when the writer has not been started.
+     */
+    @Test
+    void save_SynchronousWhenNotRunning() {
+        adapter = newAdapter(10, 10, Duration.ofSeconds(1), BackpressurePolicy.BLOCK);
+        OperationDomain domain = MockFactory.getOperationDomainFactory();
+        when(delegate.save(domain)).thenReturn(domain);
+
+        adapter.save(domain);
+
+        verify(delegate, times(1)).save(domain);
+    }
+
+    /**
+     * Test that the background writer is created by the given thread factory.
+     */
+    @Test
+    void start_WriterFromThreadFactory() {
+        List<Thread> created = new CopyOnWriteArrayList<>();
+        adapter = new WriteBehindOperationAdapter(delegate, 10, 10, Duration.ofMillis(10), BackpressurePolicy.BLOCK, Duration.ofSeconds(5),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "custom-writer");
+                    thread.setDaemon(true);
+                    created.add(thread);
+                    return thread;
+                });
+        adapter.start();
+
+        adapter.save(MockFactory.getOperationDomainFactory());
+
+        verify(delegate, timeout(2000)).saveAll(anyList());
+        assertEquals(1, created.size(), "The writer should be created by the thread factory");
+    }
+
+    /**
+     * Test that reads are delegated directly to the wrapped repository.
+     */
+    @Test
+    void getAll_Delegated() {
+        adapter = newAdapter(10, 10, Duration.ofSeconds(1), BackpressurePolicy.BLOCK);
+        when(delegate.getAll()).thenReturn(List.of(MockFactory.getOperationDomainFactory()));
+
+        assertEquals(1, adapter.getAll().size(), "The results of the delegate should be returned");
+    }
+
+    private WriteBehindOperationAdapter newAdapter(int capacity, int batchSize, Duration flushInterval, BackpressurePolicy policy) {
+        return new WriteBehindOperationAdapter(delegate, capacity, batchSize, flushInterval, policy, Duration.ofSeconds(5));
+    }
+
+    /**
+     * Starts the adapter and keeps its writer blocked inside the delegate until the test ends,
+     * so the queue can be filled deterministically.
+     */
+    private void startWithoutWriter() {
+        when(delegate.saveAll(anyList())).thenAnswer(invocation -> {
+            writerReleased.await();
+            return invocation.getArgument(0);
+        });
+        adapter.start();
+        adapter.save(MockFactory.getOperationDomainFactory());
+        verify(delegate, timeout(2000)).saveAll(anyList());
+    }
+
+    private List<Integer> recordBatchSizes() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        when(delegate.saveAll(anyList())).thenAnswer(invocation -> {
+            List<OperationDomain> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return batch;
+        });
+        return batchSizes;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.maxintegersolver.application.usecase;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.service.OperationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link BulkSolveUseCase} class.
+ * These tests ensure the correctness of the bulk solve use case logic under various scenarios.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkSolveUseCaseTest {
+
+    @Mock
+    private OperationService operationService;
+
+    @Mock
+    private OperationStorageRepository repository;
+
+    @InjectMocks
+    private BulkSolveUseCase bulkSolveUseCase;
+
+    /**
+     * Test to ensure the solve method delegates the used range of the columns to the domain service.
+     */
+    @Test
+    void solve_Success() {
+        long[] x = {7, 5, 0};
+        long[] y = {5, 0, 0};
+        long[] n = {12345, 4, 0};
+        long[] results = new long[3];
+
+        bulkSolveUseCase.solve(x, y, n, results, 2);
+
+        verify(operationService).calculateMaxK(x, y, n, results, 0, 2);
+        verifyNoInteractions(repository);
+    }
+
+    /**
+     * Test to ensure the solve method rejects invalid operations with the bulk error code.
+     */
+    @Test
+    void solve_InvalidInput() {
+        doThrow(StacklessCustomException.of(SPError.OPERATION_SERVICE_ERROR_CALCULATE))
+                .when(operationService).calculateMaxK(any(), any(), any(), any(), anyInt(), anyInt());
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> bulkSolveUseCase.solve(new long[]{0}, new long[]{0}, new long[]{0}, new long[1], 1));
+
+        assertEquals(SPError.OPERATION_BULK_ERROR.getErrorCode(), exception.getErrorCode());
+    }
+
+    /**
+     * Test to ensure the solve method handles unexpected errors of the domain service.
+     */
+    @Test
+    void solve_Exception() {
+        doThrow(new IllegalStateException("Test Exception"))
+                .when(operationService).calculateMaxK(any(), any(), any(), any(), anyInt(), anyInt());
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> bulkSolveUseCase.solve(new long[]{7}, new long[]{5}, new long[]{12345}, new long[1], 1));
+
+        assertEquals(SPError.OPERATION_BULK_ERROR.getErrorCode(), exception.getErrorCode());
+    }
+
+    /**
+     * Test to ensure the load method persists the solved operations in batches of bounded size.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void load_Batches() {
+        int length = BulkSolveUseCase.LOAD_BATCH_SIZE + 3;
+        long[] x = new long[length + 5];
+        long[] y = new long[length + 5];
+        long[] n = new long[length + 5];
+        long[] results = new long[length + 5];
+        for (int i = 0; i < length; i++) {
+            x[i] = 7;
+            y[i] = 5;
+            n[i] = i;
+            results[i] = i - 1;
+        }
+
+        bulkSolveUseCase.load(x, y, n, results, length);
+
+        ArgumentCaptor<List<OperationDomain>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).saveAll(captor.capture());
+        List<List<OperationDomain>> batches = captor.getAllValues();
+        assertEquals(BulkSolveUseCase.LOAD_BATCH_SIZE, batches.get(0).size());
+        assertEquals(3, batches.get(1).size());
+        OperationDomain last = batches.get(1).get(2);
+        assertEquals(length - 1, last.getN());
+        assertEquals(length - 2, last.getResult());
+    }
+
+    /**
+     * Test to ensure the load method handles persistence errors.
+     */
+    @Test
+    void load_Exception() {
+        when(repository.saveAll(anyList())).thenThrow(new RuntimeException("Database error"));
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> bulkSolveUseCase.load(new long[]{7}, new long[]{5}, new long[]{12345}, new long[]{12339}, 1));
+
+        assertEquals(SPError.OPERATION_BULK_ERROR.getErrorCode(), exception.getErrorCode());
+    }
+}
@@ -3,11 +3,18 @@ package com.example.maxintegersolver.application.usecase;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.example.maxintegersolver.adapter.controller.model.OperationBatchRequest;
+import com.example.maxintegersolver.config.ParallelBatchPoolConfig;
 import com.example.maxintegersolver.config.exception.SPError;
 import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.service.BatchKernel;
 import com.example.maxintegersolver.domain.service.OperationService;
+import com.example.maxintegersolver.domain.service.ParallelBatchExecutor;
+import com.example.maxintegersolver.application.port.out.OperationResultCache;
+import com.example.maxintegersolver.application.port.out.OperationStatisticsRecorder;
 import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
 import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
 import com.example.maxintegersolver.mocks.MockFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +23,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Unit tests for {@link CalculateUseCase} class.
  * These tests ensure the correctness of the calculate use case logic under various scenarios.
@@ -29,6 +43,12 @@ class CalculateUseCaseTest {
     @Mock
     private OperationStorageRepository repository;
 
+    @Mock
+    private OperationResultCache cache;
+
+    @Mock
+    private OperationStatisticsRecorder statistics;
+
     @InjectMocks
     private CalculateUseCase calculateUseCase;
 
@@ -47,7 +67,7 @@ class CalculateUseCaseTest {
      */
     @Test
     void calculate_Success() {
-        when(operationService.calculateMaxK(inputDomain)).thenReturn(123L);
+        when(operationService.calculateMaxK(inputDomain.getX(), inputDomain.getY(), inputDomain.getN())).thenReturn(123L);
         when(repository.save(inputDomain)).thenReturn(inputDomain);
 
         OperationDomain result = calculateUseCase.calculate(inputDomain);
@@ -55,6 +75,66 @@ class CalculateUseCaseTest {
         assertNotNull(result, "The result should not be null");
         assertEquals(123L, result.getResult(), "The result should match the expected value");
         verify(repository, times(1)).save(inputDomain);
+        verify(cache, times(1)).put(inputDomain.getX(), inputDomain.getY(), inputDomain.getN(), 123L);
+        verify(statistics, times(1)).record(inputDomain.getX(), 123L);
+    }
+
+    /**
+     * Test that a cache hit is answered without calculating and without persisting when hits are not persisted.
+     */
+    @Test
+    void calculate_CacheHitNotPersisted() {
+        when(cache.get(inputDomain.getX(), inputDomain.getY(), inputDomain.getN())).thenReturn(OptionalLong.of(321L));
+        when(cache.persistHits()).thenReturn(false);
+
+        OperationDomain result = calculateUseCase.calculate(inputDomain);
+
+        assertEquals(321L, result.getResult(), "The result should be taken from the cache");
+        verify(operationService, never()).calculateMaxK(anyLong(), anyLong(), anyLong());
+        verify(statistics, times(1)).record(inputDomain.getX(), 321L);
+        verify(repository, never()).save(any());
+    }
+
+    /**
+     * Test that a cache hit is still persisted when the cache policy persists hits.
+     */
+    @Test
+    void calculate_CacheHitPersisted() {
+        when(cache.get(inputDomain.getX(), inputDomain.getY(), inputDomain.getN())).thenReturn(OptionalLong.of(321L));
+        when(cache.persistHits()).thenReturn(true);
+        when(repository.save(inputDomain)).thenReturn(inputDomain);
+
+        OperationDomain result = calculateUseCase.calculate(inputDomain);
+
+        assertEquals(321L, result.getResult(), "The result should be taken from the cache");
+        verify(operationService, never()).calculateMaxK(anyLong(), anyLong(), anyLong());
+        verify(repository, times(1)).save(inputDomain);
+    }
+
+    /**
+     * Test that the primitive calculate method solves, caches and persists the operation.
+     */
+    @Test
+    void calculate_Primitive() {
+        when(operationService.calculateMaxK(7L, 5L, 12345L)).thenReturn(12339L);
+
+        assertEquals(12339L, calculateUseCase.calculate(7L, 5L, 12345L), "The result should match the expected value");
+        verify(cache, times(1)).put(7L, 5L, 12345L, 12339L);
+        verify(repository, times(1)).save(argThat(domain -> domain.getX() == 7L && domain.getResult() == 12339L));
+        verify(statistics, times(1)).record(7L, 12339L);
+    }
+
+    /**
+     * Test that the primitive calculate method answers a cache hit without persisting when hits are not persisted.
+     */
+    @Test
+    void calculate_PrimitiveCacheHitNotPersisted() {
+        when(cache.get(7L, 5L, 12345L)).thenReturn(OptionalLong.of(12339L));
+        when(cache.persistHits()).thenReturn(false);
+
+        assertEquals(12339L, calculateUseCase.calculate(7L, 5L, 12345L), "The result should be taken from the cache");
+        verifyNoInteractions(operationService, repository);
+        verify(statistics, times(1)).record(7L, 12339L);
     }
 
     /**
@@ -62,7 +142,7 @@ class CalculateUseCaseTest {
      */
     @Test
     void calculate_CalculationError() {
-        when(operationService.calculateMaxK(inputDomain)).thenThrow(MockFactory.getCustomExceptionUseCaseFactory());
+        when(operationService.calculateMaxK(inputDomain.getX(), inputDomain.getY(), inputDomain.getN())).thenThrow(MockFactory.getCustomExceptionUseCaseFactory());
 
         CustomException thrown = assertThrows(CustomException.class, () -> calculateUseCase.calculate(inputDomain));
 
@@ -70,17 +150,138 @@ class CalculateUseCaseTest {
         assertEquals(SPError.OPERATION_USE_CASE_ERROR_CALCULATE.getErrorMessage(), thrown.getMessage(), "The error message should match the expected value");
     }
 
+    /**
+     * Test that an input rejection is reported with the stackless exception of the use case.
+     */
+    @Test
+    void calculate_RejectedInput() {
+        when(operationService.calculateMaxK(inputDomain.getX(), inputDomain.getY(), inputDomain.getN())).thenThrow(StacklessCustomException.of(SPError.OPERATION_SERVICE_ERROR_CALCULATE));
+
+        StacklessCustomException thrown = assertThrows(StacklessCustomException.class, () -> calculateUseCase.calculate(inputDomain));
+
+        assertEquals(SPError.OPERATION_USE_CASE_ERROR_CALCULATE.getErrorCode(), thrown.getErrorCode(), "The error code should match the expected value");
+        assertEquals(0, thrown.getStackTrace().length, "The rejection should not capture a stack trace");
+        verifyNoInteractions(repository);
+    }
+
     /**
      * Test to verify behavior when a persistence error occurs in {@link CalculateUseCase}.
      */
     @Test
     void calculate_PersistenceError() {
-        when(operationService.calculateMaxK(inputDomain)).thenReturn(123L);
+        when(operationService.calculateMaxK(inputDomain.getX(), inputDomain.getY(), inputDomain.getN())).thenReturn(123L);
         when(repository.save(inputDomain)).thenThrow(MockFactory.getCustomExceptionUseCaseFactory());
 
         CustomException thrown = assertThrows(CustomException.class, () -> calculateUseCase.calculate(inputDomain));
 
         assertEquals(SPError.OPERATION_USE_CASE_ERROR_CALCULATE.getErrorCode(), thrown.getErrorCode(), "The error code should match the expected value");
         assertEquals(SPError.OPERATION_USE_CASE_ERROR_CALCULATE.getErrorMessage(), thrown.getMessage(), "The error message should match the expected value");
+        verifyNoInteractions(statistics);
+    }
+
+    /**
+     * Test to ensure successful execution of the calculateBatch method in {@link CalculateUseCase}.
+     */
+    @Test
+    void calculateBatch_Success() {
+        List<OperationDomain> batch = MockFactory.getOperationDomainBatchFactory();
+        doAnswer(invocation -> {
+            long[] out = invocation.getArgument(3);
+            out[0] = 15L;
+            out[1] = 20L;
+            return null;
+        }).when(operationService).calculateMaxK(any(long[].class), any(long[].class), any(long[].class), any(long[].class));
+        when(repository.saveAll(batch)).thenReturn(batch);
+
+        List<OperationDomain> result = calculateUseCase.calculateBatch(batch);
+
+        assertEquals(2, result.size(), "The batch result should contain every operation");
+        assertEquals(15L, result.get(0).getResult(), "The first result should match the expected value");
+        assertEquals(20L, result.get(1).getResult(), "The second result should match the expected value");
+        verify(repository, times(1)).saveAll(batch);
+        verify(statistics, times(1)).record(batch.get(0).getX(), 15L);
+        verify(statistics, times(1)).record(batch.get(1).getX(), 20L);
+    }
+
+    /**
+     * Test that a batch given as primitive columns is solved in a single pass and persisted in one call.
+     */
+    @Test
+    void calculateBatch_Primitive() {
+        doAnswer(invocation -> {
+            long[] out = invocation.getArgument(3);
+            out[0] = 0L;
+            out[1] = 15L;
+            return null;
+        }).when(operationService).calculateMaxK(any(long[].class), any(long[].class), any(long[].class), any(long[].class));
+
+        long[] results = calculateUseCase.calculateBatch(new long[]{5L, 10L}, new long[]{0L, 5L}, new long[]{4L, 15L});
+
+        assertArrayEquals(new long[]{0L, 15L}, results, "The results should match the expected values");
+        verify(repository, times(1)).saveAll(argThat(domains -> domains.size() == 2 && domains.get(1).getResult() == 15L));
+        verify(statistics, times(1)).record(5L, 0L);
+        verify(statistics, times(1)).record(10L, 15L);
+    }
+
+    /**
+     * Test to verify behavior when a calculation error occurs in a batch in {@link CalculateUseCase}.
+     */
+    @Test
+    void calculateBatch_CalculationError() {
+        List<OperationDomain> batch = MockFactory.getOperationDomainBatchFactory();
+        doThrow(MockFactory.getCustomExceptionServiceFactory())
+                .when(operationService).calculateMaxK(any(long[].class), any(long[].class), any(long[].class), any(long[].class));
+
+        CustomException thrown = assertThrows(CustomException.class, () -> calculateUseCase.calculateBatch(batch));
+
+        assertEquals(SPError.OPERATION_USE_CASE_ERROR_BATCH.getErrorCode(), thrown.getErrorCode(), "The error code should match the expected value");
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    /**
+     * Test that the longest batch accepted by the API is split into ranges by the parallel executor
+     * with the default threshold, and that the ranges cover the whole batch.
+     */
+    @Test
+    void calculateBatch_SplitsWithDefaultThreshold() {
+        int threshold = new ParallelBatchPoolConfig().getThreshold();
+        assertTrue(threshold <= OperationBatchRequest.MAX_BATCH_SIZE, "The default threshold should not exceed the batch limit");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<int[]> ranges = Collections.synchronizedList(new ArrayList<>());
+            BatchKernel recordingKernel = (x, y, n, out, from, to) -> {
+                ranges.add(new int[]{from, to});
+                BatchKernel.scalar().solve(x, y, n, out, from, to);
+            };
+            CalculateUseCase parallelUseCase = new CalculateUseCase(
+                    new OperationService(new ParallelBatchExecutor(pool, threshold), recordingKernel), repository, cache, statistics);
+            int size = OperationBatchRequest.MAX_BATCH_SIZE;
+            long[] x = new long[size];
+            long[] y = new long[size];
+            long[] n = new long[size];
+            for (int i = 0; i < size; i++) {
+                x[i] = 7;
+                y[i] = i % 7;
+                n[i] = 1000L + i;
+            }
+
+            long[] results = parallelUseCase.calculateBatch(x, y, n);
+
+            assertTrue(ranges.size() > 1, "The batch should be split into several ranges");
+            ranges.sort(Comparator.comparingInt(range -> range[0]));
+            int next = 0;
+            for (int[] range : ranges) {
+                assertEquals(next, range[0], "The ranges should be contiguous and disjoint");
+                next = range[1];
+            }
+            assertEquals(size, next, "The ranges should cover the whole batch");
+            for (int i = 0; i < size; i++) {
+                assertEquals(n[i] - ((n[i] - y[i]) % 7), results[i], "The result should match the formula at " + i);
+            }
+            verify(repository, times(1)).saveAll(anyList());
+        } finally {
+            pool.shutdown();
+        }
     }
 }
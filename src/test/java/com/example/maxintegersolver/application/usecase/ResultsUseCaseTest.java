@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.example.maxintegersolver.config.exception.SPError;
 import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
 import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
 import com.example.maxintegersolver.config.exception.CustomException;
 import com.example.maxintegersolver.mocks.MockFactory;
@@ -17,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Unit tests for {@link ResultsUseCase}.
@@ -77,4 +80,68 @@ class ResultsUseCaseTest {
         assertEquals(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), thrown.getErrorCode(), "The error code should match the expected value");
         assertEquals(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorMessage(), thrown.getMessage(), "The error message should match the expected value");
     }
+
+    /**
+     * Test to ensure successful retrieval of a page of operation results.
+     */
+    @Test
+    void getResultsPage_Success() {
+        OperationPage expectedPage = MockFactory.getOperationPageFactory();
+        when(repository.getPage(null, 10)).thenReturn(expectedPage);
+
+        OperationPage actualPage = resultsUseCase.getResults(null, 10);
+
+        assertSame(expectedPage, actualPage, "The page should be returned as retrieved from the repository");
+    }
+
+    /**
+     * Test to verify behavior when an error occurs during the retrieval of a page of results.
+     */
+    @Test
+    void getResultsPage_Error() {
+        when(repository.getPage(5L, 10)).thenThrow(MockFactory.getDataBaseExceptionFactory());
+
+        CustomException thrown = assertThrows(CustomException.class, () -> resultsUseCase.getResults(5L, 10));
+
+        assertEquals(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), thrown.getErrorCode(), "The error code should match the expected value");
+    }
+
+    /**
+     * Test to ensure the results matching a query are retrieved from the repository.
+     */
+    @Test
+    void getResultsQuery_Success() {
+        OperationQuery query = MockFactory.getOperationQueryFactory();
+        List<OperationDomain> expectedResults = List.of(MockFactory.getOperationDomainFactory());
+        when(repository.find(query)).thenReturn(expectedResults);
+
+        List<OperationDomain> actualResults = resultsUseCase.getResults(query);
+
+        assertSame(expectedResults, actualResults, "The results should be returned as retrieved from the repository");
+    }
+
+    /**
+     * Test to verify behavior when an error occurs during the retrieval of the results matching a query.
+     */
+    @Test
+    void getResultsQuery_Error() {
+        OperationQuery query = MockFactory.getOperationQueryFactory();
+        when(repository.find(query)).thenThrow(MockFactory.getDataBaseExceptionFactory());
+
+        CustomException thrown = assertThrows(CustomException.class, () -> resultsUseCase.getResults(query));
+
+        assertEquals(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), thrown.getErrorCode(), "The error code should match the expected value");
+    }
+
+    /**
+     * Test to ensure the results are streamed to the given consumer.
+     */
+    @Test
+    void streamResults_Success() {
+        Consumer<OperationDomain> consumer = domain -> { };
+
+        resultsUseCase.streamResults(consumer);
+
+        verify(repository, times(1)).forEach(consumer);
+    }
 }
@@ -0,0 +1,55 @@
+package com.example.maxintegersolver.application.usecase;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.application.port.out.OperationStatisticsRecorder;
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.OperationStatistics;
+import com.example.maxintegersolver.mocks.MockFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link StatisticsUseCase}.
+ * These tests validate the retrieval of the aggregate statistics of the calculated operations.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatisticsUseCaseTest {
+
+    @Mock
+    private OperationStatisticsRecorder recorder;
+
+    @InjectMocks
+    private StatisticsUseCase statisticsUseCase;
+
+    /**
+     * Test that the statistics are returned as reported by the recorder.
+     */
+    @Test
+    void getStatistics_Success() {
+        OperationStatistics expected = MockFactory.getOperationStatisticsFactory();
+        when(recorder.snapshot()).thenReturn(expected);
+
+        OperationStatistics actual = statisticsUseCase.getStatistics();
+
+        assertSame(expected, actual, "The statistics should be returned as reported by the recorder");
+    }
+
+    /**
+     * Test to verify behavior when an error occurs while reading the statistics.
+     */
+    @Test
+    void getStatistics_Error() {
+        when(recorder.snapshot()).thenThrow(new IllegalStateException("snapshot"));
+
+        CustomException thrown = assertThrows(CustomException.class, () -> statisticsUseCase.getStatistics());
+
+        assertEquals(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), thrown.getErrorCode(), "The error code should match the expected value");
+        assertEquals(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorMessage(), thrown.getMessage(), "The error message should match the expected value");
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.maxintegersolver.application.usecase.reactive;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.application.port.out.OperationResultCache;
+import com.example.maxintegersolver.application.port.out.reactive.ReactiveOperationStorageRepository;
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.service.OperationService;
+import com.example.maxintegersolver.mocks.MockFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Unit tests for {@link ReactiveCalculateUseCase} class.
+ * These tests ensure the reactive calculate use case follows the same rules as the blocking one.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveCalculateUseCaseTest {
+
+    @Mock
+    private OperationService operationService;
+
+    @Mock
+    private ReactiveOperationStorageRepository repository;
+
+    @Mock
+    private OperationResultCache cache;
+
+    @InjectMocks
+    private ReactiveCalculateUseCase calculateUseCase;
+
+    private OperationDomain inputDomain;
+
+    /**
+     * Sets up the test environment before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        inputDomain = MockFactory.getOperationDomainFactory();
+    }
+
+    /**
+     * Test to ensure the calculated result is emitted once it has been persisted.
+     */
+    @Test
+    void calculate_Success() {
+        when(operationService.calculateMaxK(inputDomain)).thenReturn(123L);
+        when(repository.save(inputDomain)).thenReturn(Mono.just(inputDomain));
+
+        StepVerifier.create(calculateUseCase.calculate(inputDomain))
+                .assertNext(result -> assertEquals(123L, result.getResult(), "The result should match the expected value"))
+                .verifyComplete();
+
+        verify(cache, times(1)).put(inputDomain.getX(), inputDomain.getY(), inputDomain.getN(), 123L);
+    }
+
+    /**
+     * Test that a cache hit is answered without calculating and without persisting when hits are not persisted.
+     */
+    @Test
+    void calculate_CacheHitNotPersisted() {
+        when(cache.get(inputDomain.getX(), inputDomain.getY(), inputDomain.getN())).thenReturn(OptionalLong.of(321L));
+        when(cache.persistHits()).thenReturn(false);
+
+        StepVerifier.create(calculateUseCase.calculate(inputDomain))
+                .assertNext(result -> assertEquals(321L, result.getResult(), "The result should be taken from the cache"))
+                .verifyComplete();
+
+        verify(operationService, never()).calculateMaxK(any(OperationDomain.class));
+        verify(repository, never()).save(any());
+    }
+
+    /**
+     * Test to verify that a persistence error is emitted as a {@link CustomException}.
+     */
+    @Test
+    void calculate_PersistenceError() {
+        when(operationService.calculateMaxK(inputDomain)).thenReturn(123L);
+        when(repository.save(inputDomain)).thenReturn(Mono.error(MockFactory.getDataBaseExceptionFactory()));
+
+        StepVerifier.create(calculateUseCase.calculate(inputDomain))
+                .expectErrorSatisfies(error -> {
+                    assertTrue(error instanceof CustomException, "The error should be a CustomException");
+                    assertEquals(SPError.OPERATION_USE_CASE_ERROR_CALCULATE.getErrorCode(), ((CustomException) error).getErrorCode(), "The error code should match the expected value");
+                })
+                .verify();
+    }
+
+    /**
+     * Test to ensure the whole batch is solved and persisted together.
+     */
+    @Test
+    void calculateBatch_Success() {
+        List<OperationDomain> batch = MockFactory.getOperationDomainBatchFactory();
+        doAnswer(invocation -> {
+            long[] out = invocation.getArgument(3);
+            out[0] = 15L;
+            out[1] = 20L;
+            return null;
+        }).when(operationService).calculateMaxK(any(long[].class), any(long[].class), any(long[].class), any(long[].class));
+        when(repository.saveAll(batch)).thenReturn(Flux.fromIterable(batch));
+
+        StepVerifier.create(calculateUseCase.calculateBatch(batch))
+                .assertNext(result -> {
+                    assertEquals(2, result.size(), "The batch result should contain every operation");
+                    assertEquals(15L, result.get(0).getResult(), "The first result should match the expected value");
+                    assertEquals(20L, result.get(1).getResult(), "The second result should match the expected value");
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Test to verify that a calculation error in a batch is emitted before anything is persisted.
+     */
+    @Test
+    void calculateBatch_CalculationError() {
+        List<OperationDomain> batch = MockFactory.getOperationDomainBatchFactory();
+        doThrow(MockFactory.getCustomExceptionServiceFactory())
+                .when(operationService).calculateMaxK(any(long[].class), any(long[].class), any(long[].class), any(long[].class));
+
+        StepVerifier.create(calculateUseCase.calculateBatch(batch))
+                .expectErrorSatisfies(error -> assertEquals(SPError.OPERATION_USE_CASE_ERROR_BATCH.getErrorCode(), ((CustomException) error).getErrorCode(), "The error code should match the expected value"))
+                .verify();
+
+        verify(repository, never()).saveAll(anyList());
+    }
+}
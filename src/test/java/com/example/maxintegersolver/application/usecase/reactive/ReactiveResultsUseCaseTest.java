@@ -0,0 +1,71 @@
+package com.example.maxintegersolver.application.usecase.reactive;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.application.port.out.reactive.ReactiveOperationStorageRepository;
+import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.mocks.MockFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for {@link ReactiveResultsUseCase}.
+ * These tests validate the reactive retrieval of operation results.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveResultsUseCaseTest {
+
+    @Mock
+    private ReactiveOperationStorageRepository repository;
+
+    @InjectMocks
+    private ReactiveResultsUseCase resultsUseCase;
+
+    /**
+     * Test to ensure every stored result is emitted.
+     */
+    @Test
+    void getResults_Success() {
+        OperationDomain mockDomain = MockFactory.getOperationDomainFactory();
+        when(repository.getAll()).thenReturn(Flux.just(mockDomain));
+
+        StepVerifier.create(resultsUseCase.getResults())
+                .expectNext(mockDomain)
+                .verifyComplete();
+    }
+
+    /**
+     * Test to verify that a retrieval error is emitted as a {@link CustomException}.
+     */
+    @Test
+    void getResults_Error() {
+        when(repository.getAll()).thenReturn(Flux.error(MockFactory.getDataBaseExceptionFactory()));
+
+        StepVerifier.create(resultsUseCase.getResults())
+                .expectErrorSatisfies(error -> assertEquals(SPError.OPERATION_USE_CASE_ERROR_RESULTS.getErrorCode(), ((CustomException) error).getErrorCode(), "The error code should match the expected value"))
+                .verify();
+    }
+
+    /**
+     * Test to ensure a page of results is emitted with its cursor.
+     */
+    @Test
+    void getResultsPage_Success() {
+        OperationPage page = MockFactory.getOperationPageFactory();
+        when(repository.getPage(null, 10)).thenReturn(Mono.just(page));
+
+        StepVerifier.create(resultsUseCase.getResults(null, 10))
+                .assertNext(result -> assertEquals(page.getNextCursor(), result.getNextCursor(), "The cursor should match the expected value"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.maxintegersolver.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.maxintegersolver.application.port.in.OperationBulkSolverPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Unit tests for {@link BulkConfig}.
+ * These tests ensure that a chunk size the bulk solver cannot address fails at startup instead of overflowing.
+ */
+class BulkConfigTest {
+
+    private final OperationBulkSolverPort solverPort = mock(OperationBulkSolverPort.class);
+
+    /**
+     * Test that the default chunk size creates the runner.
+     */
+    @Test
+    void bulkSolveRunner_Default() {
+        assertNotNull(new BulkConfig(bulkFileConfig(new BulkFileConfig().getChunkSize())).bulkSolveRunner(solverPort));
+    }
+
+    /**
+     * Test that the largest chunk size fitting in an int creates the runner.
+     */
+    @Test
+    void bulkSolveRunner_MaxChunkSize() {
+        assertNotNull(new BulkConfig(bulkFileConfig(DataSize.ofBytes(Integer.MAX_VALUE))).bulkSolveRunner(solverPort));
+    }
+
+    /**
+     * Test that a chunk size of 2GB or more fails instead of overflowing.
+     */
+    @Test
+    void bulkSolveRunner_ChunkSizeTooLarge() {
+        BulkConfig bulkConfig = new BulkConfig(bulkFileConfig(DataSize.ofGigabytes(2)));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> bulkConfig.bulkSolveRunner(solverPort));
+        assertTrue(exception.getMessage().contains("operation.bulk.chunk-size"));
+    }
+
+    /**
+     * Test that an empty chunk size fails.
+     */
+    @Test
+    void bulkSolveRunner_ChunkSizeEmpty() {
+        BulkConfig bulkConfig = new BulkConfig(bulkFileConfig(DataSize.ofBytes(0)));
+
+        assertThrows(IllegalArgumentException.class, () -> bulkConfig.bulkSolveRunner(solverPort));
+    }
+
+    private static BulkFileConfig bulkFileConfig(DataSize chunkSize) {
+        BulkFileConfig bulkFileConfig = new BulkFileConfig();
+        bulkFileConfig.setInput("operations.bin");
+        bulkFileConfig.setChunkSize(chunkSize);
+        return bulkFileConfig;
+    }
+}
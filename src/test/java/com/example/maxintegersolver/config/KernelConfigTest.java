@@ -0,0 +1,111 @@
+package com.example.maxintegersolver.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import com.example.maxintegersolver.config.exception.LoadAppException;
+import com.example.maxintegersolver.domain.service.BatchKernel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for {@link KernelConfig} and {@link VectorKernels}.
+ * These tests ensure that the configured kernel is selected and that the vector kernel writes the same results as the scalar one.
+ */
+class KernelConfigTest {
+
+    private static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * Test that the scalar type selects the scalar kernel.
+     */
+    @Test
+    void batchKernel_Scalar() {
+        assertSame(BatchKernel.scalar(), kernelConfig(BatchKernelType.SCALAR).batchKernel());
+    }
+
+    /**
+     * Test that the reciprocal type selects a reciprocal kernel.
+     */
+    @Test
+    void batchKernel_Reciprocal() {
+        BatchKernel kernel = kernelConfig(BatchKernelType.RECIPROCAL).batchKernel();
+
+        assertEquals("ReciprocalBatchKernel", kernel.getClass().getSimpleName());
+    }
+
+    /**
+     * Test that the automatic type selects the vector kernel only when the Vector API is present.
+     */
+    @Test
+    void batchKernel_Auto() {
+        BatchKernel kernel = kernelConfig(BatchKernelType.AUTO).batchKernel();
+
+        assertEquals(VECTOR_API, kernel != BatchKernel.scalar(), "The vector kernel should be selected when the Vector API is present");
+    }
+
+    /**
+     * Test that the vector type fails at startup when the Vector API is not present.
+     */
+    @Test
+    void batchKernel_VectorUnavailable() {
+        assumeFalse(VECTOR_API, "The Vector API is present");
+
+        assertThrows(LoadAppException.class, () -> kernelConfig(BatchKernelType.VECTOR).batchKernel());
+    }
+
+    /**
+     * Test that the vector kernel writes the same results as the scalar kernel, including values too large
+     * for its vectorized path and the wrap-around of large remainders.
+     */
+    @Test
+    void vectorKernel_MatchesScalar() {
+        Optional<BatchKernel> vectorKernel = VectorKernels.load();
+        assumeTrue(vectorKernel.isPresent(), "The Vector API is not present");
+
+        int size = 10_007;
+        long[] x = new long[size];
+        long[] y = new long[size];
+        long[] n = new long[size];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < size; i++) {
+            switch (i / 64 % 4) {
+                case 0:
+                    x[i] = random.nextInt(1, Integer.MAX_VALUE);
+                    y[i] = random.nextLong(x[i]);
+                    n[i] = random.nextInt(Integer.MAX_VALUE);
+                    break;
+                case 1:
+                    x[i] = random.nextInt(1, 10);
+                    y[i] = random.nextLong(Long.MAX_VALUE);
+                    n[i] = (1L << 52) - 1 - random.nextInt(100);
+                    break;
+                case 2:
+                    x[i] = random.nextLong(1, 1L << 52);
+                    y[i] = random.nextLong(x[i]);
+                    n[i] = x[i] * random.nextInt(3) + random.nextInt(2);
+                    break;
+                default:
+                    x[i] = random.nextLong(1, Long.MAX_VALUE);
+                    y[i] = random.nextLong(Long.MAX_VALUE);
+                    n[i] = random.nextLong(Long.MAX_VALUE);
+                    break;
+            }
+        }
+        long[] expected = new long[size];
+        long[] actual = new long[size];
+
+        BatchKernel.scalar().solve(x, y, n, expected, 0, size);
+        vectorKernel.get().solve(x, y, n, actual, 0, size);
+
+        assertArrayEquals(expected, actual, "The vector kernel should write the same results as the scalar kernel");
+    }
+
+    private static KernelConfig kernelConfig(BatchKernelType type) {
+        BatchKernelConfig batchKernelConfig = new BatchKernelConfig();
+        batchKernelConfig.setType(type);
+        return new KernelConfig(batchKernelConfig);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.maxintegersolver.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.maxintegersolver.application.port.out.OperationStorageRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * Unit tests for {@link OperationTableSize}.
+ * These tests ensure that the operations are counted when refreshing rather than when the value is read.
+ */
+class OperationTableSizeTest {
+
+    private final OperationStorageRepository repository = mock(OperationStorageRepository.class);
+    private final OperationTableSize tableSize = new OperationTableSize(repository, Duration.ofMinutes(1));
+
+    /**
+     * Test that the value is NaN before the first count and that reading it does not count the operations.
+     */
+    @Test
+    void value_BeforeRefresh() {
+        assertTrue(Double.isNaN(tableSize.value()));
+        verifyNoInteractions(repository);
+    }
+
+    /**
+     * Test that reading the value returns the last count without counting again.
+     */
+    @Test
+    void value_AfterRefresh() {
+        when(repository.count()).thenReturn(42L);
+
+        tableSize.refresh();
+
+        assertEquals(42, tableSize.value());
+        assertEquals(42, tableSize.value());
+        verify(repository, times(1)).count();
+    }
+
+    /**
+     * Test that a failed count keeps the previous value.
+     */
+    @Test
+    void refresh_Failure() {
+        when(repository.count()).thenReturn(42L).thenThrow(new IllegalStateException("unavailable"));
+
+        tableSize.refresh();
+        tableSize.refresh();
+
+        assertEquals(42, tableSize.value());
+    }
+
+    /**
+     * Test that the scheduled refresh counts the operations once started and stops once closed.
+     */
+    @Test
+    void start_CountsInBackground() throws InterruptedException {
+        when(repository.count()).thenReturn(7L);
+
+        tableSize.start();
+        try {
+            long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+            while (Double.isNaN(tableSize.value()) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            tableSize.close();
+        }
+
+        assertEquals(7, tableSize.value());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.maxintegersolver.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Unit tests for {@link StorageConfig}.
+ * These tests ensure that a misconfigured segment size fails at startup instead of being adjusted.
+ */
+class StorageConfigTest {
+
+    /**
+     * Test that the default columnar segment size creates the columnar adapter.
+     */
+    @Test
+    void columnarOperationAdapter_Default() {
+        assertNotNull(new StorageConfig(new OperationStorageConfig()).columnarOperationAdapter());
+    }
+
+    /**
+     * Test that a columnar segment size smaller than a row fails.
+     */
+    @Test
+    void columnarOperationAdapter_SegmentSizeTooSmall() {
+        OperationStorageConfig properties = new OperationStorageConfig();
+        properties.getColumnar().setSegmentSize(DataSize.ofBytes(1));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new StorageConfig(properties).columnarOperationAdapter());
+        assertTrue(exception.getMessage().contains("operation.storage.columnar.segment-size"));
+    }
+
+    /**
+     * Test that a negative log segment size fails with the name of its property.
+     */
+    @Test
+    void operationLogAdapter_SegmentSizeNegative() {
+        OperationStorageConfig properties = new OperationStorageConfig();
+        properties.getLog().setSegmentSize(DataSize.ofMegabytes(-1));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new StorageConfig(properties).operationLogAdapter());
+        assertTrue(exception.getMessage().contains("operation.storage.log.segment-size"));
+    }
+
+    /**
+     * Test that a columnar segment size larger than a segment can hold fails.
+     */
+    @Test
+    void columnarOperationAdapter_SegmentSizeTooLarge() {
+        OperationStorageConfig properties = new OperationStorageConfig();
+        properties.getColumnar().setSegmentSize(DataSize.ofGigabytes(4));
+
+        assertThrows(IllegalArgumentException.class, () -> new StorageConfig(properties).columnarOperationAdapter());
+    }
+
+    /**
+     * Test that a log segment size whose number of records does not fit in an int fails.
+     */
+    @Test
+    void operationLogAdapter_SegmentSizeOutOfRange() {
+        OperationStorageConfig properties = new OperationStorageConfig();
+        properties.getLog().setSegmentSize(DataSize.ofTerabytes(1024));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new StorageConfig(properties).operationLogAdapter());
+        assertTrue(exception.getMessage().contains("operation.storage.log.segment-size"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.maxintegersolver.config.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RateLimitingTurboFilter}.
+ * These tests validate that only the INFO and lower events of the configured loggers are limited.
+ */
+class RateLimitingTurboFilterTest {
+
+    private static final String LIMITED = "limited";
+
+    private final LoggerContext context = new LoggerContext();
+
+    private RateLimitingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter = new RateLimitingTurboFilter();
+        filter.addLogger(LIMITED);
+        filter.setMaxPerSecond(2);
+        filter.start();
+    }
+
+    /**
+     * Test that events beyond the budget of a limited logger are denied.
+     */
+    @Test
+    void decide_LimitsConfiguredLogger() {
+        Logger logger = context.getLogger(LIMITED);
+
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO, "first"));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO, "second"));
+        FilterReply third = decide(logger, Level.INFO, "third");
+
+        // The window may have rolled over to the next second between the calls.
+        if (third == FilterReply.DENY) {
+            assertEquals(1, filter.getDiscarded(), "The denied event should be counted as discarded");
+            assertEquals(FilterReply.DENY, decide(logger, Level.DEBUG, null), "Level checks should be denied once the budget is spent");
+        }
+    }
+
+    /**
+     * Test that warnings, errors and events of other loggers are never limited.
+     */
+    @Test
+    void decide_DoesNotLimitWarningsOrOtherLoggers() {
+        Logger limited = context.getLogger(LIMITED);
+        Logger other = context.getLogger("other");
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(limited, Level.WARN, "warning"), "Warnings should never be limited");
+            assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO, "info"), "Other loggers should never be limited");
+        }
+        assertEquals(0, filter.getDiscarded(), "No event should be discarded");
+    }
+
+    /**
+     * Test that level checks do not spend the budget of the events that follow them.
+     */
+    @Test
+    void decide_LevelChecksDoNotSpendBudget() {
+        Logger logger = context.getLogger(LIMITED);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(logger, Level.DEBUG, null), "Level checks should pass while there is budget");
+        }
+        assertEquals(0, filter.getDiscarded(), "No event should be discarded");
+    }
+
+    private FilterReply decide(Logger logger, Level level, String format) {
+        return filter.decide(null, logger, level, format, null, null);
+    }
+}
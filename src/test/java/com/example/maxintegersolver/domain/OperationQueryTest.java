@@ -0,0 +1,87 @@
+package com.example.maxintegersolver.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for {@link OperationQuery}.
+ * These tests validate the range matching and the selection of the results in the order of the query.
+ */
+class OperationQueryTest {
+
+    /**
+     * Test that the ranges are inclusive and that missing bounds leave them open.
+     */
+    @Test
+    void matches_InclusiveRanges() {
+        OperationQuery query = OperationQuery.builder().xMin(7L).xMax(7L).nMin(100L).resultMax(50L).limit(10).build();
+
+        assertTrue(query.matches(7, 5, 100, 50), "The bounds should be inclusive");
+        assertTrue(query.matches(7, Long.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE), "Missing bounds should leave the ranges open");
+        assertFalse(query.matches(8, 5, 100, 50), "x should be within its range");
+        assertFalse(query.matches(7, 5, 99, 50), "n should be within its range");
+        assertFalse(query.matches(7, 5, 100, 51), "The result should be within its range");
+    }
+
+    /**
+     * Test that a query in storage order keeps the first operations offered and completes at its limit.
+     */
+    @Test
+    void select_StorageOrder() {
+        OperationQuery query = OperationQuery.builder().limit(2).build();
+        OperationQuery.Selection selection = query.select();
+
+        selection.offer(operation(1, 30));
+        assertFalse(selection.isComplete(), "The selection should not be complete below its limit");
+        selection.offer(operation(2, 10));
+
+        assertTrue(selection.isComplete(), "The selection should be complete at its limit");
+        assertEquals(List.of(1L, 2L), xs(selection.toList()), "The first operations offered should be kept");
+        assertFalse(query.isNewestFirst(), "An ascending query in storage order should scan forwards");
+    }
+
+    /**
+     * Test that a query ordered by a value keeps the best operations, with ties in storage order.
+     */
+    @Test
+    void select_OrderedByValue() {
+        OperationQuery query = OperationQuery.builder().limit(3).sort(OperationQuery.Sort.RESULT).build();
+        OperationQuery.Selection selection = query.select();
+
+        selection.offer(operation(1, 30));
+        selection.offer(operation(2, 10));
+        selection.offer(operation(3, 20));
+        selection.offer(operation(4, 10));
+        selection.offer(operation(5, 40));
+
+        assertFalse(selection.isComplete(), "A query ordered by a value should need the whole scan");
+        assertEquals(List.of(2L, 4L, 3L), xs(selection.toList()), "The lowest results should be kept, ties in storage order");
+    }
+
+    /**
+     * Test that a descending query ordered by a value keeps the highest values, with ties newest first.
+     */
+    @Test
+    void select_OrderedByValueDescending() {
+        OperationQuery query = OperationQuery.builder().limit(2).sort(OperationQuery.Sort.RESULT).descending(true).build();
+        OperationQuery.Selection selection = query.select();
+
+        selection.offer(operation(1, 40));
+        selection.offer(operation(2, 10));
+        selection.offer(operation(3, 40));
+
+        assertEquals(List.of(3L, 1L), xs(selection.toList()), "The highest results should be kept, ties newest first");
+    }
+
+    private static OperationDomain operation(long x, long result) {
+        return new OperationDomain(x, 0L, 100L, result);
+    }
+
+    private static List<Long> xs(List<OperationDomain> domains) {
+        return domains.stream().map(OperationDomain::getX).collect(Collectors.toList());
+    }
+}
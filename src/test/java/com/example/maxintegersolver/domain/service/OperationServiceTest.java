@@ -3,17 +3,20 @@ package com.example.maxintegersolver.domain.service;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.example.maxintegersolver.config.exception.CustomException;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
 import com.example.maxintegersolver.domain.OperationDomain;
 import com.example.maxintegersolver.mocks.MockFactory;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Unit tests for {@link OperationService}.
  * These tests ensure that the service correctly implements the logic for calculating the maximum non-negative integer k.
  */
 class OperationServiceTest {
 
-    private final OperationService operationService = new OperationService();
+    private final OperationService operationService = new OperationService(ParallelBatchExecutor.sequential(), BatchKernel.scalar());
 
     /**
      * Test the calculateMaxK method for successful calculation.
@@ -47,4 +50,85 @@ class OperationServiceTest {
         assertThrows(CustomException.class, () -> operationService.calculateMaxK(domain),
                 "A CustomException should be thrown for invalid input");
     }
+
+    /**
+     * Test the primitive calculateMaxK method for successful calculation.
+     */
+    @Test
+    void calculateMaxK_Primitive() {
+        assertEquals(12339L, operationService.calculateMaxK(7L, 5L, 12345L), "The calculated maxK should be correct for the given input");
+        assertEquals(0L, operationService.calculateMaxK(2L, 0L, 0L), "The calculated maxK should handle a zero upper bound");
+        assertEquals(999999995L, operationService.calculateMaxK(5L, 0L, 999999999L), "The calculated maxK should handle large upper bounds");
+    }
+
+    /**
+     * Test the primitive calculateMaxK method rejecting a zero modulus.
+     */
+    @Test
+    void calculateMaxK_PrimitiveZeroModulus() {
+        assertThrows(CustomException.class, () -> operationService.calculateMaxK(0L, 0L, 10L),
+                "A CustomException should be thrown for a zero modulus");
+    }
+
+    /**
+     * Test that invalid inputs are rejected with a shared exception without stack trace.
+     */
+    @Test
+    void calculateMaxK_InvalidInputStackless() {
+        StacklessCustomException first = assertThrows(StacklessCustomException.class, () -> operationService.calculateMaxK(0L, 0L, 10L));
+        StacklessCustomException second = assertThrows(StacklessCustomException.class, () -> operationService.calculateMaxK(2L, 5L, 1L));
+
+        assertSame(first, second, "Rejections should reuse the preallocated exception");
+        assertEquals(0, first.getStackTrace().length, "Rejections should not capture a stack trace");
+    }
+
+    /**
+     * Test the batch calculateMaxK method for successful calculation.
+     */
+    @Test
+    void calculateMaxK_Batch() {
+        long[] out = new long[3];
+        operationService.calculateMaxK(new long[]{10L, 10L, 7L}, new long[]{5L, 0L, 5L}, new long[]{15L, 20L, 12345L}, out);
+
+        assertArrayEquals(new long[]{15L, 20L, 12339L}, out, "The calculated maxK should be correct for every operation of the batch");
+    }
+
+    /**
+     * Test the batch calculateMaxK method for handling invalid inputs.
+     */
+    @Test
+    void calculateMaxK_BatchInvalidInput() {
+        long[] out = new long[2];
+
+        assertThrows(CustomException.class, () -> operationService.calculateMaxK(new long[]{10L, -1L}, new long[]{5L, 0L}, new long[]{15L, 20L}, out),
+                "A CustomException should be thrown for invalid input in the batch");
+        assertArrayEquals(new long[]{0L, 0L}, out, "No result should be written for a rejected batch");
+    }
+
+    /**
+     * Test the batch calculateMaxK method solving a long batch in parallel.
+     */
+    @Test
+    void calculateMaxK_BatchParallel() {
+        int size = 50_000;
+        long[] x = new long[size];
+        long[] y = new long[size];
+        long[] n = new long[size];
+        long[] expected = new long[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = i % 97 + 1;
+            y[i] = i % x[i];
+            n[i] = 1_000_000L + i;
+            expected[i] = operationService.calculateMaxK(x[i], y[i], n[i]);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            long[] out = new long[size];
+            new OperationService(new ParallelBatchExecutor(pool, 4096), BatchKernel.scalar()).calculateMaxK(x, y, n, out);
+
+            assertArrayEquals(expected, out, "The parallel batch should match the sequential results");
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
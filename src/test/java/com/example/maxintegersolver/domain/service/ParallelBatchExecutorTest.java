@@ -0,0 +1,117 @@
+package com.example.maxintegersolver.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.maxintegersolver.config.exception.SPError;
+import com.example.maxintegersolver.config.exception.StacklessCustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Unit tests for {@link ParallelBatchExecutor}.
+ * These tests ensure that batches are solved sequentially below the threshold and split into disjoint ranges above it.
+ */
+class ParallelBatchExecutorTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    /**
+     * Shuts the pool down after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Test that batches shorter than the threshold are solved by the calling thread in a single range.
+     */
+    @Test
+    void execute_BelowThreshold() {
+        ParallelBatchExecutor executor = new ParallelBatchExecutor(pool, 10_000);
+        List<int[]> ranges = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+
+        executor.execute(9_999, (from, to) -> {
+            assertSame(caller, Thread.currentThread(), "Short batches should be solved by the calling thread");
+            ranges.add(new int[]{from, to});
+        });
+
+        assertEquals(1, ranges.size(), "Short batches should be solved in a single range");
+        assertArrayEquals(new int[]{0, 9_999}, ranges.get(0));
+    }
+
+    /**
+     * Test that the sequential executor solves long batches in a single range.
+     */
+    @Test
+    void execute_Sequential() {
+        List<int[]> ranges = new ArrayList<>();
+
+        ParallelBatchExecutor.sequential().execute(1_000_000, (from, to) -> ranges.add(new int[]{from, to}));
+
+        assertEquals(1, ranges.size(), "The sequential executor should never split a batch");
+        assertArrayEquals(new int[]{0, 1_000_000}, ranges.get(0));
+    }
+
+    /**
+     * Test that long batches are split into disjoint ranges covering every operation exactly once.
+     */
+    @Test
+    void execute_AboveThreshold() {
+        ParallelBatchExecutor executor = new ParallelBatchExecutor(pool, 10_000);
+        int length = 100_003;
+        AtomicIntegerArray visits = new AtomicIntegerArray(length);
+        List<int[]> ranges = new ArrayList<>();
+
+        executor.execute(length, (from, to) -> {
+            synchronized (ranges) {
+                ranges.add(new int[]{from, to});
+            }
+            for (int i = from; i < to; i++) {
+                visits.incrementAndGet(i);
+            }
+        });
+
+        assertTrue(ranges.size() > 1, "Long batches should be split into several ranges");
+        for (int[] range : ranges) {
+            assertTrue(range[1] - range[0] >= ParallelBatchExecutor.MIN_RANGE_SIZE / 2, "Ranges should not be too short");
+        }
+        for (int i = 0; i < length; i++) {
+            assertEquals(1, visits.get(i), "Every operation should be solved exactly once");
+        }
+    }
+
+    /**
+     * Test that a failure in any range is rethrown to the caller.
+     */
+    @Test
+    void execute_Failure() {
+        ParallelBatchExecutor executor = new ParallelBatchExecutor(pool, 10_000);
+        StacklessCustomException rejection = StacklessCustomException.of(SPError.OPERATION_SERVICE_ERROR_CALCULATE);
+
+        StacklessCustomException thrown = assertThrows(StacklessCustomException.class, () -> executor.execute(100_000, (from, to) -> {
+            if (to == 100_000) {
+                throw rejection;
+            }
+        }));
+
+        assertSame(rejection, thrown, "The rejection of the range should reach the caller");
+    }
+
+    /**
+     * Test that shutting the executor down shuts its pool down, and that the sequential executor can be shut down.
+     */
+    @Test
+    void shutdown() {
+        new ParallelBatchExecutor(pool, 10_000).shutdown();
+        ParallelBatchExecutor.sequential().shutdown();
+
+        assertTrue(pool.isShutdown(), "The pool should be shut down with the executor");
+    }
+}
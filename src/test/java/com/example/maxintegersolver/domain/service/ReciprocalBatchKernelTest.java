@@ -0,0 +1,94 @@
+package com.example.maxintegersolver.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for {@link ReciprocalBatchKernel}.
+ * These tests ensure that the kernel writes the same results as the scalar kernel for every way it chooses a reciprocal.
+ */
+class ReciprocalBatchKernelTest {
+
+    private static final long[] EDGE_MODULI = {1L, 2L, 3L, 7L, 1_000_000_007L, 1L << 40, (1L << 62) + 1, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+    private final BatchKernel kernel = BatchKernel.reciprocal();
+
+    /**
+     * Test a range sharing a single modulus, solved with a hoisted reciprocal.
+     */
+    @Test
+    void solve_SingleModulus() {
+        for (long modulus : EDGE_MODULI) {
+            long[] x = new long[500];
+            Arrays.fill(x, modulus);
+
+            assertMatchesScalar(x, 500 + modulus);
+        }
+    }
+
+    /**
+     * Test ranges mixing a few moduli, which are admitted into the cache as they repeat.
+     */
+    @Test
+    void solve_FewModuli() {
+        SplittableRandom random = new SplittableRandom(7);
+        long[] x = new long[5_000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = EDGE_MODULI[random.nextInt(EDGE_MODULI.length)];
+        }
+
+        assertMatchesScalar(x, 11);
+        assertMatchesScalar(x, 13);
+    }
+
+    /**
+     * Test ranges of mostly distinct moduli, solved with a division.
+     */
+    @Test
+    void solve_DistinctModuli() {
+        SplittableRandom random = new SplittableRandom(9);
+        long[] x = new long[5_000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = random.nextLong(1, Long.MAX_VALUE);
+        }
+
+        assertMatchesScalar(x, 17);
+    }
+
+    /**
+     * Test that only the given range is written.
+     */
+    @Test
+    void solve_Range() {
+        long[] x = {7, 7, 7, 7};
+        long[] y = {5, 5, 5, 5};
+        long[] n = {12345, 12345, 12345, 12345};
+        long[] out = new long[4];
+
+        kernel.solve(x, y, n, out, 1, 3);
+
+        assertArrayEquals(new long[]{0, 12339, 12339, 0}, out);
+    }
+
+    private void assertMatchesScalar(long[] x, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int size = x.length;
+        long[] y = new long[size];
+        long[] n = new long[size];
+        for (int i = 0; i < size; i++) {
+            y[i] = random.nextBoolean() ? random.nextLong(Long.MAX_VALUE) : random.nextLong(x[i]);
+            n[i] = random.nextBoolean() ? Long.MAX_VALUE - random.nextInt(3) : random.nextLong(Long.MAX_VALUE);
+        }
+        long[] expected = new long[size];
+        long[] actual = new long[size];
+
+        BatchKernel.scalar().solve(x, y, n, expected, 0, size);
+        kernel.solve(x, y, n, actual, 0, size);
+
+        assertArrayEquals(expected, actual, "The reciprocal kernel should write the same results as the scalar kernel");
+    }
+}
@@ -5,6 +5,15 @@ import com.example.maxintegersolver.config.exception.CustomException;
 import com.example.maxintegersolver.config.exception.DataBaseException;
 import com.example.maxintegersolver.config.exception.SPError;
 import com.example.maxintegersolver.domain.OperationDomain;
+import com.example.maxintegersolver.domain.OperationPage;
+import com.example.maxintegersolver.domain.OperationQuery;
+import com.example.maxintegersolver.domain.OperationStatistics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * The {@code MockFactory} class is a utility class for creating mock objects for testing.
@@ -21,6 +30,20 @@ public class MockFactory {
     private static final Long n = 15L;
     private static final Long result = 15L;
 
+    /**
+     * Returns a frame of the compact binary protocol with the given values as little-endian longs.
+     *
+     * @param values The x, y, n values of every operation of the frame.
+     * @return The binary frame.
+     */
+    public static byte[] getBinaryContent(long... values){
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long value : values) {
+            buffer.putLong(value);
+        }
+        return buffer.array();
+    }
+
     /**
      * Returns a JSON string representing a valid operation request.
      *
@@ -39,6 +62,33 @@ public class MockFactory {
         return "{\"x\":5,\"y\":0}";
     }
 
+    /**
+     * Returns a JSON string representing a valid batch operation request.
+     *
+     * @return A valid JSON string for batch operation request.
+     */
+    public static String getJsonBatchContentValid(){
+        return "[{\"x\":5,\"y\":0,\"n\":4},{\"x\":10,\"y\":5,\"n\":15}]";
+    }
+
+    /**
+     * Returns a JSON string representing an invalid batch operation request.
+     *
+     * @return An invalid JSON string for batch operation request.
+     */
+    public static String getJsonBatchContentInvalid(){
+        return "[{\"x\":5,\"y\":0,\"n\":4},{\"x\":5,\"y\":0}]";
+    }
+
+    /**
+     * Returns a JSON string representing an empty batch operation request.
+     *
+     * @return An empty JSON array for batch operation request.
+     */
+    public static String getJsonBatchContentEmpty(){
+        return "[]";
+    }
+
     /**
      * Creates and returns an instance of {@link OperationRequest} with valid predefined values.
      *
@@ -78,6 +128,59 @@ public class MockFactory {
                 .result(result).build();
     }
 
+    /**
+     * Creates and returns a batch of {@link OperationDomain} objects without results,
+     * combining the regular and borderline cases.
+     *
+     * @return A mutable list of mock {@link OperationDomain} objects.
+     */
+    public static List<OperationDomain> getOperationDomainBatchFactory(){
+        List<OperationDomain> batch = new ArrayList<>();
+        batch.add(OperationDomain.builder().x(x).y(y).n(n).build());
+        batch.add(getOperationDomainBorderFactory());
+        return batch;
+    }
+
+    /**
+     * Creates and returns an {@link OperationPage} with a single operation and a cursor for the next page.
+     *
+     * @return A mock {@link OperationPage} object.
+     */
+    public static OperationPage getOperationPageFactory(){
+        return new OperationPage(List.of(getOperationDomainFactory()), 1L);
+    }
+
+    /**
+     * Creates and returns a {@link OperationQuery} object for the operations with modulus 7, newest first.
+     *
+     * @return A mock {@link OperationQuery} object.
+     */
+    public static OperationQuery getOperationQueryFactory(){
+        return OperationQuery.builder()
+                .xMin(7L)
+                .xMax(7L)
+                .limit(10)
+                .descending(true)
+                .build();
+    }
+
+    /**
+     * Creates and returns an {@link OperationStatistics} object with the aggregates of the mock operation.
+     *
+     * @return A mock {@link OperationStatistics} object.
+     */
+    public static OperationStatistics getOperationStatisticsFactory(){
+        return OperationStatistics.builder()
+                .count(1)
+                .minResult(result)
+                .maxResult(result)
+                .meanResult(result.doubleValue())
+                .countByX(Map.of(x, 1L))
+                .resultHistogram(List.of(new OperationStatistics.ResultBucket(8, 15, 1)))
+                .throughput(List.of(new OperationStatistics.MinuteCount(60_000L, 1)))
+                .build();
+    }
+
     /**
      * Creates and returns a {@link OperationDomain} object simulating a borderline case.
      *